@@ -12,6 +12,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"   // spring 依赖管理插件
     id("com.github.ben-manes.versions") version "0.54.0"    // gradle version 插件
     id("se.bjurr.gitchangelog.git-changelog-gradle-plugin") version "3.1.2" // 根据 git 自动写入 changelog
+    id("me.champeau.jmh") version "0.7.3"                   // JMH 基准测试插件
 }
 val springAiVersion by extra("2.0.0-M3")
 
@@ -76,6 +77,18 @@ dependencies {
     testAnnotationProcessor("org.projectlombok:lombok")
 }
 
+// ========= 基准测试配置 =========
+// 基准测试代码位于 src/jmh/java，使用 ./gradlew jmh 运行
+jmh {
+    jmhVersion = "1.37"
+    // 可以通过 -PjmhIncludes=TimerServiceBenchmark 只运行指定的基准测试
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+    // 可以通过 -PjmhThreads=32 指定并发线程数
+    project.findProperty("jmhThreads")?.let { threads = it.toString().toInt() }
+    // 可以通过 -PjmhProfilers=gc 启用 profiler，多个用逗号分隔
+    project.findProperty("jmhProfilers")?.let { profilers.addAll(it.toString().split(",")) }
+}
+
 // ========= 主类配置 =========
 springBoot {
     mainClass.set("org.zexnocs.teanekoapp.TeaNekoAppApplication")
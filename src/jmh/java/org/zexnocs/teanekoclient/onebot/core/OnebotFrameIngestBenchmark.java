@@ -0,0 +1,107 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * onebot 大信息接收路径的内存开销。
+ * 以一条 get_group_member_list 的响应为例（{@code members} 个成员），按 16 KB 分片到达，比较：
+ * 1. string: 修改前的路径，容器把分片拼成字符串，无论是否开启 debug 都格式化一次日志字符串，再从字符串解析。
+ * 2. pooled: 分片直接拷贝到缓冲池的 byte[] 中，从字节解析，解析完成后归还缓冲区。
+ * 使用 GC profiler 查看每条信息分配的字节数（gc.alloc.rate.norm）。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=OnebotFrameIngestBenchmark -PjmhProfilers=gc
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OnebotFrameIngestBenchmark {
+    private static final int FRAGMENT_SIZE = 16 * 1024;
+
+    @Param({"50", "2000"})
+    public int members;
+
+    private ObjectMapper mapper;
+
+    /// 按分片切好的原始字节
+    private ByteBuffer[] fragments;
+
+    private OnebotBufferPool pool;
+    private OnebotFrameAssembler assembler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        var builder = new StringBuilder("{\"status\":\"ok\",\"retcode\":0,\"echo\":\"benchmark\",\"data\":[");
+        for (int i = 0; i < members; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("""
+                    {"group_id":123456789,"user_id":%d,"nickname":"茶猫成员%d","card":"","sex":"unknown",\
+                    "age":0,"area":"","join_time":1760745600,"last_sent_time":1760745600,"level":"1",\
+                    "role":"member","unfriendly":false,"title":"","title_expire_time":0,"card_changeable":true}"""
+                    .formatted(10000 + i, i));
+        }
+        builder.append("]}");
+        var bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        var count = (bytes.length + FRAGMENT_SIZE - 1) / FRAGMENT_SIZE;
+        fragments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            var start = i * FRAGMENT_SIZE;
+            fragments[i] = ByteBuffer.wrap(bytes, start, Math.min(FRAGMENT_SIZE, bytes.length - start)).slice();
+        }
+        pool = new OnebotBufferPool(64 * 1024, 4);
+        assembler = new OnebotFrameAssembler(pool, 4 * 1024 * 1024);
+    }
+
+    @Benchmark
+    public int string() {
+        // 容器将分片拼接并解码成字符串
+        var out = new ByteArrayOutputStream();
+        for (var fragment : fragments) {
+            var part = fragment.duplicate();
+            var chunk = new byte[part.remaining()];
+            part.get(chunk);
+            out.writeBytes(chunk);
+        }
+        var payload = out.toString(StandardCharsets.UTF_8);
+        // 修改前即使关闭 debug 也会格式化日志字符串
+        var log = "Received message from %s: %s".formatted("session", payload);
+        var frame = OnebotFrame.parse(payload, mapper);
+        return frame.getTree().size() + log.length();
+    }
+
+    @Benchmark
+    public int pooled() {
+        for (var fragment : fragments) {
+            if (!assembler.append(fragment.duplicate())) {
+                throw new IllegalStateException();
+            }
+        }
+        var assembled = assembler.take();
+        OnebotFrame frame;
+        try {
+            frame = OnebotFrame.parse(assembled.buffer(), 0, assembled.length(), mapper);
+        } finally {
+            pool.release(assembled.buffer());
+        }
+        return frame.getTree().size();
+    }
+}
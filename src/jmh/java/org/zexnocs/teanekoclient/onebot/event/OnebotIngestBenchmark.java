@@ -0,0 +1,73 @@
+package org.zexnocs.teanekoclient.onebot.event;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupBanNoticeData;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * onebot 信息接收路径的解析开销。
+ * 以一条 group_ban 通知为例，比较：
+ * 1. legacy: 修改前的路径，readTree 判断类型，post_type 和 notice_type 各用一次正则，再从字符串重新解析数据类。
+ * 2. singleParse: OnebotFrame 只解析一次，类型从 JSON 树中读取，数据类从 JSON 树绑定。
+ * 结果为每秒处理的信息数；加上 GC profiler 可以查看每条信息分配的字节数（gc.alloc.rate.norm）。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=OnebotIngestBenchmark -PjmhProfilers=gc
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OnebotIngestBenchmark {
+    private static final String FRAME = """
+            {"time":1760745600,"self_id":10001,"post_type":"notice","notice_type":"group_ban",\
+            "sub_type":"ban","group_id":123456789,"operator_id":20002,"user_id":30003,"duration":600}""";
+
+    private ObjectMapper mapper;
+
+    /// 修改前每个事件实例都会编译的正则
+    private Pattern postTypePattern;
+    private Pattern noticeTypePattern;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        noticeTypePattern = Pattern.compile("\"notice_type\"\\s*:\\s*\"(.*?)\"");
+    }
+
+    @Benchmark
+    public GroupBanNoticeData legacy() {
+        var root = mapper.readTree(FRAME);
+        if (!root.has("post_type")) {
+            throw new IllegalStateException();
+        }
+        // PostReceiveEvent 每个实例编译一次
+        postTypePattern = Pattern.compile("\"post_type\"\\s*:\\s*\"(.*?)\"");
+        var postMatcher = postTypePattern.matcher(FRAME);
+        var noticeMatcher = noticeTypePattern.matcher(FRAME);
+        if (!postMatcher.find() || !noticeMatcher.find()) {
+            throw new IllegalStateException();
+        }
+        return GroupBanNoticeData.fromJson(FRAME, mapper);
+    }
+
+    @Benchmark
+    public GroupBanNoticeData singleParse() {
+        var frame = OnebotFrame.parse(FRAME, mapper);
+        if (!frame.has("post_type") || frame.text("post_type") == null || frame.text("notice_type") == null) {
+            throw new IllegalStateException();
+        }
+        return frame.bind(GroupBanNoticeData.class, mapper);
+    }
+}
@@ -0,0 +1,73 @@
+package org.zexnocs.teanekocore.actuator.task;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 任务延迟提交的基准测试。
+ * 比较 TaskDelayScheduler 与每个任务一个 {@code CompletableFuture.delayedExecutor(...)}，
+ * 在 0ms 和 50ms 延迟下每次提交 BATCH 个任务到虚拟线程池并等待全部执行完成，结果为每秒完成的任务数。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=TaskDelaySchedulerBenchmark
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskDelaySchedulerBenchmark {
+    /// 每次调用提交的任务数量
+    private static final int BATCH = 10_000;
+
+    /// 延迟，单位毫秒
+    @Param({"0", "50"})
+    public long delayMs;
+
+    private ExecutorService virtualExecutor;
+    private TaskDelayScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        // 只有提交失败时才会使用 logger
+        scheduler = new TaskDelayScheduler(virtualExecutor, null, 5, 512);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+        virtualExecutor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void delayScheduler() throws InterruptedException {
+        var latch = new CountDownLatch(BATCH);
+        Runnable task = latch::countDown;
+        for (int i = 0; i < BATCH; i++) {
+            scheduler.schedule(task, delayMs, virtualExecutor);
+        }
+        latch.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void delayedExecutor() throws InterruptedException {
+        var latch = new CountDownLatch(BATCH);
+        Runnable task = latch::countDown;
+        for (int i = 0; i < BATCH; i++) {
+            CompletableFuture.runAsync(task,
+                    CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, virtualExecutor));
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,174 @@
+package org.zexnocs.teanekocore.actuator.timer;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.zexnocs.teanekocore.actuator.task.TaskConfig;
+import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskService;
+import org.zexnocs.teanekocore.actuator.timer.interfaces.ITimer;
+import org.zexnocs.teanekocore.actuator.timer.interfaces.ITimerTaskConfig;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TimerService 的基准测试。
+ * 在注册 10、1k、100k 个空闲定时器的情况下测量：
+ * 1. idle: 1 秒内 timer 线程消耗的 CPU 时间。
+ * 2. jitter: 一个 5ms 周期的探测定时器实际触发时间与预期触发时间的偏差。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=TimerServiceBenchmark
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimerServiceBenchmark {
+    /// 空闲定时器的数量
+    @Param({"10", "1000", "100000"})
+    public int timerCount;
+
+    /// 空闲定时器的周期，保证测量窗口内不会触发
+    private static final Duration IDLE_RATE = Duration.ofHours(1);
+
+    /// 探测定时器的周期
+    private static final Duration PROBE_RATE = Duration.ofMillis(5);
+
+    /// 测量窗口
+    private static final long WINDOW_MS = 1000;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private TimerService timerService;
+    private volatile Thread timerThread;
+
+    /// 探测定时器
+    private ProbeTimer probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadFactory(r -> {
+            var thread = new Thread(r, "timer-schedule-benchmark");
+            thread.setDaemon(true);
+            timerThread = thread;
+            return thread;
+        });
+        scheduler.initialize();
+        // 定时器自己实现 execute，不需要真正的任务服务
+        timerService = new TimerService(null, scheduler, 100);
+        for (int i = 0; i < timerCount; i++) {
+            timerService.register(new FixedRateTimer<>(idleConfig(), IDLE_RATE, Void.class));
+        }
+        probe = new ProbeTimer();
+        timerService.register(probe);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 测量窗口内 timer 线程的 CPU 时间，单位纳秒。
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IdleCounters {
+        public long timerThreadCpuNanos;
+    }
+
+    /**
+     * 定时器调度偏差，单位微秒。
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class JitterCounters {
+        public long avgJitterMicros;
+        public long maxJitterMicros;
+        public long fired;
+    }
+
+    @Benchmark
+    public void idle(IdleCounters counters) throws InterruptedException {
+        var bean = ManagementFactory.getThreadMXBean();
+        var threadId = timerThread.threadId();
+        var before = bean.getThreadCpuTime(threadId);
+        Thread.sleep(WINDOW_MS);
+        counters.timerThreadCpuNanos = bean.getThreadCpuTime(threadId) - before;
+    }
+
+    @Benchmark
+    public void jitter(JitterCounters counters) throws InterruptedException {
+        probe.reset();
+        Thread.sleep(WINDOW_MS);
+        var fired = probe.fired.get();
+        counters.fired = fired;
+        counters.avgJitterMicros = fired == 0 ? 0 : probe.totalJitterMicros.get() / fired;
+        counters.maxJitterMicros = probe.maxJitterMicros.get();
+    }
+
+    private static <T> ITimerTaskConfig<T> idleConfig() {
+        var taskConfig = TaskConfig.<T>builder()
+                .name("benchmark-idle-timer")
+                .callable(() -> null)
+                .build();
+        return TimerTaskConfig.<T>builder()
+                .taskConfig(taskConfig)
+                .build();
+    }
+
+    /**
+     * 记录实际触发时间与预期触发时间偏差的定时器。
+     */
+    private static final class ProbeTimer implements ITimer<Void> {
+        private final ITimerTaskConfig<Void> config = idleConfig();
+        private volatile Instant nextTriggerTime = Instant.now().plus(PROBE_RATE);
+        private final AtomicLong fired = new AtomicLong();
+        private final AtomicLong totalJitterMicros = new AtomicLong();
+        private final AtomicLong maxJitterMicros = new AtomicLong();
+
+        private void reset() {
+            fired.set(0);
+            totalJitterMicros.set(0);
+            maxJitterMicros.set(0);
+        }
+
+        @Override
+        public @NonNull ITimerTaskConfig<Void> getTimerTaskConfig() {
+            return config;
+        }
+
+        @Override
+        public boolean isTime(Instant currentTime) {
+            return !currentTime.isBefore(nextTriggerTime);
+        }
+
+        @Override
+        public Instant getNextTriggerTime() {
+            return nextTriggerTime;
+        }
+
+        @Override
+        public void update(Instant currentTime) {
+            var jitter = Duration.between(nextTriggerTime, currentTime).toNanos() / 1000;
+            fired.incrementAndGet();
+            totalJitterMicros.addAndGet(jitter);
+            maxJitterMicros.accumulateAndGet(jitter, Math::max);
+            nextTriggerTime = nextTriggerTime.plus(PROBE_RATE);
+        }
+
+        @Override
+        public void execute(ITaskService iTaskService) {
+            // 只测量调度，不提交任务
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.zexnocs.teanekocore.api_response;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekocore.api_response.api.APIRequestData;
+import org.zexnocs.teanekocore.api_response.api.APIRequestParam;
+import org.zexnocs.teanekocore.api_response.api.IAPIRequestData;
+import org.zexnocs.teanekocore.api_response.api.IAPIResponseData;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 构造 API 请求参数和缓存 key 的开销。
+ * 1. reflective: 旧实现，每次读取注解、getDeclaredFields + setAccessible，缓存 key 使用参数的 hashCode。
+ * 2. descriptor: 当前实现，使用预编译的 APIRequestDescriptor 和带长度前缀的缓存 key。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=APIRequestBuildBenchmark
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class APIRequestBuildBenchmark {
+    private final SampleRequest request = new SampleRequest("https://example.com/image.png", 16, null, "zh");
+
+    @Benchmark
+    public String reflective() {
+        var annotation = request.getClass().getAnnotation(APIRequestData.class);
+        var params = _reflectiveExtract(request);
+        return annotation.baseUrl() + annotation.path() + "?" + params.hashCode() + "@" + SampleResponse.class.getName();
+    }
+
+    @Benchmark
+    public String descriptor() {
+        var descriptor = APIRequestDescriptor.of(request.getClass());
+        var annotation = descriptor.annotation();
+        var params = descriptor.extractParams(request);
+        return APIRequestDescriptor.cacheKey(annotation.method(), annotation.baseUrl(), annotation.path(),
+                params, SampleResponse.class);
+    }
+
+    /**
+     * 旧版 APIResponseService._extractParams。
+     */
+    private static Map<String, Object> _reflectiveExtract(IAPIRequestData obj) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Field field : obj.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            String key;
+            var annotation = field.getAnnotation(APIRequestParam.class);
+            if (annotation == null || annotation.value().isBlank()) {
+                key = field.getName().toLowerCase();
+            } else {
+                key = annotation.value();
+            }
+            try {
+                var val = field.get(obj);
+                if (val != null) {
+                    map.put(key, val);
+                } else if (annotation != null && !annotation.defaultValue().isBlank()) {
+                    var type = field.getType();
+                    if (type.equals(int.class) || type.equals(Integer.class)) {
+                        map.put(key, Integer.parseInt(annotation.defaultValue()));
+                    } else {
+                        map.put(key, type.cast(annotation.defaultValue()));
+                    }
+                }
+            } catch (IllegalAccessException | ClassCastException ignored) {}
+        }
+        return map;
+    }
+
+    @APIRequestData(baseUrl = "https://api.example.com", path = "/search")
+    public static class SampleRequest implements IAPIRequestData {
+        @APIRequestParam("url")
+        private final String imageUrl;
+
+        @APIRequestParam("numres")
+        private final Integer resultCount;
+
+        @APIRequestParam(value = "output_type", defaultValue = "2")
+        private final Integer outputType;
+
+        private final String lang;
+
+        public SampleRequest(String imageUrl, Integer resultCount, Integer outputType, String lang) {
+            this.imageUrl = imageUrl;
+            this.resultCount = resultCount;
+            this.outputType = outputType;
+            this.lang = lang;
+        }
+    }
+
+    public static class SampleResponse implements IAPIResponseData {
+    }
+}
@@ -0,0 +1,124 @@
+package org.zexnocs.teanekocore.cache;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheContainer;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheData;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrentMapCacheContainer.get() 的吞吐量基准测试。
+ * 1. coarseClock: 当前实现，访问时间使用 CacheClock 的毫秒时间戳，只在时间前进时写入。
+ * 2. instantPerAccess: 旧实现，同样经过 ConcurrentMapCacheContainer.get()（命中统计、淘汰策略记录），
+ *    只是缓存数据使用旧版 CacheData 的访问路径：每次访问都调用 Instant.now() 并写入 volatile Instant。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=CacheGetBenchmark -PjmhThreads=8
+ * 分别使用 8、16、32 个线程运行并对比结果。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class CacheGetBenchmark {
+    /// 缓存的键数量；较少的键模拟热点缓存被多个线程同时访问
+    @Param({"16", "4096"})
+    public int keyCount;
+
+    private ConcurrentMapCacheContainer<Integer, String> container;
+
+    /// 旧实现的缓存
+    private ConcurrentMapCacheContainer<Integer, String> legacy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ConcurrentMapCacheContainer.of(new NoopCacheService(), Duration.ofHours(1));
+        legacy = ConcurrentMapCacheContainer.of(new NoopCacheService(), Duration.ofHours(1));
+        for (int i = 0; i < keyCount; i++) {
+            container.put(i, "value-" + i);
+            legacy.put(i, new LegacyCacheData<>("value-" + i, Duration.ofHours(1)));
+        }
+    }
+
+    @Benchmark
+    public String coarseClock() {
+        return container.get(ThreadLocalRandom.current().nextInt(keyCount));
+    }
+
+    @Benchmark
+    public String instantPerAccess() {
+        return legacy.get(ThreadLocalRandom.current().nextInt(keyCount));
+    }
+
+    /**
+     * 旧版 CacheData：每次访问都用 Instant.now() 覆盖 volatile Instant，忽略容器传入的毫秒时间。
+     */
+    private static final class LegacyCacheData<V> implements ICacheData<V> {
+        private final V value;
+        private final Duration expireTime;
+        private volatile Instant lastUpdate = Instant.now();
+
+        private LegacyCacheData(V value, Duration expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void updateAccessTime(Instant currentTime) {
+            this.lastUpdate = currentTime;
+        }
+
+        @Override
+        public void updateAccessTimeMillis(long currentTimeMillis) {
+            updateAccessTime(Instant.now());
+        }
+
+        @Override
+        public boolean isExpired(Instant currentTime) {
+            return currentTime.isAfter(lastUpdate.plus(expireTime));
+        }
+
+        @Override
+        public Instant getExpirationTime() {
+            return lastUpdate.plus(expireTime);
+        }
+
+        @Override
+        public boolean onExpire(Instant currentTime, V value) {
+            return true;
+        }
+    }
+
+    /**
+     * 不做任何管理的缓存服务，基准测试中不需要清理。
+     */
+    private static final class NoopCacheService implements ICacheService {
+        @Override
+        public void addCache(ICacheContainer cache) {
+        }
+
+        @Override
+        public Map<String, ICacheContainer> getCaches() {
+            return Map.of();
+        }
+
+        @Override
+        public void manualCleanAll() {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.zexnocs.teanekocore.command;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheContainer;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 指令权限判定的吞吐量基准测试（checks/us），模拟一个有 3 个权限包的指令被不同群的用户调用。
+ * 1. indexed: 当前实现，CommandAccessIndex 命中缓存时一次哈希查找。
+ * 2. easyData: 旧实现，每个权限包都拼接 scopeId@senderId，经过 EasyDataDto 的锁并用 Json 解析 boolean。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=CommandAccessBenchmark -PjmhThreads=8
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class CommandAccessBenchmark {
+    /// 权限包
+    private static final String[] PERMISSION_PACKAGE = {"dice", "game", "member"};
+
+    /// 群数量和每个群的用户数量
+    private static final int SCOPES = 64;
+    private static final int USERS = 64;
+
+    private CommandAccessIndex index;
+
+    /// 旧实现：target → 数据
+    private Map<String, LegacyDto> legacy;
+
+    private String[] scopeIds;
+
+    private String[] userIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scopeIds = new String[SCOPES];
+        userIds = new String[USERS];
+        for (int i = 0; i < SCOPES; i++) {
+            scopeIds[i] = "onebot@group@" + (100000 + i);
+        }
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = UUID.nameUUIDFromBytes(("user" + i).getBytes()).toString();
+        }
+        // 少量用户被禁止
+        legacy = new ConcurrentHashMap<>();
+        var objectMapper = JsonMapper.builder().build();
+        for (var permission : PERMISSION_PACKAGE) {
+            legacy.put(permission, new LegacyDto(objectMapper));
+        }
+        legacy.get("game").data.put(scopeIds[0] + "@" + userIds[0], "true");
+        index = new CommandAccessIndex(new NoopCacheService(), 1 << 20,
+                (namespace, target, key) -> target.equals(scopeIds[0] + "@game") && key.equals(userIds[0]),
+                (namespace, target, key, value, taskName) -> CompletableFuture.completedFuture(null));
+    }
+
+    @Benchmark
+    public boolean indexed() {
+        var random = ThreadLocalRandom.current();
+        var scopeId = scopeIds[random.nextInt(SCOPES)];
+        var senderId = userIds[random.nextInt(USERS)];
+        for (var permission : PERMISSION_PACKAGE) {
+            if (index.getPermission(CommandPermissionManager.DISABLE_NAMESPACE, scopeId, permission, senderId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean easyData() {
+        var random = ThreadLocalRandom.current();
+        var scopeId = scopeIds[random.nextInt(SCOPES)];
+        var senderId = userIds[random.nextInt(USERS)];
+        for (var permission : PERMISSION_PACKAGE) {
+            if (legacy.get(permission).getBoolean(scopeId + "@" + senderId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 旧实现中 EasyDataDto.getBoolean 的访问路径。
+     */
+    private static final class LegacyDto {
+        private final Map<String, String> data = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ObjectMapper objectMapper;
+
+        private LegacyDto(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        private boolean getBoolean(String key) {
+            // refreshIfNecessary
+            lock.lock();
+            try {
+                data.size();
+            } finally {
+                lock.unlock();
+            }
+            var value = data.get(key);
+            return value != null && Boolean.TRUE.equals(objectMapper.readValue(value, Boolean.class));
+        }
+    }
+
+    /**
+     * 不做任何管理的缓存服务，基准测试中不需要清理。
+     */
+    private static final class NoopCacheService implements ICacheService {
+        @Override
+        public void addCache(ICacheContainer cache) {
+        }
+
+        @Override
+        public Map<String, ICacheContainer> getCaches() {
+            return Map.of();
+        }
+
+        @Override
+        public void manualCleanAll() {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.zexnocs.teanekocore.command;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekoapp.message.TeaNekoMessageData;
+import org.zexnocs.teanekoapp.message.api.ITeaNekoMessageData;
+import org.zexnocs.teanekocore.command.api.CommandPermission;
+import org.zexnocs.teanekocore.command.api.CommandScope;
+import org.zexnocs.teanekocore.command.exception.CommandDataTypeMismatchException;
+import org.zexnocs.teanekoplugin.general.activity.GroupActivityCommand;
+import org.zexnocs.teanekoplugin.general.dice.DiceCommand;
+import org.zexnocs.teanekoplugin.general.signin.SignInCommand;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 指令参数绑定的吞吐量基准测试（ops/us），使用插件中实际的指令方法。
+ * 1. dice: DiceCommand 的默认指令，一个 int 参数。
+ * 2. signIn: SignInCommand 的默认指令，只注入 CommandData。
+ * 3. addWhite: GroupActivityCommand 的 add-white 子指令，需要回溯才能让默认值让位给后面的参数。
+ * <p>
+ * precompiled 为当前实现，使用扫描时编译好的绑定器；
+ * perInvocation 模拟旧实现，每次处理参数时都重新读取方法的参数类型、注解并转换默认值。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=CommandArgumentBinderBenchmark
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandArgumentBinderBenchmark {
+    /// 指令方法
+    @Param({"dice", "signIn", "addWhite"})
+    public String command;
+
+    private Method method;
+
+    private String[] args;
+
+    private CommandData<ITeaNekoMessageData> data;
+
+    private CommandArgumentBinder binder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (command) {
+            case "dice" -> {
+                method = _method(DiceCommand.class, "dice");
+                args = new String[]{"100"};
+            }
+            case "signIn" -> {
+                method = _method(SignInCommand.class, "signIn");
+                args = new String[0];
+            }
+            case "addWhite" -> {
+                method = _method(GroupActivityCommand.class, "addWhite");
+                args = new String[]{"123456", "7"};
+            }
+            default -> throw new IllegalArgumentException(command);
+        }
+        data = CommandData.<ITeaNekoMessageData>builder()
+                .body("/" + command)
+                .args(args)
+                .scope(CommandScope.GROUP)
+                .permission(CommandPermission.MEMBER)
+                .senderId("sender")
+                .scopeId("onebot@group@100000")
+                .rawData(new TeaNekoMessageData())
+                .build();
+        binder = CommandArgumentBinder.compile(method, message -> {});
+    }
+
+    @Benchmark
+    public Object[] precompiled() throws CommandDataTypeMismatchException {
+        return binder.bind(args, data);
+    }
+
+    @Benchmark
+    public Object[] perInvocation() throws CommandDataTypeMismatchException {
+        return CommandArgumentBinder.compile(method, message -> {}).bind(args, data);
+    }
+
+    private static Method _method(Class<?> type, String name) {
+        for (var method : type.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(type.getName() + "#" + name);
+    }
+}
@@ -0,0 +1,77 @@
+package org.zexnocs.teanekocore.command;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 正则指令匹配的吞吐量基准测试，模拟不是指令的普通聊天消息。
+ * 1. compiled: 当前实现，预编译正则并使用字面量前缀树筛选候选正则。
+ * 2. stringMatches: 旧实现，每条消息对每个正则调用 String.matches，每次都重新编译正则。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=CommandRegexpMatcherBenchmark
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandRegexpMatcherBenchmark {
+    /// 注册的正则指令数量
+    @Param({"10", "100", "1000"})
+    public int patternCount;
+
+    /// 消息
+    private static final String[] MESSAGES = {
+            "今天天气不错，一起去喝茶吧",
+            "/roll 是什么指令",
+            "hello everyone",
+            "喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵喵",
+    };
+
+    private CommandRegexpMatcher<Integer> matcher;
+
+    private List<String> regexps;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        regexps = new ArrayList<>();
+        var builder = CommandRegexpMatcher.<Integer>builder();
+        for (int i = 0; i < patternCount; i++) {
+            // 大部分正则指令都以固定的字面量开头
+            var regexp = i % 10 == 0 ? "(?i)keyword" + i + "\\s+\\w+" : "/cmd" + i + " \\d+";
+            regexps.add(regexp);
+            builder.add(regexp, i);
+        }
+        matcher = builder.build();
+    }
+
+    @Benchmark
+    public Integer compiled() {
+        return matcher.match(_next());
+    }
+
+    @Benchmark
+    public Integer stringMatches() {
+        var message = _next();
+        for (int i = 0; i < regexps.size(); i++) {
+            if (message.matches(regexps.get(i))) {
+                return i;
+            }
+        }
+        return null;
+    }
+
+    private String _next() {
+        index = (index + 1) & 3;
+        return MESSAGES[index];
+    }
+}
@@ -0,0 +1,114 @@
+package org.zexnocs.teanekocore.event;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekocore.event.core.EventHandler;
+import org.zexnocs.teanekocore.event.core.EventHandlerScanner;
+import org.zexnocs.teanekocore.event.core.EventListener;
+import org.zexnocs.teanekocore.framework.pair.HashPair;
+import org.zexnocs.teanekocore.framework.pair.Pair;
+import org.zexnocs.teanekocore.logger.DefaultLogger;
+import org.zexnocs.teanekocore.utils.scanner.inerfaces.IBeanScanner;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventService 同步处理路径的基准测试。
+ * 一个事件经过 4 个同步监听器，测量单个事件的处理时间。
+ * 使用 GC profiler 查看每个事件分配的内存，目标是同步路径上 gc.alloc.rate.norm 接近 0（事件对象本身在循环外创建）。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=EventProcessBenchmark -PjmhProfilers=gc
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventProcessBenchmark {
+    private EventService eventService;
+    private BenchmarkEvent event;
+    private BenchmarkListener listener;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        listener = new BenchmarkListener();
+        var scanner = new EventHandlerScanner(new SingleBeanScanner(listener), new DefaultLogger());
+        scanner.init();
+        // 只有同步监听器，不需要任务服务
+        eventService = new EventService(new DefaultLogger(), scanner, null, false);
+        event = new BenchmarkEvent();
+    }
+
+    @Benchmark
+    public long processEvent() {
+        eventService._processEvent(event);
+        return listener.count;
+    }
+
+    public static class BenchmarkEvent extends AbstractEvent<Void> {
+        public BenchmarkEvent() {
+            super(null);
+        }
+    }
+
+    @EventListener
+    public static class BenchmarkListener {
+        long count;
+
+        @EventHandler(priority = 3)
+        public void first(BenchmarkEvent event) {
+            count++;
+        }
+
+        @EventHandler(priority = 2)
+        public void second(BenchmarkEvent event) {
+            count++;
+        }
+
+        @EventHandler(priority = 1)
+        public void third(AbstractEvent<?> event) {
+            count++;
+        }
+
+        @EventHandler(ignoreCancelled = true)
+        public void fourth(BenchmarkEvent event) {
+            count++;
+        }
+    }
+
+    /**
+     * 只返回一个监听器的 Bean 扫描器。
+     */
+    private record SingleBeanScanner(Object listener) implements IBeanScanner {
+        @Override
+        public Class<?> getBeanClass(Object bean) {
+            return bean.getClass();
+        }
+
+        @Override
+        public <T> Class<? extends T> getBeanClass(Object bean, Class<T> beanInterface) {
+            return bean.getClass().asSubclass(beanInterface);
+        }
+
+        @Override
+        public <T> Map<String, T> getBeansOfType(Class<T> interfaceType) {
+            return Map.of();
+        }
+
+        @Override
+        public <A extends Annotation> Map<String, Pair<A, Object>> getBeansWithAnnotation(Class<A> annotationType) {
+            return Map.of("listener", HashPair.of(listener.getClass().getAnnotation(annotationType), listener));
+        }
+
+        @Override
+        public <A extends Annotation, T> Map<String, Pair<A, T>> getBeansWithAnnotationAndInterface(
+                Class<A> annotationType, Class<T> interfaceType) {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.zexnocs.teanekocore.event.core;
+
+import org.openjdk.jmh.annotations.*;
+import org.zexnocs.teanekocore.event.AbstractEvent;
+import org.zexnocs.teanekocore.event.interfaces.IEvent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 单个事件处理器的调用开销。
+ * 比较：
+ * 1. reflective: 修改前的路径，isInstance 检查 + Method.invoke。
+ * 2. compiled: EventHandlerCompiler 生成的 Consumer。
+ * 3. direct: 手写的直接调用，作为下限。
+ * <p>
+ * 运行方式：./gradlew jmh -PjmhIncludes=EventHandlerDispatchBenchmark
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventHandlerDispatchBenchmark {
+    private BenchmarkListener listener;
+    private BenchmarkEvent event;
+    private Method method;
+
+    @SuppressWarnings("rawtypes")
+    private Consumer<IEvent> compiled;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        listener = new BenchmarkListener();
+        event = new BenchmarkEvent();
+        method = BenchmarkListener.class.getMethod("onEvent", BenchmarkEvent.class);
+        compiled = EventHandlerCompiler.compile(listener, method);
+    }
+
+    @Benchmark
+    public long reflective() throws Exception {
+        if (!BenchmarkEvent.class.isInstance(event)) {
+            throw new IllegalArgumentException();
+        }
+        method.invoke(listener, BenchmarkEvent.class.cast(event));
+        return listener.count;
+    }
+
+    @Benchmark
+    public long compiled() {
+        compiled.accept(event);
+        return listener.count;
+    }
+
+    @Benchmark
+    public long direct() {
+        listener.onEvent(event);
+        return listener.count;
+    }
+
+    public static class BenchmarkEvent extends AbstractEvent<Void> {
+        public BenchmarkEvent() {
+            super(null);
+        }
+    }
+
+    public static class BenchmarkListener {
+        long count;
+
+        public void onEvent(BenchmarkEvent event) {
+            count++;
+        }
+    }
+}
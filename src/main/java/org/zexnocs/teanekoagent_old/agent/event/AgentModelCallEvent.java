@@ -12,7 +12,7 @@ import org.zexnocs.teanekocore.event.core.Event;
  * @date 2026/06/10
  * @since 4.4.1
  */
-@Event(value = AgentModelCallEvent.KEY, namespace = AgentTurnEvent.NAMESPACE)
+@Event(value = AgentModelCallEvent.KEY, namespace = AgentTurnEvent.CALL_NAMESPACE)
 public class AgentModelCallEvent extends AbstractEvent<AgentModelCallData> {
     /**
      * 事件扫描注册 key。
@@ -12,7 +12,7 @@ import org.zexnocs.teanekocore.event.core.Event;
  * @date 2026/06/10
  * @since 4.4.1
  */
-@Event(value = AgentToolCallEvent.KEY, namespace = AgentTurnEvent.NAMESPACE)
+@Event(value = AgentToolCallEvent.KEY, namespace = AgentTurnEvent.CALL_NAMESPACE)
 public class AgentToolCallEvent extends AbstractEvent<AgentToolCallData> {
     /**
      * 事件扫描注册 key。
@@ -24,6 +24,12 @@ public class AgentTurnEvent extends AbstractEvent<AgentTurnData> {
      */
     public static final String NAMESPACE = "teaneko-agent-runtime";
 
+    /**
+     * Agent 单轮运行中被等待的子事件（模型调用、工具调用、token 告警）的处理阶段命名空间。
+     * <br>单轮运行会阻塞等待这些事件，所以不能和 {@link #NAMESPACE} 使用同一个执行通道，否则通道名额用完时会死锁。
+     */
+    public static final String CALL_NAMESPACE = "teaneko-agent-call";
+
     /**
      * Agent 运行时服务，用于执行事件未取消时的默认处理逻辑。
      */
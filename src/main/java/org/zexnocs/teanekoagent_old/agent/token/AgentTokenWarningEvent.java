@@ -12,7 +12,7 @@ import org.zexnocs.teanekocore.event.core.Event;
  * @date 2026/06/11
  * @since 4.4.1
  */
-@Event(value = AgentTokenWarningEvent.KEY, namespace = AgentTurnEvent.NAMESPACE)
+@Event(value = AgentTokenWarningEvent.KEY, namespace = AgentTurnEvent.CALL_NAMESPACE)
 public class AgentTokenWarningEvent extends AbstractEvent<AgentTokenWarningData> {
     /**
      * 事件扫描注册 key。
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoagent_old.response;
 
 import org.jspecify.annotations.Nullable;
 import org.zexnocs.teanekoapp.response.ResponseEvent;
+import org.zexnocs.teanekocore.event.core.Event;
 
 /**
  * TeaNeko Agent 内置客户端响应事件。
@@ -11,6 +12,7 @@ import org.zexnocs.teanekoapp.response.ResponseEvent;
  * @date 2026/06/10
  * @since 4.4.1
  */
+@Event(value = "", namespace = ResponseEvent.NAMESPACE)
 public class AgentResponseEvent extends ResponseEvent {
     /**
      * 创建 Agent 响应事件。
@@ -59,6 +59,7 @@ public class TeaNekoCommandConverter implements ICommandConverter<ITeaNekoMessag
                 .senderId(senderData.getUuid().toString())
                 .rawData(data)
                 .clientClass(data.getClient().getClass())
+                .receivedNanos(data.getReceivedNanos())
                 .build();
     }
 
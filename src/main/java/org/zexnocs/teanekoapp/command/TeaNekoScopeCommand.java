@@ -6,7 +6,7 @@ import org.zexnocs.teanekoapp.utils.TeaNekoScopeService;
 import org.zexnocs.teanekocore.command.CommandData;
 import org.zexnocs.teanekocore.command.CommandScopeManager;
 import org.zexnocs.teanekocore.command.api.*;
-import org.zexnocs.teanekocore.command.easydata.CommandEasyData;
+import org.zexnocs.teanekocore.command.interfaces.ICommandScopeManager;
 import org.zexnocs.teanekocore.framework.description.Description;
 
 /**
@@ -24,6 +24,7 @@ import org.zexnocs.teanekocore.framework.description.Description;
 @RequiredArgsConstructor
 public class TeaNekoScopeCommand {
     private final TeaNekoScopeService teaNekoScopeService;
+    private final ICommandScopeManager iCommandScopeManager;
 
     @Description("""
             允许群组使用原本不可使用的命令。
@@ -37,11 +38,7 @@ public class TeaNekoScopeCommand {
         String scopeId = groupId.equals("0") ?
                 commandData.getScopeId() :
                 teaNekoScopeService.getGroupScopeId(data.getClient(), groupId);
-        CommandEasyData.of(CommandScopeManager.ENABLE_NAMESPACE)
-                .get(commandId)
-                .getTaskConfig("添加区域")
-                .setBoolean(scopeId, true)
-                .push();
+        iCommandScopeManager.setScopeEnabled(commandId, scopeId, true);
     }
 
     @Description("""
@@ -56,11 +53,7 @@ public class TeaNekoScopeCommand {
         String scopeId = groupId.equals("0") ?
                 commandData.getScopeId() :
                 teaNekoScopeService.getGroupScopeId(data.getClient(), groupId);
-        CommandEasyData.of(CommandScopeManager.ENABLE_NAMESPACE)
-                .get(commandId)
-                .getTaskConfig("删除区域")
-                .setBoolean(scopeId, false)
-                .push();
+        iCommandScopeManager.setScopeEnabled(commandId, scopeId, false);
     }
 
     @Description("""
@@ -75,10 +68,7 @@ public class TeaNekoScopeCommand {
         String scopeId = groupId.equals("0") ?
                 commandData.getScopeId() :
                 teaNekoScopeService.getGroupScopeId(data.getClient(), groupId);
-        CommandEasyData.of(CommandScopeManager.DISABLE_NAMESPACE)
-                .get(commandId).getTaskConfig("禁止区域")
-                .setBoolean(scopeId, true)
-                .push();
+        iCommandScopeManager.setScopeBanned(commandId, scopeId, true);
     }
 
     @Description("""
@@ -93,9 +83,6 @@ public class TeaNekoScopeCommand {
         String scopeId = groupId.equals("0") ?
                 commandData.getScopeId() :
                 teaNekoScopeService.getGroupScopeId(data.getClient(), groupId);
-        CommandEasyData.of(CommandScopeManager.DISABLE_NAMESPACE)
-                .get(commandId).getTaskConfig("取消禁止区域")
-                .setBoolean(scopeId, false)
-                .push();
+        iCommandScopeManager.setScopeBanned(commandId, scopeId, false);
     }
 }
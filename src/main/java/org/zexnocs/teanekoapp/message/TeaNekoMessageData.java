@@ -49,4 +49,7 @@ public class TeaNekoMessageData implements ITeaNekoMessageData {
     /// 获取消息来源客户端信息。
     /// 包括客户端支持的信息发送器。
     protected ITeaNekoClient client;
+
+    /// 收到消息的时间，System.nanoTime()；0 表示未知
+    protected long receivedNanos;
 }
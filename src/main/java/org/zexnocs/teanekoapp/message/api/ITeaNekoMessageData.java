@@ -75,6 +75,15 @@ public interface ITeaNekoMessageData {
     @NonNull
     ITeaNekoClient getClient();
 
+    /**
+     * 获取收到消息的时间，用于统计从收到消息到开始执行指令的耗时。
+     *
+     * @return 收到消息时的 System.nanoTime()；0 表示未知
+     */
+    default long getReceivedNanos() {
+        return 0;
+    }
+
     /**
      * 快速获取一个消息发送器构建器，使用当前消息数据作为上下文。
      *
@@ -3,14 +3,21 @@ package org.zexnocs.teanekoapp.response;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.zexnocs.teanekocore.event.AbstractEvent;
+import org.zexnocs.teanekocore.event.core.Event;
 
 /**
  * 用于接收从 client 的响应信息。
+ * <br>使用独立的命名空间 {@link #NAMESPACE}：发送请求的事件可能在 event-process-default 中阻塞等待响应，
+ * 响应事件如果排在同一个通道中，通道名额用完时会死锁。
  *
  * @author zExNocs
  * @date 2026/02/23
  */
+@Event(value = "", namespace = ResponseEvent.NAMESPACE)
 public class ResponseEvent extends AbstractEvent<ResponseData> {
+    /// 响应事件的执行阶段命名空间
+    public static final String NAMESPACE = "client-response";
+
     /**
      * 事件的构造函数。
      *
@@ -2,10 +2,12 @@ package org.zexnocs.teanekoapp.teauser;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekoapp.client.api.ITeaNekoClient;
 import org.zexnocs.teanekoapp.teauser.interfaces.ITeaUserService;
 import org.zexnocs.teanekocore.actuator.task.TaskFuture;
+import org.zexnocs.teanekocore.cache.CacheContainerConfig;
 import org.zexnocs.teanekocore.cache.ConcurrentMapCacheContainer;
 import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
 import org.zexnocs.teanekocore.database.easydata.core.interfaces.IEasyDataDto;
@@ -36,9 +38,14 @@ public class TeaUserService implements ITeaUserService {
     /// 构造一个根据 UUID 和 客户端获取 平台ID 的缓存
     private final ConcurrentMapCacheContainer<Pair<String, UUID>, String> cache;
 
-    public TeaUserService(ILogger logger, ICacheService iCacheService) {
+    public TeaUserService(ILogger logger,
+                          ICacheService iCacheService,
+                          @Value("${tea-neko.cache.tea-user-maximum-size:10000}") long maximumSize) {
         this.logger = logger;
-        cache = ConcurrentMapCacheContainer.of(iCacheService);
+        cache = ConcurrentMapCacheContainer.of(iCacheService,
+                CacheContainerConfig.<Pair<String, UUID>, String>builder()
+                        .maximumSize(maximumSize)
+                        .build());
     }
 
     /**
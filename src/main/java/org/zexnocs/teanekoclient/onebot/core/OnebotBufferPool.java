@@ -0,0 +1,63 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 接收信息时使用的字节缓冲池。
+ * 分片信息先拼接到池中的 byte[] 里，解析完成后归还，避免每条信息都重新分配缓冲区。
+ * <p>
+ * 只缓存不超过 {@code bufferSize} 的缓冲区；为了接收大信息而扩容出来的缓冲区用完后直接丢弃，
+ * 避免池子长期占用大块内存。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotBufferPool {
+    /// 空闲的缓冲区
+    private final ConcurrentLinkedQueue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+    /// 空闲缓冲区的个数
+    private final AtomicInteger freeCount = new AtomicInteger();
+
+    /// 池中每个缓冲区的大小
+    private final int bufferSize;
+
+    /// 最多缓存的缓冲区个数
+    private final int capacity;
+
+    public OnebotBufferPool(int bufferSize, int capacity) {
+        this.bufferSize = bufferSize;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 借出一个缓冲区。池子为空时新建一个。
+     *
+     * @return 缓冲区，长度至少为 bufferSize
+     */
+    public byte[] acquire() {
+        var buffer = free.poll();
+        if (buffer == null) {
+            return new byte[bufferSize];
+        }
+        freeCount.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * 归还缓冲区。扩容过的缓冲区或者池子已满时直接丢弃。
+     *
+     * @param buffer 缓冲区
+     */
+    public void release(byte[] buffer) {
+        if (buffer.length != bufferSize) {
+            return;
+        }
+        if (freeCount.incrementAndGet() > capacity) {
+            freeCount.decrementAndGet();
+            return;
+        }
+        free.offer(buffer);
+    }
+}
@@ -3,7 +3,9 @@ package org.zexnocs.teanekoclient.onebot.core;
 import lombok.Setter;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -11,8 +13,11 @@ import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorato
 import org.zexnocs.teanekoapp.client.AbstractWebsocketClient;
 import org.zexnocs.teanekoapp.client.api.IClient;
 import org.zexnocs.teanekoapp.response.ResponseEvent;
+import org.zexnocs.teanekoapp.sender.api.ISendData;
 import org.zexnocs.teanekoclient.onebot.data.response.OnebotRawResponseData;
+import org.zexnocs.teanekoclient.onebot.data.send.OnebotSendData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekoclient.onebot.event.PostReceiveEvent;
 import org.zexnocs.teanekoclient.onebot.event.teaneko.OnebotConnectEvent;
 import org.zexnocs.teanekocore.event.interfaces.IEvent;
@@ -22,11 +27,15 @@ import org.zexnocs.teanekocore.logger.ILogger;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * onebot 客户端类。
+ * <p>
+ * 接收信息时支持分片和二进制信息：分片直接拼接到缓冲池的 byte[] 中，再从字节解析成 JSON 树，
+ * 不生成中间字符串；完整的文本信息直接从容器给出的字符串解析。
+ * 单条信息的最大长度由 {@code tea-neko.onebot.ingest.max-frame-size} 配置。
+ * <p>
+ * 发送信息时交给 {@link OnebotOutboundService}，由每个 session 的发送器按顺序写出，并按照发送目标限流。
  *
  * @author zExNocs
  * @date 2026/02/28
@@ -39,8 +48,14 @@ public class OnebotClient extends AbstractWebsocketClient implements IClient {
     /// 存储所有连接的会话。注意：现在存的是被装饰过的、线程安全的 Session
     private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
 
-    /// 用于异步发送消息的线程池
-    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    /// 每个 session 的分片拼接器
+    private final ConcurrentHashMap<String, OnebotFrameAssembler> assemblers = new ConcurrentHashMap<>();
+
+    /// 接收信息使用的缓冲池
+    private final OnebotBufferPool bufferPool;
+
+    /// 单条信息的最大字节数
+    private final int maxFrameSize;
 
     ///  logger
     private final ILogger logger;
@@ -48,16 +63,41 @@ public class OnebotClient extends AbstractWebsocketClient implements IClient {
     /// 共享数据组件
     private final OnebotEventShareComponent onebotEventShareComponent;
 
+    /// 接收队列
+    private final OnebotIngestService onebotIngestService;
+
+    /// 发送队列
+    private final OnebotOutboundService onebotOutboundService;
+
     @Setter
     private boolean canAcceptConnections = true;
 
     @Autowired
     public OnebotClient(ILogger logger,
                         IEventService eventService,
-                        OnebotEventShareComponent onebotEventShareComponent) {
+                        OnebotEventShareComponent onebotEventShareComponent,
+                        OnebotIngestService onebotIngestService,
+                        OnebotOutboundService onebotOutboundService,
+                        @Value("${tea-neko.onebot.ingest.max-frame-size:1048576}") int maxFrameSize,
+                        @Value("${tea-neko.onebot.ingest.buffer-size:65536}") int bufferSize,
+                        @Value("${tea-neko.onebot.ingest.buffer-pool-size:64}") int bufferPoolSize) {
         super(eventService);
         this.logger = logger;
         this.onebotEventShareComponent = onebotEventShareComponent;
+        this.onebotIngestService = onebotIngestService;
+        this.onebotOutboundService = onebotOutboundService;
+        this.maxFrameSize = maxFrameSize;
+        this.bufferPool = new OnebotBufferPool(Math.min(bufferSize, maxFrameSize), bufferPoolSize);
+    }
+
+    /**
+     * 接收分片信息，由 {@link OnebotFrameAssembler} 拼接。
+     *
+     * @return true
+     */
+    @Override
+    public boolean supportsPartialMessages() {
+        return true;
     }
 
     @Override
@@ -68,79 +108,108 @@ public class OnebotClient extends AbstractWebsocketClient implements IClient {
         }
 
         // 设置底层限制
-        session.setTextMessageSizeLimit(1024 * 1024);
-        session.setBinaryMessageSizeLimit(1024 * 1024);
+        session.setTextMessageSizeLimit(maxFrameSize);
+        session.setBinaryMessageSizeLimit(maxFrameSize);
+        assemblers.put(session.getId(), new OnebotFrameAssembler(bufferPool, maxFrameSize));
+        var sessionId = session.getId();
+        onebotIngestService.open(sessionId, frame -> _process(sessionId, frame));
 
         // 发送超时时间 (10秒)，溢出缓冲区大小限制 (5MB)。如果超出限制，Session 会被自动关闭并抛出异常。
         WebSocketSession safeSession = new ConcurrentWebSocketSessionDecorator(
                 session, 10000, 5 * 1024 * 1024);
 
         sessions.put(safeSession.getId(), safeSession);
+        onebotOutboundService.open(safeSession, this::removeSession);
         eventService.pushEvent(new OnebotConnectEvent(safeSession.getId()));
         logger.info(TAG, "连接新的 session: %s。总连接个数: %d".formatted(safeSession.getId(), sessions.size()));
     }
 
     @Override
     protected void handleTextMessage(@NonNull WebSocketSession session, TextMessage message) {
+        var assembler = assemblers.get(session.getId());
         String payload = message.getPayload();
-        logger.debug(TAG, "Received message from %s: %s".formatted(session.getId(), payload));
+        // 完整的文本信息直接使用容器给出的字符串
+        if (assembler == null || message.isLast() && assembler.isEmpty()) {
+            // 放入接收队列，由工作线程解析和处理，防止阻塞 WebSocket 的 IO 接收线程
+            onebotIngestService.submit(session.getId(), payload,
+                    () -> OnebotFrame.parse(payload, onebotEventShareComponent.objectMapper));
+            return;
+        }
+        if (!assembler.append(payload, message.isLast())) {
+            _closeTooLarge(session);
+            return;
+        }
+        if (message.isLast()) {
+            _dispatch(session, assembler.take());
+        }
+    }
 
-        // 异步处理接收到的消息，防止阻塞 WebSocket 的 IO 接收线程
-        CompletableFuture.runAsync(() -> _handle(payload), sendExecutor)
-                .exceptionally(ex -> {
-                    logger.error(TAG, "消息处理异常: " + ex.getMessage(), ex);
-                    return null;
-                });
+    @Override
+    protected void handleBinaryMessage(@NonNull WebSocketSession session, BinaryMessage message) {
+        var assembler = assemblers.get(session.getId());
+        if (assembler == null) {
+            return;
+        }
+        // 容器可能复用 payload 的 ByteBuffer，所以总是先拷贝到缓冲池中
+        if (!assembler.append(message.getPayload())) {
+            _closeTooLarge(session);
+            return;
+        }
+        if (message.isLast()) {
+            _dispatch(session, assembler.take());
+        }
     }
 
     @Override
     public IEvent<?> handle(String information) {
-        var rootNode = onebotEventShareComponent.objectMapper.readTree(information);
+        // 只解析一次，之后的事件都从同一棵 JSON 树中读取
+        return handle(OnebotFrame.parse(information, onebotEventShareComponent.objectMapper));
+    }
+
+    /**
+     * 将解析后的信息转换成事件。
+     *
+     * @param frame 解析后的信息
+     * @return 事件；未知的信息类型返回 null
+     */
+    public IEvent<?> handle(OnebotFrame frame) {
         // 解析成一般 post type 消息
-        if(rootNode.has("post_type") || rootNode.has("message_type")) {
-            return new PostReceiveEvent(information, onebotEventShareComponent);
+        if(frame.has("post_type") || frame.has("message_type")) {
+            return new PostReceiveEvent(frame, onebotEventShareComponent);
         }
         // 否则尝试解析成 response 消息
-        if(rootNode.has("status") && rootNode.has("echo")) {
+        if(frame.has("status") && frame.has("echo")) {
             // 解析成 OnebotRawResponseData 对象
             return new ResponseEvent(
-                    onebotEventShareComponent.objectMapper.convertValue(rootNode, OnebotRawResponseData.class),
+                    frame.bind(OnebotRawResponseData.class, onebotEventShareComponent.objectMapper),
                     OnebotRawResponseData.class
             );
         }
 
         // 如果都不匹配，报错并返回 null
-        logger.errorWithReport(this.getClass().getSimpleName(), "未知的信息类型: " + information);
+        logger.errorWithReport(this.getClass().getSimpleName(), "未知的信息类型: " + frame.getRaw());
         return null;
     }
 
     /**
-     * 多线程异步发送消息到所有连接的客户端。
+     * 异步发送消息到所有连接的客户端，不限流。
      */
     @Override
     public void send(String message) {
-        if (sessions.isEmpty()) {
-            logger.warn(TAG, "没有可用客户端发送信息: " + message);
-            return;
-        }
+        _send(message, null);
+    }
 
-        TextMessage textMessage = new TextMessage(message);
-
-        // 遍历所有 session 并进行多线程异步发送 (Fan-out)
-        sessions.values().forEach(session -> {
-            if (session.isOpen()) {
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        session.sendMessage(textMessage);
-                    } catch (IOException e) {
-                        logger.error(TAG, "发送消息到 session %s 失败: %s".formatted(session.getId(), e.getMessage()), e);
-                        removeSession(session);
-                    }
-                }, sendExecutor);
-            } else {
-                removeSession(session);
-            }
-        });
+    /**
+     * 异步发送数据到所有连接的客户端。发送消息类的数据按照群或私聊限流。
+     *
+     * @param data 发送数据对象
+     */
+    @Override
+    public void send(ISendData<?> data) {
+        String target = data instanceof OnebotSendData<?, ?> onebotSendData
+                ? onebotSendData.getParams().getSendTarget()
+                : null;
+        _send(data.toSendString(), target);
     }
 
     @Override
@@ -160,6 +229,12 @@ public class OnebotClient extends AbstractWebsocketClient implements IClient {
      */
     private void removeSession(WebSocketSession session) {
         sessions.remove(session.getId());
+        onebotIngestService.close(session.getId());
+        onebotOutboundService.close(session.getId());
+        var assembler = assemblers.remove(session.getId());
+        if (assembler != null) {
+            assembler.reset();
+        }
         if (session.isOpen()) {
             try {
                 session.close();
@@ -168,4 +243,66 @@ public class OnebotClient extends AbstractWebsocketClient implements IClient {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 将拼接好的信息放入接收队列，由工作线程解析并推送事件。解析完成或者信息被丢弃后立即归还缓冲区。
+     *
+     * @param session 来源 session
+     * @param assembled 拼接好的信息
+     */
+    private void _dispatch(WebSocketSession session, OnebotFrameAssembler.Frame assembled) {
+        if (assembled == null) {
+            return;
+        }
+        var buffer = assembled.buffer();
+        onebotIngestService.submit(session.getId(), buffer, assembled.length(), () -> {
+            try {
+                return OnebotFrame.parse(buffer, 0, assembled.length(), onebotEventShareComponent.objectMapper);
+            } finally {
+                bufferPool.release(buffer);
+            }
+        }, () -> bufferPool.release(buffer));
+    }
+
+    /**
+     * 推送解析后的信息对应的事件。
+     *
+     * @param sessionId 来源 session id
+     * @param frame 解析后的信息
+     * @return 事件链处理完成的 future，包括登记到 frame 中继续处理的部分
+     */
+    private CompletableFuture<?> _process(String sessionId, OnebotFrame frame) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(TAG, "Received message from %s: %s".formatted(sessionId, frame.getRaw()));
+        }
+        IEvent<?> event;
+        try {
+            event = handle(frame);
+        } catch (Exception e) {
+            logger.error(TAG, "消息处理异常: " + e.getMessage(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (event == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return eventService.pushEventWithFuture(event).finish().thenCompose(result -> frame.deferred());
+    }
+
+    /// 将消息放入所有 session 的发送队列
+    private void _send(String message, String target) {
+        if (onebotOutboundService.send(message, target) == 0) {
+            logger.warn(TAG, "没有可用客户端发送信息: " + message);
+        }
+    }
+
+    /// 信息超过最大长度时关闭 session
+    private void _closeTooLarge(WebSocketSession session) {
+        logger.warn(TAG, "session %s 的信息超过最大长度 %d 字节，关闭连接".formatted(session.getId(), maxFrameSize));
+        try {
+            session.close(CloseStatus.TOO_BIG_TO_PROCESS);
+        } catch (IOException ignored) {
+            // 忽略关闭时的异常
+        }
+        removeSession(session);
+    }
+}
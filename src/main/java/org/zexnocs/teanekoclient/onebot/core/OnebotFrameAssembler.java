@@ -0,0 +1,160 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 单个 session 的分片信息拼接器。
+ * 将 websocket 的分片（文本或二进制）直接写入从 {@link OnebotBufferPool} 借来的 byte[] 中，
+ * 收到最后一个分片后交给 {@link #take()} 取出，解析完成后再归还缓冲区。
+ * <p>
+ * 同一个 session 的信息由容器按顺序投递，但 session 关闭时会在其他线程调用 {@link #reset()}，
+ * 因此所有方法都使用实例锁；正常情况下锁没有竞争。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotFrameAssembler {
+    /// 缓冲池
+    private final OnebotBufferPool pool;
+
+    /// 单条信息的最大字节数
+    private final int maxFrameSize;
+
+    /// 文本分片的 UTF-8 编码器，复用以免每个分片都新建
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /// 当前正在拼接的缓冲区；为 null 表示还没有收到分片
+    private byte[] buffer;
+
+    /// 已经写入的字节数
+    private int length;
+
+    /// 上一个文本分片末尾被截断的高代理字符，和下一个分片一起编码
+    private String pendingChars;
+
+    public OnebotFrameAssembler(OnebotBufferPool pool, int maxFrameSize) {
+        this.pool = pool;
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * 追加一段二进制分片。
+     *
+     * @param part 分片内容
+     * @return false 表示超过最大长度，已经拼接的内容会被丢弃
+     */
+    public synchronized boolean append(ByteBuffer part) {
+        var size = part.remaining();
+        if (!_ensure(size)) {
+            return false;
+        }
+        part.get(buffer, length, size);
+        length += size;
+        return true;
+    }
+
+    /**
+     * 追加一段文本分片，直接编码成 UTF-8 写入缓冲区。
+     *
+     * @param part 分片内容
+     * @param last 是否是最后一个分片
+     * @return false 表示超过最大长度，已经拼接的内容会被丢弃
+     */
+    public synchronized boolean append(String part, boolean last) {
+        var chars = pendingChars == null ? part : pendingChars + part;
+        pendingChars = null;
+        // UTF-8 每个字符最多 3 个字节（代理对 2 个字符 4 个字节）
+        if (!_ensure(Math.min(chars.length() * 3, maxFrameSize - length))) {
+            return false;
+        }
+        var in = CharBuffer.wrap(chars);
+        var out = ByteBuffer.wrap(buffer, length, buffer.length - length);
+        encoder.reset();
+        var result = encoder.encode(in, out, last);
+        if (last && !result.isOverflow()) {
+            result = encoder.flush(out);
+        }
+        if (result.isOverflow()) {
+            // 缓冲区已经扩到最大长度仍然写不下
+            reset();
+            return false;
+        }
+        if (in.hasRemaining()) {
+            // 分片在代理对中间被截断，剩下的字符留给下一个分片
+            pendingChars = in.toString();
+        }
+        length = out.position();
+        return true;
+    }
+
+    /**
+     * 是否没有正在拼接的内容。
+     *
+     * @return true 表示没有
+     */
+    public synchronized boolean isEmpty() {
+        return buffer == null;
+    }
+
+    /**
+     * 取出拼接好的完整信息。取出后拼接器重新开始，缓冲区的所有权交给调用者，
+     * 使用完毕后需要调用 {@link OnebotBufferPool#release(byte[])} 归还。
+     *
+     * @return 完整信息；没有内容时返回 null
+     */
+    public synchronized Frame take() {
+        if (buffer == null) {
+            return null;
+        }
+        var frame = new Frame(buffer, length);
+        buffer = null;
+        length = 0;
+        pendingChars = null;
+        return frame;
+    }
+
+    /**
+     * 丢弃已经拼接的内容并归还缓冲区。
+     */
+    public synchronized void reset() {
+        if (buffer != null) {
+            pool.release(buffer);
+        }
+        buffer = null;
+        length = 0;
+        pendingChars = null;
+    }
+
+    /// 确保还能写入 size 个字节，超过最大长度时丢弃并返回 false
+    private boolean _ensure(int size) {
+        if (length + size > maxFrameSize) {
+            reset();
+            return false;
+        }
+        if (buffer == null) {
+            buffer = pool.acquire();
+        }
+        if (length + size > buffer.length) {
+            // 超出池中缓冲区的大小时按两倍扩容，扩容后的缓冲区不会回到池中
+            var grown = Arrays.copyOf(buffer, Math.min(maxFrameSize, Math.max(buffer.length * 2, length + size)));
+            pool.release(buffer);
+            buffer = grown;
+        }
+        return true;
+    }
+
+    /**
+     * 拼接好的一条信息。
+     *
+     * @param buffer 缓冲区，有效内容为 [0, length)
+     * @param length 有效字节数
+     */
+    public record Frame(byte[] buffer, int length) {}
+}
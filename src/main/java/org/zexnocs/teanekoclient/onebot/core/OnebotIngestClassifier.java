@@ -0,0 +1,132 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+/**
+ * 在解析之前判断 onebot 信息的优先级。
+ * onebot 实现端不保证字段顺序（例如 go-cqhttp 按字母排序，NapCat 先输出消息字段），
+ * 所以这里扫描整条信息中的字段名，而不是只看开头。
+ * <p>
+ * 只有同时存在 echo 和 status 字段时才认为是 API 响应，和 {@link OnebotClient} 判断响应的方式一致；
+ * 其余信息按照 post_type 判断，无法判断时视为一般事件，进入有界队列。
+ * 字段名带引号并且后面是冒号，消息内容中的引号会被转义，因此不会被误认为字段名。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+final class OnebotIngestClassifier {
+    private OnebotIngestClassifier() {}
+
+    /**
+     * 判断文本信息的类型。
+     *
+     * @param payload 信息内容
+     * @return 判断结果
+     */
+    static Classification classify(String payload) {
+        return _classify(new Source() {
+            @Override
+            public int length() {
+                return payload.length();
+            }
+
+            @Override
+            public int at(int index) {
+                return payload.charAt(index);
+            }
+        });
+    }
+
+    /**
+     * 判断字节信息的类型。字段名都是 ASCII，直接比较字节，不解码。
+     *
+     * @param buffer 信息内容
+     * @param length 有效字节数
+     * @return 判断结果
+     */
+    static Classification classify(byte[] buffer, int length) {
+        return _classify(new Source() {
+            @Override
+            public int length() {
+                return length;
+            }
+
+            @Override
+            public int at(int index) {
+                return buffer[index] & 0xFF;
+            }
+        });
+    }
+
+    private static Classification _classify(Source source) {
+        if (_field(source, "\"echo\"") >= 0 && _field(source, "\"status\"") >= 0) {
+            return new Classification(OnebotIngestQueue.Priority.HIGH, false);
+        }
+        var postType = _field(source, "\"post_type\"");
+        if (postType < 0 || !_startsWith(source, postType, "\"meta_event\"")) {
+            return new Classification(OnebotIngestQueue.Priority.NORMAL, false);
+        }
+        var metaType = _field(source, "\"meta_event_type\"");
+        return new Classification(OnebotIngestQueue.Priority.LOW,
+                metaType >= 0 && _startsWith(source, metaType, "\"heartbeat\""));
+    }
+
+    /**
+     * 找到字段值的起始位置。
+     *
+     * @param source 信息内容
+     * @param key 带引号的字段名
+     * @return 字段值第一个非空白字符的位置；没有找到时返回 -1
+     */
+    private static int _field(Source source, String key) {
+        int length = source.length();
+        int last = length - key.length();
+        for (int i = 0; i <= last; i++) {
+            if (!_startsWith(source, i, key)) {
+                continue;
+            }
+            int index = i + key.length();
+            while (index < length && Character.isWhitespace(source.at(index))) {
+                index++;
+            }
+            // 后面不是冒号的是字符串值，不是字段名
+            if (index >= length || source.at(index) != ':') {
+                continue;
+            }
+            index++;
+            while (index < length && Character.isWhitespace(source.at(index))) {
+                index++;
+            }
+            return index < length ? index : -1;
+        }
+        return -1;
+    }
+
+    /// 从 offset 开始是否是 text
+    private static boolean _startsWith(Source source, int offset, String text) {
+        if (offset + text.length() > source.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (source.at(offset + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 信息内容，按照字符或者字节读取。
+     */
+    private interface Source {
+        int length();
+
+        int at(int index);
+    }
+
+    /**
+     * 判断结果。
+     *
+     * @param priority 优先级
+     * @param heartbeat 是否是心跳
+     */
+    record Classification(OnebotIngestQueue.Priority priority, boolean heartbeat) {}
+}
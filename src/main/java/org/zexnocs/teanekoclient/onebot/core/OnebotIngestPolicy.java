@@ -0,0 +1,30 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+/**
+ * 接收队列已满时的处理策略。
+ * 信息按照优先级分为三类：API 响应（高）、一般 post 事件（中）、meta_event（低）。
+ * API 响应不进入队列，因此不会被阻塞或丢弃。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public enum OnebotIngestPolicy {
+    /**
+     * 阻塞 websocket 的读取线程，直到队列中有空位。
+     * 不会丢失信息，压力通过 TCP 传回 onebot 实现端。
+     */
+    BLOCK,
+
+    /**
+     * 丢弃队列中优先级最低且等待最久的信息，然后加入新信息；
+     * 如果队列中的信息优先级都高于新信息，则丢弃新信息。
+     * 心跳等 meta_event 会最先被丢弃。
+     */
+    DROP_LOW_PRIORITY,
+
+    /**
+     * 队列中已经有等待中的心跳时，新的心跳直接替换旧的心跳；
+     * 队列已满时按照 {@link #DROP_LOW_PRIORITY} 处理。
+     */
+    COALESCE
+}
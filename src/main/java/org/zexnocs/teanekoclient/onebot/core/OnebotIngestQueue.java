@@ -0,0 +1,321 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import lombok.Getter;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
+import org.zexnocs.teanekocore.actuator.task.lane.KeyedSerialExecutor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 单个 session 的有界接收队列。
+ * 读取线程将收到的信息放入队列，由 {@link OnebotIngestService} 启动的工作线程取出处理。
+ * 每个优先级一个队列，取出时从高优先级开始；所有状态只在锁中修改。
+ * <p>
+ * 取出的信息按照取出顺序编号。工作线程并行解析后，按照编号顺序登记到 {@link KeyedSerialExecutor}，
+ * 因此同一个 scope 的信息按照收到的顺序串行处理，不同 scope 的信息并行处理。
+ * 已经登记但还没有处理完成的有序信息数量不超过队列上限；还没有轮到登记的信息不占用名额。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotIngestQueue {
+    /// session id
+    @Getter
+    private final String sessionId;
+
+    /// 队列上限
+    private final int capacity;
+
+    /// 队列已满时的处理策略
+    private final OnebotIngestPolicy policy;
+
+    /// 每个优先级的等待队列，下标为 {@link Priority#ordinal()}
+    private final Deque<Item>[] queues;
+
+    /// 所有优先级的等待数量
+    private int size;
+
+    /// 等待数量，与 size 同步更新，供锁外读取
+    @Getter
+    private volatile int depth;
+
+    /// 是否已经关闭
+    private boolean closed;
+
+    /// 已经取出的信息数量，即下一个取出的信息的编号
+    private long takenCount;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /// 按 scope 有序的执行器
+    private final KeyedSerialExecutor ordered;
+
+    /// 处理解析后的信息，返回的 future 完成时视为处理完成
+    @Getter
+    private final Function<OnebotFrame, CompletableFuture<?>> processor;
+
+    /// 已经登记但还没有处理完成的有序信息的名额，上限与队列上限相同
+    private final Semaphore inFlight;
+
+    /// 下一个需要登记的编号
+    private long nextAdmit;
+
+    /// 提前到达的不需要有序处理的信息的编号，轮到它们时直接跳过
+    private final TreeSet<Long> skipped = new TreeSet<>();
+
+    /// 保护登记状态的锁
+    private final ReentrantLock admitLock = new ReentrantLock();
+
+    /// 登记编号推进时唤醒等待登记的有序信息
+    private final Condition admitTurn = admitLock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    OnebotIngestQueue(String sessionId,
+                      int capacity,
+                      OnebotIngestPolicy policy,
+                      KeyedSerialExecutor ordered,
+                      Function<OnebotFrame, CompletableFuture<?>> processor) {
+        this.sessionId = sessionId;
+        this.capacity = Math.max(1, capacity);
+        this.policy = policy;
+        this.ordered = ordered;
+        this.processor = processor;
+        this.inFlight = new Semaphore(this.capacity);
+        this.queues = new Deque[Priority.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 放入一条信息。BLOCK 策略下队列已满时阻塞，直到有空位或者队列关闭。
+     *
+     * @param item 信息
+     * @return 放入的结果；被丢弃的信息（包括被替换的旧信息）由调用者调用 {@link Item#onDrop()}
+     * @throws InterruptedException 阻塞时被中断
+     */
+    OfferResult offer(Item item) throws InterruptedException {
+        lock.lock();
+        try {
+            if (closed) {
+                return new OfferResult(false, item, false);
+            }
+            if (policy == OnebotIngestPolicy.COALESCE && item.coalescible()) {
+                var queue = queues[item.priority().ordinal()];
+                var last = queue.peekLast();
+                if (last != null && last.coalescible()) {
+                    // 用新的心跳替换还没有处理的旧心跳
+                    queue.pollLast();
+                    queue.addLast(item);
+                    return new OfferResult(true, last, true);
+                }
+            }
+            Item dropped = null;
+            if (size >= capacity) {
+                if (policy == OnebotIngestPolicy.BLOCK) {
+                    while (size >= capacity && !closed) {
+                        notFull.await();
+                    }
+                    if (closed) {
+                        return new OfferResult(false, item, false);
+                    }
+                } else {
+                    dropped = _evict(item.priority());
+                    if (dropped == null) {
+                        return new OfferResult(false, item, false);
+                    }
+                }
+            }
+            queues[item.priority().ordinal()].addLast(item);
+            if (dropped == null) {
+                size++;
+                depth = size;
+            }
+            notEmpty.signal();
+            return new OfferResult(true, dropped, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 取出优先级最高且等待最久的信息，队列为空时阻塞。
+     * 取出的信息必须调用一次 {@link #admit(long, Object, Supplier)}。
+     *
+     * @return 信息和编号；队列已经关闭时返回 null
+     * @throws InterruptedException 阻塞时被中断
+     */
+    Taken take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (size == 0 && !closed) {
+                notEmpty.await();
+            }
+            if (closed) {
+                return null;
+            }
+            for (var queue : queues) {
+                var item = queue.pollFirst();
+                if (item != null) {
+                    size--;
+                    depth = size;
+                    notFull.signal();
+                    return new Taken(item, takenCount++);
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 关闭队列，唤醒所有等待的线程。
+     *
+     * @return 关闭时还没有处理的信息，由调用者调用 {@link Item#onDrop()}
+     */
+    Deque<Item> close() {
+        var remaining = new ArrayDeque<Item>();
+        lock.lock();
+        try {
+            closed = true;
+            for (var queue : queues) {
+                remaining.addAll(queue);
+                queue.clear();
+            }
+            size = 0;
+            depth = 0;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return remaining;
+    }
+
+    /**
+     * 按照编号顺序登记一条取出的信息。
+     * 有序的信息阻塞到前面的信息都登记后，再等待一个 in-flight 名额并登记，处理完成时归还名额；
+     * 不需要有序处理的信息不阻塞，前面的信息还没有登记时只记录编号，轮到它时直接跳过。
+     * <p>
+     * 名额只由已经登记的信息占用，它们的处理不依赖工作线程，而编号最小的信息总能轮到登记，
+     * 所以等待名额的信息不会被排在它后面的信息卡住。
+     *
+     * @param sequence 取出时的编号
+     * @param key scope；为 null 表示不需要有序处理
+     * @param task 处理信息的任务；key 为 null 时忽略
+     * @return key 不为 null 时返回任务完成的 future，否则返回 null，由调用者直接处理
+     */
+    CompletableFuture<Void> admit(long sequence, Object key, Supplier<? extends CompletionStage<?>> task) {
+        admitLock.lock();
+        try {
+            if (key == null) {
+                if (sequence == nextAdmit) {
+                    _advance();
+                } else {
+                    skipped.add(sequence);
+                }
+                return null;
+            }
+            while (sequence != nextAdmit) {
+                admitTurn.awaitUninterruptibly();
+            }
+        } finally {
+            admitLock.unlock();
+        }
+        // 只有轮到的信息能推进登记编号，所以在锁外等待名额不会改变登记顺序
+        inFlight.acquireUninterruptibly();
+        var result = new CompletableFuture<Void>();
+        admitLock.lock();
+        try {
+            ordered.execute(key, task).whenComplete((ignored, error) -> {
+                inFlight.release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(null);
+                }
+            });
+            _advance();
+        } finally {
+            admitLock.unlock();
+        }
+        return result;
+    }
+
+    /// 推进登记编号，跳过已经到达的不需要有序处理的信息，并唤醒等待登记的信息；需要持有 admitLock
+    private void _advance() {
+        nextAdmit++;
+        while (!skipped.isEmpty() && skipped.first() == nextAdmit) {
+            skipped.pollFirst();
+            nextAdmit++;
+        }
+        admitTurn.signalAll();
+    }
+
+    /// 移除优先级不高于 priority 的最低优先级中等待最久的信息，需要持有锁
+    private Item _evict(Priority priority) {
+        for (int i = queues.length - 1; i >= priority.ordinal(); i--) {
+            var item = queues[i].pollFirst();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 信息的优先级，按照声明顺序从高到低。
+     */
+    public enum Priority {
+        /// API 响应，等待中的请求依赖它完成；不进入队列
+        HIGH,
+        /// 一般 post 事件
+        NORMAL,
+        /// meta_event，例如心跳和生命周期
+        LOW
+    }
+
+    /**
+     * 队列中的一条信息。
+     *
+     * @param priority 优先级
+     * @param coalescible 是否可以被新的同类信息替换（心跳）
+     * @param receivedAt 收到的时间，System.nanoTime()
+     * @param parser 解析信息，由工作线程调用
+     * @param onDrop 信息被丢弃时的回调，例如归还缓冲区
+     */
+    record Item(Priority priority,
+                boolean coalescible,
+                long receivedAt,
+                Supplier<OnebotFrame> parser,
+                Runnable onDrop) {}
+
+    /**
+     * 取出的信息。
+     *
+     * @param item 信息
+     * @param sequence 取出的编号，从 0 开始连续递增
+     */
+    record Taken(Item item, long sequence) {}
+
+    /**
+     * 放入的结果。
+     *
+     * @param accepted 新信息是否进入了队列
+     * @param dropped 被丢弃的信息；可能是新信息本身，也可能是被挤出或替换的旧信息，没有时为 null
+     * @param coalesced dropped 是否是因为合并而被替换的旧信息
+     */
+    record OfferResult(boolean accepted, Item dropped, boolean coalesced) {}
+}
@@ -0,0 +1,392 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
+import org.zexnocs.teanekocore.actuator.task.lane.KeyedSerialExecutor;
+import org.zexnocs.teanekocore.logger.ILogger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * onebot 信息接收队列服务。
+ * 每个 session 一个有界队列和固定数量的工作线程，收到的信息先进入队列，再由工作线程解析并推送事件，
+ * 避免消息洪峰（例如加入大量群聊、重连后的历史消息）时为每条信息创建一个线程和任务。
+ * <p>
+ * 开启有序处理时，同一个 scope（群号，私聊为用户 ID）的信息按照收到的顺序串行处理，
+ * 包括事件链中在其他任务里继续处理的部分（见 {@link OnebotFrame#defer(CompletableFuture)}）；
+ * 不同 scope 的信息并行处理。meta_event 和 API 响应不需要有序处理。
+ * <p>
+ * API 响应不进入队列，直接在虚拟线程中处理：响应由本端的请求触发，数量本身有上限；
+ * 而工作线程可能正在等待的事件链中就有等待响应的请求，让响应排在事件后面会导致工作线程全部阻塞。
+ * 只有确认是 API 响应的信息才不进入队列，判断方式见 {@link OnebotIngestClassifier}。
+ * <p>
+ * 配置方式：
+ * <pre>
+ * tea-neko.onebot.ingest.queue-capacity=2000
+ * tea-neko.onebot.ingest.workers=64
+ * tea-neko.onebot.ingest.policy=BLOCK
+ * tea-neko.onebot.ingest.ordered=true
+ * tea-neko.onebot.ingest.process-timeout-ms=30000
+ * </pre>
+ * 队列已满时的处理见 {@link OnebotIngestPolicy}。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Service
+public class OnebotIngestService implements MeterBinder {
+    private static final String TAG = "Onebot Ingest";
+
+    /// session id → 队列
+    private final ConcurrentHashMap<String, OnebotIngestQueue> queues = new ConcurrentHashMap<>();
+
+    /// 虚拟线程池
+    private final ExecutorService virtualExecutor;
+
+    /// logger
+    private final ILogger logger;
+
+    /// 每个 session 的队列上限
+    private final int capacity;
+
+    /// 每个 session 的工作线程数量
+    private final int workers;
+
+    /// 队列已满时的处理策略
+    private final OnebotIngestPolicy policy;
+
+    /// 是否按照 scope 有序处理
+    private final boolean ordered;
+
+    /// 处理一条信息的超时时间，超时后取消它还没有开始的后续处理，同一个 scope 的下一条信息不再等待
+    private final long processTimeoutMs;
+
+    /// 收到的信息数量
+    private final LongAdder receivedCount = new LongAdder();
+
+    /// 因为队列已满或者连接关闭被丢弃的信息数量
+    private final LongAdder droppedCount = new LongAdder();
+
+    /// 被新的心跳替换的信息数量
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /// 处理完成的信息数量
+    private final LongAdder processedCount = new LongAdder();
+
+    /// 从收到到处理完成的总耗时（纳秒）
+    private final LongAdder processedNanos = new LongAdder();
+
+    @Autowired
+    public OnebotIngestService(ExecutorService virtualExecutor,
+                               ILogger logger,
+                               @Value("${tea-neko.onebot.ingest.queue-capacity:2000}") int capacity,
+                               @Value("${tea-neko.onebot.ingest.workers:64}") int workers,
+                               @Value("${tea-neko.onebot.ingest.policy:BLOCK}") OnebotIngestPolicy policy,
+                               @Value("${tea-neko.onebot.ingest.ordered:true}") boolean ordered,
+                               @Value("${tea-neko.onebot.ingest.process-timeout-ms:30000}") long processTimeoutMs) {
+        this.virtualExecutor = virtualExecutor;
+        this.logger = logger;
+        this.capacity = capacity;
+        this.workers = Math.max(1, workers);
+        this.policy = policy;
+        this.ordered = ordered;
+        this.processTimeoutMs = processTimeoutMs;
+    }
+
+    /**
+     * 为 session 创建队列并启动工作线程。
+     *
+     * @param sessionId session id
+     * @param processor 处理解析后的信息，返回的 future 完成时视为处理完成
+     */
+    public void open(String sessionId, Function<OnebotFrame, CompletableFuture<?>> processor) {
+        var queue = new OnebotIngestQueue(sessionId, capacity, policy,
+                new KeyedSerialExecutor(virtualExecutor), processor);
+        var old = queues.put(sessionId, queue);
+        if (old != null) {
+            _drop(old.close());
+        }
+        for (int i = 0; i < workers; i++) {
+            virtualExecutor.execute(() -> _work(queue));
+        }
+    }
+
+    /**
+     * 关闭 session 的队列，丢弃还没有处理的信息。
+     *
+     * @param sessionId session id
+     */
+    public void close(String sessionId) {
+        var queue = queues.remove(sessionId);
+        if (queue != null) {
+            _drop(queue.close());
+        }
+    }
+
+    /**
+     * 放入一条文本信息。
+     *
+     * @param sessionId session id
+     * @param payload 信息内容，用于判断优先级
+     * @param parser 解析信息，由工作线程调用
+     */
+    public void submit(String sessionId, String payload, Supplier<OnebotFrame> parser) {
+        _submit(sessionId, OnebotIngestClassifier.classify(payload), parser, () -> {});
+    }
+
+    /**
+     * 放入一条字节信息。
+     *
+     * @param sessionId session id
+     * @param buffer 信息内容，用于判断优先级
+     * @param length 有效字节数
+     * @param parser 解析信息，由工作线程调用
+     * @param onDrop 信息被丢弃时的回调，例如归还缓冲区
+     */
+    public void submit(String sessionId, byte[] buffer, int length, Supplier<OnebotFrame> parser, Runnable onDrop) {
+        _submit(sessionId, OnebotIngestClassifier.classify(buffer, length), parser, onDrop);
+    }
+
+    /**
+     * 注册接收队列的指标。
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("teaneko.onebot.ingest.depth", this, OnebotIngestService::getDepth)
+                .description("所有 session 的接收队列中等待处理的信息数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.ingest.frames", receivedCount, LongAdder::sum)
+                .tag("result", "received")
+                .description("收到的信息数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.ingest.frames", droppedCount, LongAdder::sum)
+                .tag("result", "dropped")
+                .description("因为队列已满或者连接关闭被丢弃的信息数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.ingest.frames", coalescedCount, LongAdder::sum)
+                .tag("result", "coalesced")
+                .description("被新的心跳替换的信息数量")
+                .register(registry);
+        FunctionTimer.builder("teaneko.onebot.ingest.latency", this,
+                        service -> service.processedCount.sum(),
+                        service -> service.processedNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("信息从收到到解析并推送事件的耗时，包括在队列中等待的时间")
+                .register(registry);
+    }
+
+    /**
+     * 获取所有 session 的接收队列中等待处理的信息数量。
+     *
+     * @return 等待数量
+     */
+    public int getDepth() {
+        int depth = 0;
+        for (var queue : queues.values()) {
+            depth += queue.getDepth();
+        }
+        return depth;
+    }
+
+    private void _submit(String sessionId,
+                         OnebotIngestClassifier.Classification classification,
+                         Supplier<OnebotFrame> parser,
+                         Runnable onDrop) {
+        receivedCount.increment();
+        var queue = queues.get(sessionId);
+        var item = new OnebotIngestQueue.Item(classification.priority(), classification.heartbeat(),
+                System.nanoTime(), parser, onDrop);
+        if (queue == null) {
+            _drop(item);
+            return;
+        }
+        if (item.priority() == OnebotIngestQueue.Priority.HIGH) {
+            // API 响应不进入队列
+            virtualExecutor.execute(() -> _handle(queue, item, -1));
+            return;
+        }
+        OnebotIngestQueue.OfferResult result;
+        try {
+            result = queue.offer(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            _drop(item);
+            return;
+        }
+        var dropped = result.dropped();
+        if (dropped == null) {
+            return;
+        }
+        if (result.coalesced()) {
+            coalescedCount.increment();
+            dropped.onDrop().run();
+            return;
+        }
+        _drop(dropped);
+        if (logger.isDebugEnabled()) {
+            logger.debug(TAG, "session %s 的接收队列已满，丢弃一条 %s 优先级的信息"
+                    .formatted(sessionId, dropped.priority()));
+        }
+    }
+
+    /// 工作线程：从队列中取出信息并处理，队列关闭后退出
+    private void _work(OnebotIngestQueue queue) {
+        while (true) {
+            OnebotIngestQueue.Taken taken;
+            try {
+                taken = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (taken == null) {
+                return;
+            }
+            _handle(queue, taken.item(), taken.sequence());
+        }
+    }
+
+    /**
+     * 解析一条信息并按照编号顺序登记。
+     * 解析在各个工作线程中并行进行，只有同一个 scope 的处理是串行的。
+     * 有序的信息登记后工作线程不等待它完成，只有等待前面的信息登记、或者 in-flight 名额用完时工作线程才阻塞
+     * （见 {@link OnebotIngestQueue#admit}）；这样事件链中等待 API 响应的请求不会占住工作线程。
+     * 其他信息由工作线程直接处理。
+     *
+     * @param queue 所属队列
+     * @param item 信息
+     * @param sequence 取出的编号；小于 0 表示没有经过队列，不需要登记
+     */
+    private void _handle(OnebotIngestQueue queue, OnebotIngestQueue.Item item, long sequence) {
+        var processor = queue.getProcessor();
+        OnebotFrame frame = null;
+        Object key = null;
+        try {
+            frame = item.parser().get();
+            frame.setReceivedNanos(item.receivedAt());
+            key = ordered && sequence >= 0 ? _scope(frame) : null;
+        } catch (Throwable e) {
+            logger.error(TAG, "消息解析异常: " + e.getMessage(), e);
+        }
+        var parsed = frame;
+        // 无论是否解析成功都要登记，否则后面的信息会一直等待
+        var done = sequence < 0 ? null : queue.admit(sequence, key, () -> process(processor, parsed, processTimeoutMs));
+        if (done != null) {
+            done.whenComplete((ignored, error) -> _complete(queue, item, error));
+            return;
+        }
+        if (parsed == null) {
+            return;
+        }
+        try {
+            process(processor, parsed, processTimeoutMs).join();
+            _complete(queue, item, null);
+        } catch (CompletionException e) {
+            _complete(queue, item, e);
+        } catch (Throwable e) {
+            logger.error(TAG, "消息处理异常: " + e.getMessage(), e);
+            _complete(queue, item, null);
+        }
+    }
+
+    /**
+     * 记录一条信息处理完成。事件链中的异常已经由 TaskFuture 报告，这里只记录超时。
+     *
+     * @param queue 所属队列
+     * @param item 信息
+     * @param error 处理的异常；没有时为 null
+     */
+    private void _complete(OnebotIngestQueue queue, OnebotIngestQueue.Item item, Throwable error) {
+        processedCount.increment();
+        processedNanos.add(System.nanoTime() - item.receivedAt());
+        var cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            logger.warn(TAG, "session %s 的信息处理超过 %d ms，不再等待并取消还没有开始的后续处理"
+                    .formatted(queue.getSessionId(), processTimeoutMs));
+        }
+    }
+
+    /**
+     * 处理一条信息。超时后取消信息还没有开始的后续处理（见 {@link OnebotFrame#cancel()}），
+     * 并以 {@link TimeoutException} 完成，释放 scope 让后面的信息继续处理。
+     * 取消在返回的 future 完成之前执行，所以同一个 scope 的下一条信息开始时，超时信息的后续处理已经不会再开始。
+     * 包内可见，用于测试。
+     *
+     * @param processor 处理器
+     * @param frame 信息
+     * @param timeoutMs 超时时间
+     * @return 处理完成的 future
+     */
+    static CompletableFuture<?> process(Function<OnebotFrame, CompletableFuture<?>> processor,
+                                        OnebotFrame frame,
+                                        long timeoutMs) {
+        return processor.apply(frame)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    if (error instanceof TimeoutException) {
+                        frame.cancel();
+                    }
+                });
+    }
+
+    /// 丢弃多条信息
+    private void _drop(Iterable<OnebotIngestQueue.Item> items) {
+        for (var item : items) {
+            _drop(item);
+        }
+    }
+
+    /// 丢弃一条信息
+    private void _drop(OnebotIngestQueue.Item item) {
+        droppedCount.increment();
+        item.onDrop().run();
+    }
+
+    /**
+     * 获取需要有序处理的 scope：群消息和群通知为群号，私聊消息等为用户 ID；meta_event 和 API 响应不需要有序处理。
+     *
+     * @param frame 解析后的信息
+     * @return scope；不需要有序处理时返回 null
+     */
+    private static Object _scope(OnebotFrame frame) {
+        var postType = frame.text("post_type");
+        if (postType == null || postType.equals("meta_event")) {
+            return null;
+        }
+        var tree = frame.getTree();
+        var groupId = tree.get("group_id");
+        if (groupId != null && !groupId.isNull()) {
+            return new Scope(true, groupId.asLong());
+        }
+        var userId = tree.get("user_id");
+        if (userId != null && !userId.isNull()) {
+            return new Scope(false, userId.asLong());
+        }
+        return null;
+    }
+
+    /**
+     * 有序处理的 scope。
+     *
+     * @param group true 表示群号，false 表示用户 ID
+     * @param id 群号或用户 ID
+     */
+    private record Scope(boolean group, long id) {}
+}
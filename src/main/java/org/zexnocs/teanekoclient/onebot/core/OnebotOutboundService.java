@@ -0,0 +1,221 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.zexnocs.teanekocore.actuator.task.TaskDelayScheduler;
+import org.zexnocs.teanekocore.logger.ILogger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * onebot 发送服务。
+ * 每个 session 一个 {@link OnebotOutboundWriter}，发送消息时只需要放入各个发送器的无锁队列；
+ * 同一条消息发送到多个 session 时共享同一个 {@link TextMessage}。
+ * <p>
+ * 可以按照发送目标（群、私聊）限制发送频率，避免被平台风控，例如：
+ * <pre>
+ * tea-neko.onebot.send.rate-per-second=1
+ * tea-neko.onebot.send.burst=5
+ * </pre>
+ * rate-per-second 小于等于 0 时不限流，默认为 0。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Service
+public class OnebotOutboundService implements MeterBinder {
+    private static final String TAG = "Onebot WebSocket Server";
+
+    /// session id → 发送器
+    private final ConcurrentHashMap<String, OnebotOutboundWriter> writers = new ConcurrentHashMap<>();
+
+    /// 虚拟线程池
+    private final ExecutorService virtualExecutor;
+
+    /// 延迟调度器，用于在令牌恢复时唤醒发送器
+    private final TaskDelayScheduler taskDelayScheduler;
+
+    /// logger
+    private final ILogger logger;
+
+    /// 每个目标的令牌上限
+    @Getter
+    private final int burst;
+
+    /// 每个令牌恢复需要的纳秒数；小于等于 0 表示不限流
+    @Getter
+    private final long nanosPerToken;
+
+    /// 发送成功的消息数量
+    private final LongAdder sentCount = new LongAdder();
+
+    /// 发送失败的消息数量
+    private final LongAdder failedCount = new LongAdder();
+
+    /// 因为 session 关闭而丢弃的消息数量
+    private final LongAdder droppedCount = new LongAdder();
+
+    /// 被限流延后发送的消息数量
+    private final LongAdder throttledCount = new LongAdder();
+
+    /// 从提交到写出的总耗时（纳秒）
+    private final LongAdder sentNanos = new LongAdder();
+
+    @Autowired
+    public OnebotOutboundService(ExecutorService virtualExecutor,
+                                 TaskDelayScheduler taskDelayScheduler,
+                                 ILogger logger,
+                                 @Value("${tea-neko.onebot.send.rate-per-second:0}") double ratePerSecond,
+                                 @Value("${tea-neko.onebot.send.burst:5}") int burst) {
+        this.virtualExecutor = virtualExecutor;
+        this.taskDelayScheduler = taskDelayScheduler;
+        this.logger = logger;
+        this.burst = Math.max(1, burst);
+        this.nanosPerToken = ratePerSecond > 0 ? (long) (1_000_000_000L / ratePerSecond) : 0;
+    }
+
+    /**
+     * 为 session 创建发送器。
+     *
+     * @param session session，应该是线程安全的装饰后的 session
+     * @param onFailure 写入失败时的回调，一般用于移除 session
+     */
+    public void open(WebSocketSession session, Consumer<WebSocketSession> onFailure) {
+        var old = writers.put(session.getId(), new OnebotOutboundWriter(session, this, onFailure));
+        if (old != null) {
+            old.close();
+        }
+    }
+
+    /**
+     * 关闭 session 的发送器，丢弃还没有发送的消息。
+     *
+     * @param sessionId session id
+     */
+    public void close(String sessionId) {
+        var writer = writers.remove(sessionId);
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * 发送消息到所有 session。
+     *
+     * @param message 消息
+     * @param target 发送目标，用于限流；为 null 表示不限流
+     * @return 提交到的 session 数量
+     */
+    public int send(String message, String target) {
+        if (writers.isEmpty()) {
+            return 0;
+        }
+        var outbound = new OnebotOutboundWriter.Outbound(new TextMessage(message), target, System.nanoTime());
+        int count = 0;
+        for (var writer : writers.values()) {
+            writer.offer(outbound);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 是否开启了限流。
+     *
+     * @return true 表示开启
+     */
+    public boolean isRateLimited() {
+        return nanosPerToken > 0;
+    }
+
+    /**
+     * 获取所有 session 等待发送的消息数量。
+     *
+     * @return 消息数量
+     */
+    public int getDepth() {
+        int depth = 0;
+        for (var writer : writers.values()) {
+            depth += writer.getDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * 注册发送的指标。
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("teaneko.onebot.send.depth", this, OnebotOutboundService::getDepth)
+                .description("所有 session 等待发送的消息数量，包括被限流的消息")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.send.messages", sentCount, LongAdder::sum)
+                .tag("result", "sent")
+                .description("发送成功的消息数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.send.messages", failedCount, LongAdder::sum)
+                .tag("result", "failed")
+                .description("发送失败的消息数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.send.messages", droppedCount, LongAdder::sum)
+                .tag("result", "dropped")
+                .description("因为 session 关闭而丢弃的消息数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.onebot.send.messages", throttledCount, LongAdder::sum)
+                .tag("result", "throttled")
+                .description("被限流延后发送的消息数量")
+                .register(registry);
+        FunctionTimer.builder("teaneko.onebot.send.latency", this,
+                        service -> service.sentCount.sum(),
+                        service -> service.sentNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("消息从提交到写入 session 的耗时，包括排队和限流等待的时间")
+                .register(registry);
+    }
+
+    /// 在虚拟线程中执行发送器的清空任务
+    void execute(Runnable task) {
+        virtualExecutor.execute(task);
+    }
+
+    /// 在指定时间后唤醒发送器，唤醒在虚拟线程中执行，不占用时间轮的调度线程
+    void wakeAfter(OnebotOutboundWriter writer, long delayMs) {
+        taskDelayScheduler.schedule(writer::schedule, delayMs, virtualExecutor);
+    }
+
+    void onSent(OnebotOutboundWriter.Outbound outbound) {
+        sentCount.increment();
+        sentNanos.add(System.nanoTime() - outbound.enqueuedAt());
+    }
+
+    void onThrottled() {
+        throttledCount.increment();
+    }
+
+    void onDropped(OnebotOutboundWriter.Outbound outbound) {
+        droppedCount.increment();
+    }
+
+    void onFailed(OnebotOutboundWriter writer, OnebotOutboundWriter.Outbound outbound, Exception e) {
+        failedCount.increment();
+        var session = writer.getSession();
+        logger.error(TAG, "发送消息到 session %s 失败: %s".formatted(session.getId(), e.getMessage()), e);
+        writer.getOnFailure().accept(session);
+    }
+}
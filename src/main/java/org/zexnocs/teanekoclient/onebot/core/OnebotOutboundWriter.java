@@ -0,0 +1,290 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import lombok.Getter;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 单个 session 的发送器。
+ * 发送线程只把消息放入无锁队列；同一时间最多只有一个虚拟线程在清空队列并依次写入 session，
+ * 一次突发的多条消息在同一次清空中连续写出，不再为每条消息创建一个任务。
+ * <p>
+ * 对有发送目标（群、私聊）的消息按照目标进行令牌桶限流：超出频率的消息留在目标自己的等待队列中，
+ * 不阻塞其他目标的消息，并在令牌恢复时由 {@link OnebotOutboundService} 重新唤醒发送器。
+ * <p>
+ * 除了 {@link #offer(Outbound)} 和 {@link #getDepth()} 之外的状态只由正在清空队列的线程访问。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotOutboundWriter {
+    /// 等待限流的目标数量超过这个值时，清理令牌已满的目标
+    private static final int MAX_IDLE_BUCKETS = 1024;
+
+    /// session
+    @Getter
+    private final WebSocketSession session;
+
+    /// 所属服务
+    private final OnebotOutboundService service;
+
+    /// 写入失败时的回调
+    @Getter
+    private final Consumer<WebSocketSession> onFailure;
+
+    /// 新提交的消息
+    private final ConcurrentLinkedQueue<Outbound> inbox = new ConcurrentLinkedQueue<>();
+
+    /// 未完成的清空请求数量；从 0 变为 1 的线程负责启动清空
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /// 等待发送的消息数量，包括被限流的消息
+    private final AtomicInteger depth = new AtomicInteger();
+
+    /// 发送目标 → 被限流的消息
+    private final Map<String, ArrayDeque<Outbound>> throttled = new HashMap<>();
+
+    /// 发送目标 → 令牌桶
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    /// 已经安排的唤醒时间，System.nanoTime()；0 表示没有
+    private long wakeAt;
+
+    /// 是否已经关闭
+    private volatile boolean closed;
+
+    OnebotOutboundWriter(WebSocketSession session,
+                         OnebotOutboundService service,
+                         Consumer<WebSocketSession> onFailure) {
+        this.session = session;
+        this.service = service;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * 提交一条消息。
+     *
+     * @param outbound 消息
+     */
+    void offer(Outbound outbound) {
+        if (closed) {
+            service.onDropped(outbound);
+            return;
+        }
+        depth.incrementAndGet();
+        inbox.offer(outbound);
+        schedule();
+    }
+
+    /**
+     * 请求清空队列。已经有线程在清空时只增加计数，由该线程再清空一次。
+     */
+    void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            service.execute(this::_drain);
+        }
+    }
+
+    /**
+     * 关闭发送器，丢弃还没有发送的消息。
+     */
+    void close() {
+        closed = true;
+        schedule();
+    }
+
+    /**
+     * 获取等待发送的消息数量。
+     *
+     * @return 消息数量，包括被限流的消息
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /// 清空队列，直到清空期间没有新的请求
+    private void _drain() {
+        int missed = 1;
+        while (true) {
+            if (closed) {
+                _discard();
+            } else {
+                _sendReady();
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /// 发送所有不受限流影响的消息，并为被限流的消息安排唤醒
+    private void _sendReady() {
+        var now = System.nanoTime();
+        // 先发送令牌已经恢复的目标中等待最久的消息，保证同一个目标的顺序
+        if (!throttled.isEmpty()) {
+            var iterator = throttled.entrySet().iterator();
+            while (iterator.hasNext()) {
+                var entry = iterator.next();
+                var bucket = _bucket(entry.getKey(), now);
+                var queue = entry.getValue();
+                while (!queue.isEmpty() && bucket.tryAcquire(now)) {
+                    _write(queue.pollFirst());
+                }
+                if (queue.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+        Outbound outbound;
+        while ((outbound = inbox.poll()) != null) {
+            var target = outbound.target();
+            if (target != null && service.isRateLimited()) {
+                var queue = throttled.get(target);
+                if (queue != null || !_bucket(target, now).tryAcquire(now)) {
+                    if (queue == null) {
+                        queue = new ArrayDeque<>();
+                        throttled.put(target, queue);
+                    }
+                    queue.addLast(outbound);
+                    service.onThrottled();
+                    continue;
+                }
+            }
+            _write(outbound);
+        }
+        _scheduleWake(now);
+        if (buckets.size() > MAX_IDLE_BUCKETS) {
+            buckets.entrySet().removeIf(entry ->
+                    !throttled.containsKey(entry.getKey()) && entry.getValue().isFull(now));
+        }
+    }
+
+    /// 为最早恢复令牌的被限流目标安排唤醒
+    private void _scheduleWake(long now) {
+        if (throttled.isEmpty()) {
+            return;
+        }
+        long earliest = Long.MAX_VALUE;
+        for (var target : throttled.keySet()) {
+            earliest = Math.min(earliest, buckets.get(target).nextTokenAt());
+        }
+        // 已经安排了更早的唤醒时不重复安排
+        if (wakeAt != 0 && wakeAt - now > 0 && wakeAt - earliest <= 0) {
+            return;
+        }
+        wakeAt = earliest;
+        service.wakeAfter(this, Math.max(1, (earliest - now + 999_999) / 1_000_000));
+    }
+
+    /// 写出一条消息
+    private void _write(Outbound outbound) {
+        depth.decrementAndGet();
+        if (!session.isOpen()) {
+            service.onDropped(outbound);
+            return;
+        }
+        try {
+            session.sendMessage(outbound.message());
+            service.onSent(outbound);
+        } catch (IOException | RuntimeException e) {
+            service.onFailed(this, outbound, e);
+        }
+    }
+
+    /// 丢弃所有还没有发送的消息
+    private void _discard() {
+        Outbound outbound;
+        while ((outbound = inbox.poll()) != null) {
+            depth.decrementAndGet();
+            service.onDropped(outbound);
+        }
+        for (var queue : throttled.values()) {
+            for (var item : queue) {
+                depth.decrementAndGet();
+                service.onDropped(item);
+            }
+        }
+        throttled.clear();
+    }
+
+    /// 获取目标的令牌桶
+    private Bucket _bucket(String target, long now) {
+        var bucket = buckets.get(target);
+        if (bucket == null) {
+            bucket = new Bucket(service.getBurst(), service.getNanosPerToken(), now);
+            buckets.put(target, bucket);
+        }
+        return bucket;
+    }
+
+    /**
+     * 一条待发送的消息。
+     *
+     * @param message 消息，同一条消息发送到多个 session 时共享
+     * @param target 发送目标；为 null 表示不限流
+     * @param enqueuedAt 提交的时间，System.nanoTime()
+     */
+    record Outbound(TextMessage message, String target, long enqueuedAt) {}
+
+    /**
+     * 令牌桶，只由清空队列的线程访问。
+     */
+    private static final class Bucket {
+        /// 令牌上限
+        private final int burst;
+
+        /// 每个令牌恢复需要的纳秒数
+        private final long nanosPerToken;
+
+        /// 当前令牌数
+        private double tokens;
+
+        /// 上次补充令牌的时间
+        private long refilledAt;
+
+        Bucket(int burst, long nanosPerToken, long now) {
+            this.burst = burst;
+            this.nanosPerToken = nanosPerToken;
+            this.tokens = burst;
+            this.refilledAt = now;
+        }
+
+        /// 尝试取出一个令牌
+        boolean tryAcquire(long now) {
+            _refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        /// 令牌是否已满
+        boolean isFull(long now) {
+            _refill(now);
+            return tokens >= burst;
+        }
+
+        /// 下一个令牌恢复的时间
+        long nextTokenAt() {
+            return refilledAt + (long) ((1 - tokens) * nanosPerToken);
+        }
+
+        private void _refill(long now) {
+            var elapsed = now - refilledAt;
+            if (elapsed > 0) {
+                tokens = Math.min(burst, tokens + (double) elapsed / nanosPerToken);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.zexnocs.teanekoclient.onebot.data.send;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * 发送参数数据接口。
  *
@@ -22,4 +24,15 @@ public interface ISendParamsData<R> {
      * @return 反应数据的类型。
      */
     Class<R> getResponseDataType();
+
+    /**
+     * 获取发送目标，用于按照目标限制发送频率。
+     * 例如群消息返回 "group:群号"，私聊消息返回 "private:用户 ID"。
+     *
+     * @return 发送目标；为 null 表示不限制频率
+     */
+    @JsonIgnore
+    default String getSendTarget() {
+        return null;
+    }
 }
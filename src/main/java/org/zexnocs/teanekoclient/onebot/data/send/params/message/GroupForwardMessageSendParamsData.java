@@ -1,5 +1,6 @@
 package org.zexnocs.teanekoclient.onebot.data.send.params.message;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -57,6 +58,12 @@ public class GroupForwardMessageSendParamsData implements ISendParamsData<Onebot
         return ACTION;
     }
 
+    @Override
+    @JsonIgnore
+    public String getSendTarget() {
+        return "group:" + groupId;
+    }
+
     /**
      * 获取反应数据的类型。
      *
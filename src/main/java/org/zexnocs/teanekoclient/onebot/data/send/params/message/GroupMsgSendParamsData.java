@@ -1,5 +1,6 @@
 package org.zexnocs.teanekoclient.onebot.data.send.params.message;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,6 +31,12 @@ public class GroupMsgSendParamsData implements IMessageSendParamsData {
         return ACTION;
     }
 
+    @Override
+    @JsonIgnore
+    public String getSendTarget() {
+        return "group:" + groupId;
+    }
+
     /**
      * 使用新的消息列表创建一个新的参数数据对象。
      *
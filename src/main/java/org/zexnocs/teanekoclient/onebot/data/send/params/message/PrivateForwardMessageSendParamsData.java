@@ -1,5 +1,6 @@
 package org.zexnocs.teanekoclient.onebot.data.send.params.message;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
@@ -61,6 +62,12 @@ public class PrivateForwardMessageSendParamsData implements ISendParamsData<Oneb
         return ACTION;
     }
 
+    @Override
+    @JsonIgnore
+    public String getSendTarget() {
+        return "private:" + userId;
+    }
+
     /**
      * 获取反应数据的类型。
      *
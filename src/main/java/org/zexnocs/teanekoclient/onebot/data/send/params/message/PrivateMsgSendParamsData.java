@@ -1,5 +1,6 @@
 package org.zexnocs.teanekoclient.onebot.data.send.params.message;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,6 +32,12 @@ public class PrivateMsgSendParamsData implements IMessageSendParamsData {
         return ACTION;
     }
 
+    @Override
+    @JsonIgnore
+    public String getSendTarget() {
+        return "private:" + userId;
+    }
+
     /**
      * 使用新的消息列表创建一个新的参数数据对象。
      *
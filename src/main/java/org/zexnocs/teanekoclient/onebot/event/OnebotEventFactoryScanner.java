@@ -0,0 +1,297 @@
+package org.zexnocs.teanekoclient.onebot.event;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.zexnocs.teanekoclient.onebot.event.meta.MetaEvent;
+import org.zexnocs.teanekoclient.onebot.event.notice.NoticeReceiveEvent;
+import org.zexnocs.teanekoclient.onebot.event.request.RequestEvent;
+import org.zexnocs.teanekocore.event.core.Event;
+import org.zexnocs.teanekocore.event.core.EventHandlerScanner;
+import org.zexnocs.teanekocore.event.interfaces.IEvent;
+import org.zexnocs.teanekocore.logger.ILogger;
+import org.zexnocs.teanekocore.reload.AbstractScanner;
+import org.zexnocs.teanekocore.utils.scanner.inerfaces.IClassScanner;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * onebot post 事件的构造表。
+ * 扫描时为每个 onebot 事件类生成直接调用构造器的工厂，并按照 post_type 和下级类型
+ * （notice_type / meta_event_type / request_type）建立路由表，收到信息时只需要查表和直接调用构造器。
+ * <p>
+ * 中间事件（{@link NoticeReceiveEvent}、{@link MetaEvent}、{@link RequestEvent}）没有监听器时，
+ * 直接构造下级事件，跳过中间事件的处理；有监听器时仍然先推送中间事件。
+ * <p>
+ * 所有 onebot 事件类的 key 必须以 {@link PostReceiveEvent#SUFFIX_KEY} 或下级类型前缀开头，
+ * 并且有 {@code OnebotFrame, OnebotEventShareComponent} 的 public 构造器。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Service
+public class OnebotEventFactoryScanner extends AbstractScanner {
+    /// post_type → 下级类型的字段和 key 前缀
+    private static final Map<String, Detail> DETAILS = Map.of(
+            NoticeReceiveEvent.KEY.substring(PostReceiveEvent.SUFFIX_KEY.length()),
+            new Detail(NoticeReceiveEvent.TYPE_FIELD, NoticeReceiveEvent.PARSE_SUFFIX_KEY),
+            MetaEvent.KEY.substring(PostReceiveEvent.SUFFIX_KEY.length()),
+            new Detail(MetaEvent.TYPE_FIELD, MetaEvent.PARSE_SUFFIX_KEY),
+            RequestEvent.KEY.substring(PostReceiveEvent.SUFFIX_KEY.length()),
+            new Detail(RequestEvent.TYPE_FIELD, RequestEvent.PARSE_SUFFIX_KEY));
+
+    /// post_type → 路由
+    private volatile Map<String, PostRoute> postRoutes = Map.of();
+
+    private final IClassScanner iClassScanner;
+    private final EventHandlerScanner eventHandlerScanner;
+    private final ILogger logger;
+
+    @Autowired
+    public OnebotEventFactoryScanner(IClassScanner iClassScanner,
+                                     EventHandlerScanner eventHandlerScanner,
+                                     ILogger logger) {
+        this.iClassScanner = iClassScanner;
+        this.eventHandlerScanner = eventHandlerScanner;
+        this.logger = logger;
+    }
+
+    /**
+     * 根据 post_type 构造下一个事件。
+     *
+     * @param frame 解析后的信息
+     * @param component 共享组件
+     * @return 下一个事件；无法构造时返回 null
+     */
+    public IEvent<?> routePost(OnebotFrame frame, OnebotEventShareComponent component) {
+        var postType = frame.text("post_type");
+        if (postType == null) {
+            logger.errorWithReport(PostReceiveEvent.class.getSimpleName(),
+                    "未找到 post_type 字段: %s".formatted(frame.getRaw()));
+            return null;
+        }
+        var route = postRoutes.get(postType);
+        if (route == null) {
+            logger.warn(PostReceiveEvent.class.getSimpleName(),
+                    "未找到 post_type 对应的事件: %s\n信息: %s".formatted(postType, frame.getRaw()));
+            return null;
+        }
+        // 中间事件没有监听器时直接构造下级事件
+        if (route.details() != null
+                && (route.factory() == null || eventHandlerScanner.getEventHandlerList(route.eventClass()).isEmpty())) {
+            return _routeDetail(route, frame, component);
+        }
+        if (route.factory() == null) {
+            return null;
+        }
+        return _create(route.factory(), route.eventClass(), frame, component);
+    }
+
+    /**
+     * 中间事件根据下级类型构造下一个事件。
+     *
+     * @param postType 中间事件对应的 post_type
+     * @param frame 解析后的信息
+     * @param component 共享组件
+     * @return 下一个事件；无法构造时返回 null
+     */
+    public IEvent<?> routeDetail(String postType, OnebotFrame frame, OnebotEventShareComponent component) {
+        var route = postRoutes.get(postType);
+        if (route == null || route.details() == null) {
+            return null;
+        }
+        return _routeDetail(route, frame, component);
+    }
+
+    /**
+     * 扫描所有 onebot 事件类，生成构造器工厂和路由表。
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected synchronized void _scan() {
+        // key → 事件类
+        var classes = new HashMap<String, Class<? extends IEvent>>();
+        var map = iClassScanner.getClassesWithAnnotationAndInterface(Event.class, IEvent.class);
+        for (var entry : map.entrySet()) {
+            var key = entry.getValue().value();
+            if (key != null && _isOnebotKey(key)) {
+                classes.put(key, entry.getKey());
+            }
+        }
+        var routes = new HashMap<String, PostRoute>();
+        for (var entry : classes.entrySet()) {
+            var key = entry.getKey();
+            if (!key.startsWith(PostReceiveEvent.SUFFIX_KEY)) {
+                continue;
+            }
+            var postType = key.substring(PostReceiveEvent.SUFFIX_KEY.length());
+            var eventClass = entry.getValue();
+            var detail = DETAILS.get(postType);
+            Map<String, DetailRoute> details = null;
+            if (detail != null) {
+                // 下级类型 → 工厂
+                var detailMap = new HashMap<String, DetailRoute>();
+                for (var detailEntry : classes.entrySet()) {
+                    if (detailEntry.getKey().startsWith(detail.prefix())) {
+                        var factory = _compile(detailEntry.getValue());
+                        if (factory != null) {
+                            detailMap.put(detailEntry.getKey().substring(detail.prefix().length()),
+                                    new DetailRoute(factory, detailEntry.getValue()));
+                        }
+                    }
+                }
+                details = Map.copyOf(detailMap);
+            }
+            routes.put(postType, new PostRoute(_compile(eventClass), eventClass, detail, details));
+        }
+        postRoutes = Map.copyOf(routes);
+    }
+
+    /**
+     * 清理原始数据的方法。
+     */
+    @Override
+    protected void _clear() {
+        postRoutes = Map.of();
+    }
+
+    /// 根据下级类型构造事件
+    private IEvent<?> _routeDetail(PostRoute route, OnebotFrame frame, OnebotEventShareComponent component) {
+        var field = route.detail().field();
+        var type = frame.text(field);
+        if (type == null) {
+            // 一般不会出现这种情况
+            logger.errorWithReport(route.eventClass().getSimpleName(),
+                    "未找到 %s 字段：%s".formatted(field, frame.getRaw()));
+            return null;
+        }
+        var detailRoute = route.details().get(type);
+        if (detailRoute == null) {
+            logger.warn(route.eventClass().getSimpleName(),
+                    "未找到 %s 对应的事件: %s\n信息: %s".formatted(field, type, frame.getRaw()));
+            return null;
+        }
+        return _create(detailRoute.factory(), detailRoute.eventClass(), frame, component);
+    }
+
+    /// 调用工厂构造事件，构造失败时报告并返回 null
+    @SuppressWarnings("rawtypes")
+    private IEvent<?> _create(OnebotEventFactory factory,
+                              Class<? extends IEvent> eventClass,
+                              OnebotFrame frame,
+                              OnebotEventShareComponent component) {
+        try {
+            return factory.create(frame, component);
+        } catch (Exception e) {
+            logger.errorWithReport(this.getClass().getSimpleName(),
+                    "构造事件失败: %s\n信息: %s".formatted(eventClass.getName(), frame.getRaw()), e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成直接调用构造器的工厂；无法生成时使用反射构造。
+     *
+     * @param eventClass 事件类
+     * @return 工厂；事件类没有对应的构造器时返回 null
+     */
+    @SuppressWarnings("rawtypes")
+    private OnebotEventFactory _compile(Class<? extends IEvent> eventClass) {
+        Constructor<? extends IEvent> constructor;
+        try {
+            constructor = eventClass.getConstructor(OnebotFrame.class, OnebotEventShareComponent.class);
+        } catch (NoSuchMethodException e) {
+            logger.errorWithReport(this.getClass().getSimpleName(),
+                    "事件类 %s 没有 OnebotFrame, OnebotEventShareComponent 类型参数的 public 构造器"
+                            .formatted(eventClass.getName()));
+            return null;
+        }
+        try {
+            var lookup = MethodHandles.privateLookupIn(eventClass, MethodHandles.lookup());
+            var handle = lookup.unreflectConstructor(constructor);
+            var site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "create",
+                    MethodType.methodType(OnebotEventFactory.class),
+                    MethodType.methodType(IEvent.class, OnebotFrame.class, OnebotEventShareComponent.class),
+                    handle,
+                    handle.type());
+            return (OnebotEventFactory) site.getTarget().invoke();
+        } catch (Throwable e) {
+            logger.debug(this.getClass().getSimpleName(),
+                    "事件类 %s 的构造器无法编译成直接调用，将使用反射构造".formatted(eventClass.getName()), e);
+            return (frame, component) -> {
+                try {
+                    return constructor.newInstance(frame, component);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause() instanceof Exception cause ? cause : ex;
+                }
+            };
+        }
+    }
+
+    /// key 是否属于 onebot post 事件
+    private static boolean _isOnebotKey(String key) {
+        if (key.startsWith(PostReceiveEvent.SUFFIX_KEY)) {
+            return true;
+        }
+        for (var detail : DETAILS.values()) {
+            if (key.startsWith(detail.prefix())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 构造 onebot 事件的工厂。
+     */
+    @FunctionalInterface
+    public interface OnebotEventFactory {
+        /**
+         * 构造事件。
+         *
+         * @param frame 解析后的信息
+         * @param component 共享组件
+         * @return 事件
+         * @throws Exception 构造失败时抛出，例如数据类绑定失败
+         */
+        IEvent<?> create(OnebotFrame frame, OnebotEventShareComponent component) throws Exception;
+    }
+
+    /**
+     * 下级类型的描述。
+     *
+     * @param field 下级类型的字段名
+     * @param prefix 下级事件 key 的前缀
+     */
+    private record Detail(String field, String prefix) {}
+
+    /**
+     * 下级事件的路由。
+     *
+     * @param factory 工厂
+     * @param eventClass 事件类
+     */
+    @SuppressWarnings("rawtypes")
+    private record DetailRoute(OnebotEventFactory factory, Class<? extends IEvent> eventClass) {}
+
+    /**
+     * post_type 的路由。
+     *
+     * @param factory 中间事件或事件的工厂；为 null 表示无法构造
+     * @param eventClass 事件类
+     * @param detail 下级类型的描述；为 null 表示没有下级事件
+     * @param details 下级类型 → 路由；为 null 表示没有下级事件
+     */
+    @SuppressWarnings("rawtypes")
+    private record PostRoute(OnebotEventFactory factory,
+                             Class<? extends IEvent> eventClass,
+                             Detail detail,
+                             Map<String, DetailRoute> details) {}
+}
@@ -49,6 +49,9 @@ public class OnebotEventShareComponent {
     /// debugger service
     public final OnebotDebuggerService onebotDebuggerService;
 
+    /// onebot 事件构造表
+    public final OnebotEventFactoryScanner onebotEventFactoryScanner;
+
     @Autowired
     public OnebotEventShareComponent(ILogger logger,
                                      EventScanner eventScanner,
@@ -58,7 +61,8 @@ public class OnebotEventShareComponent {
                                      IEventService iEventService,
                                      TeaNekoCommandConverter teaNekoCommandConverter,
                                      IFileConfigService iFileConfigService,
-                                     OnebotDebuggerService onebotDebuggerService) {
+                                     OnebotDebuggerService onebotDebuggerService,
+                                     OnebotEventFactoryScanner onebotEventFactoryScanner) {
         this.logger = logger;
         this.eventScanner = eventScanner;
         this.objectMapper = customObjectMapper;
@@ -68,5 +72,6 @@ public class OnebotEventShareComponent {
         this.teaNekoCommandConverter = teaNekoCommandConverter;
         this.iFileConfigService = iFileConfigService;
         this.onebotDebuggerService = onebotDebuggerService;
+        this.onebotEventFactoryScanner = onebotEventFactoryScanner;
     }
 }
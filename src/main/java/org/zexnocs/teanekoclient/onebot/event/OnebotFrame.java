@@ -0,0 +1,159 @@
+package org.zexnocs.teanekoclient.onebot.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 一条 onebot 信息，只解析一次。
+ * 收到信息时解析成 JSON 树，之后判断类型和绑定数据类都从这棵树中读取，
+ * 不再对原始字符串重复进行正则匹配或者重新解析。
+ * <p>
+ * 从字节解析的信息不保留原始字符串，只有在日志等需要原文的场景调用 {@link #getRaw()} 时才从 JSON 树生成。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public final class OnebotFrame {
+    /// 原始信息字符串，用于日志和需要原文的场景；从字节解析时第一次读取才生成
+    private String raw;
+
+    /// 解析后的 JSON 树
+    @Getter
+    private final JsonNode tree;
+
+    /// 收到信息的时间，System.nanoTime()；0 表示未知。用于统计指令从收到到开始执行的耗时
+    @Getter
+    @Setter
+    private long receivedNanos;
+
+    /// 事件链中在其他任务里继续处理的部分；为 null 表示没有
+    private CompletableFuture<?> deferred;
+
+    /// 是否已经取消：处理超时后不再开始后续的处理
+    private volatile boolean cancelled;
+
+    private OnebotFrame(String raw, JsonNode tree) {
+        this.raw = raw;
+        this.tree = tree;
+    }
+
+    /**
+     * 解析一条信息。
+     *
+     * @param raw 原始信息字符串
+     * @param mapper object mapper
+     * @return 解析后的信息
+     */
+    public static OnebotFrame parse(String raw, ObjectMapper mapper) {
+        return new OnebotFrame(raw, mapper.readTree(raw));
+    }
+
+    /**
+     * 直接从 UTF-8 字节解析一条信息，不生成中间字符串。
+     * 解析完成后 JSON 树不再引用 buffer，调用者可以立即复用 buffer。
+     *
+     * @param buffer 字节缓冲区
+     * @param offset 起始位置
+     * @param length 字节数
+     * @param mapper object mapper
+     * @return 解析后的信息
+     */
+    public static OnebotFrame parse(byte[] buffer, int offset, int length, ObjectMapper mapper) {
+        return new OnebotFrame(null, mapper.readTree(buffer, offset, length));
+    }
+
+    /**
+     * 获取原始信息字符串。
+     *
+     * @return 原始信息；从字节解析时由 JSON 树生成
+     */
+    public String getRaw() {
+        var raw = this.raw;
+        if (raw == null) {
+            // 字符串不可变，多个线程同时生成也只是重复计算
+            raw = tree.toString();
+            this.raw = raw;
+        }
+        return raw;
+    }
+
+    /**
+     * 是否包含某个字段。
+     *
+     * @param field 字段名
+     * @return true 表示包含
+     */
+    public boolean has(String field) {
+        return tree.has(field);
+    }
+
+    /**
+     * 获取顶层的字符串字段。
+     *
+     * @param field 字段名
+     * @return 字段值；字段不存在或为 null 时返回 null
+     */
+    @Nullable
+    public String text(String field) {
+        var node = tree.get(field);
+        return node == null || node.isNull() ? null : node.asString();
+    }
+
+    /**
+     * 将整条信息绑定成数据类，直接从 JSON 树中读取，不重新解析字符串。
+     *
+     * @param type 数据类
+     * @param mapper object mapper
+     * @param <T> 数据类型
+     * @return 数据对象
+     */
+    public <T> T bind(Class<T> type, ObjectMapper mapper) {
+        return mapper.treeToValue(tree, type);
+    }
+
+    /**
+     * 登记事件链中在其他任务里继续处理的部分，例如消息事件需要先查询用户再推送下一个事件。
+     * 按 scope 有序处理时，会等待这些部分完成后才处理同一个 scope 的下一条信息。
+     *
+     * @param future 继续处理的部分完成的 future
+     */
+    public synchronized void defer(CompletableFuture<?> future) {
+        deferred = deferred == null ? future : CompletableFuture.allOf(deferred, future);
+    }
+
+    /**
+     * 获取所有登记的继续处理部分完成的 future。
+     *
+     * @return future；没有登记时返回已经完成的 future
+     */
+    public synchronized CompletableFuture<?> deferred() {
+        return deferred == null ? CompletableFuture.completedFuture(null) : deferred;
+    }
+
+    /**
+     * 取消这条信息的后续处理。
+     * 已经开始执行的监听器不会被中断，还没有开始的后续处理在开始前检查 {@link #isCancelled()} 并跳过。
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * 是否已经取消后续处理。
+     *
+     * @return true 表示已经取消
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public String toString() {
+        return getRaw();
+    }
+}
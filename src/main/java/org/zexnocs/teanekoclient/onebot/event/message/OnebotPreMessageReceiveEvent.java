@@ -3,11 +3,15 @@ package org.zexnocs.teanekoclient.onebot.event.message;
 import org.zexnocs.teanekoclient.onebot.data.receive.message.OnebotMessageData;
 import org.zexnocs.teanekoclient.onebot.data.receive.message.OnebotRawMessageData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekoclient.onebot.event.PostReceiveEvent;
 import org.zexnocs.teanekoclient.onebot.utils.OnebotMessageDataConvertUtils;
+import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskResult;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 在发送 {@link OnebotMessageReceiveEvent} 之前触发的事件，主要用于构造 {@link OnebotMessageData}。
  *
@@ -24,30 +28,40 @@ public class OnebotPreMessageReceiveEvent extends AbstractEvent<OnebotRawMessage
      */
     private final OnebotEventShareComponent eventShareComponent;
 
+    /// 解析后的原始信息
+    private final OnebotFrame frame;
+
     /**
-     * 接收原始信息字符串和共享组件。
-     * @param information 原始信息字符串
+     * 接收解析后的原始信息和共享组件。
+     * @param frame 解析后的原始信息
      * @param eventShareComponent 共享组件
      */
-    public OnebotPreMessageReceiveEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(OnebotRawMessageData.fromJson(information, eventShareComponent.objectMapper));
+    public OnebotPreMessageReceiveEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(OnebotRawMessageData.class, eventShareComponent.objectMapper));
         this.eventShareComponent = eventShareComponent;
+        this.frame = frame;
     }
 
     /**
      * 在通知处理器之后调用的方法。
      * 尝试解析原始信息字符串，得到 onebotMessageData 和 teaNekoMessageData 的解析结果，
      * 并构造一个新的 OnebotMessageReceiveEvent 事件，并将其推送。
+     * 推送的过程登记到 frame 中，使同一个 scope 的消息按照收到的顺序处理。
+     * 如果在获取用户之前 frame 已经因为处理超时被取消，则不再推送事件，避免在后面的消息之后乱序处理。
      */
     @Override
     public void _afterNotify() {
         var data = getData();
-        this.eventShareComponent.iTeaUserService
+        var future = this.eventShareComponent.iTeaUserService
                 .getOrCreate(this.eventShareComponent.onebotTeaNekoClient, String.valueOf(data.getUserId()))
-                .thenComposeTask(uuid ->
-                        this.eventShareComponent.iEventService
+                .thenCompose(uuid -> frame.isCancelled()
+                        ? CompletableFuture.<ITaskResult<Void>>completedFuture(null)
+                        : this.eventShareComponent.iEventService
                                 .pushEventWithFuture(new OnebotMessageReceiveEvent(data,
-                                        OnebotMessageDataConvertUtils.Instance.parse(data, eventShareComponent, uuid))))
+                                        OnebotMessageDataConvertUtils.Instance.parse(data, eventShareComponent, uuid,
+                                                frame.getReceivedNanos())))
+                                .getFuture())
                 .finish();
+        frame.defer(future);
     }
 }
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.meta;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.meta.HeartbeatMetaEventData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class HeartbeatMetaEvent extends AbstractEvent<HeartbeatMetaEventData> {
     public static final String KEY = MetaEvent.PARSE_SUFFIX_KEY + "heartbeat";
 
-    public HeartbeatMetaEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(HeartbeatMetaEventData.fromJson(information, eventShareComponent.objectMapper));
+    public HeartbeatMetaEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(HeartbeatMetaEventData.class, eventShareComponent.objectMapper));
     }
 }
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.meta;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.meta.LifecycleMetaEventData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class LifecycleMetaEvent extends AbstractEvent<LifecycleMetaEventData> {
     public static final String KEY = MetaEvent.PARSE_SUFFIX_KEY + "lifecycle";
 
-    public LifecycleMetaEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(LifecycleMetaEventData.fromJson(information, eventShareComponent.objectMapper));
+    public LifecycleMetaEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(LifecycleMetaEventData.class, eventShareComponent.objectMapper));
     }
 }
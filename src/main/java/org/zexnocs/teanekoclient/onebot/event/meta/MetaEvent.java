@@ -1,17 +1,16 @@
 package org.zexnocs.teanekoclient.onebot.event.meta;
 
+import lombok.Getter;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekoclient.onebot.event.PostReceiveEvent;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 import org.zexnocs.teanekocore.event.interfaces.IEvent;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * post 事件的 meta 二级事件类。
- * <p>所有下级 meta 事件都必须有 {@code String, OnebotEventShareComponent } 的构造器。
+ * <p>所有下级 meta 事件都必须有 {@code OnebotFrame, OnebotEventShareComponent} 的构造器。
  *
  * @author zExNocs
  * @date 2026/03/01
@@ -24,44 +23,37 @@ public class MetaEvent extends AbstractEvent<String> {
 
     public final static String PARSE_SUFFIX_KEY = "meta_event.";
 
-    private final static Pattern eventTypePattern = Pattern.compile("\"meta_event_type\"\\s*:\\s*\"(.*?)\"");
+    /// 下级类型的字段名
+    public final static String TYPE_FIELD = "meta_event_type";
 
     /// 共享数据类
     private final OnebotEventShareComponent eventShareComponent;
 
-    public MetaEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(information);
+    /// 解析后的原始信息
+    @Getter
+    private final OnebotFrame frame;
+
+    public MetaEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        // 原始字符串在第一次读取时才生成
+        super(null);
+        this.frame = frame;
         this.eventShareComponent = eventShareComponent;
     }
 
+    /**
+     * 获取原始信息字符串。没有被 setData 替换时从 frame 中读取。
+     *
+     * @return 原始信息字符串
+     */
+    @Override
+    public String getData() {
+        var data = super.getData();
+        return data != null ? data : frame.getRaw();
+    }
+
     @Override
     public IEvent<?> _getNextEvent() {
-        var information = getData();
-        Matcher matcher = eventTypePattern.matcher(information);
-        if (matcher.find()) {
-            String eventType = matcher.group(1);
-            String parserKey = PARSE_SUFFIX_KEY + eventType;
-            var eventClazz = eventShareComponent.eventScanner.getEventType(parserKey);
-            if (eventClazz == null) {
-                eventShareComponent.logger.warn(MetaEvent.class.getName(),
-                        "未找到 meta_event_type 对应的事件: %s\n信息: %s"
-                                .formatted(eventType, information));
-                return null;
-            }
-            // 尝试构造事件
-            try {
-                return eventClazz.getConstructor(String.class, OnebotEventShareComponent.class)
-                        .newInstance(information, eventShareComponent);
-            } catch (Exception e) {
-                eventShareComponent.logger.errorWithReport(MetaEvent.class.getName(),
-                        "构造事件失败，该事件类的构造函数不接受 String, OnebotEventShareComponent 类型的参数: %s\n信息: %s"
-                                .formatted(eventClazz.getName(), information), e);
-                return null;
-            }
-        } else {
-            // 一般不会出现这种情况
-            eventShareComponent.logger.errorWithReport(MetaEvent.class.getName(), "未找到 meta_event_type 字段：" + information);
-            return null;
-        }
+        return eventShareComponent.onebotEventFactoryScanner.routeDetail(
+                KEY.substring(PostReceiveEvent.SUFFIX_KEY.length()), frame, eventShareComponent);
     }
 }
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.BotOnlineNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class BotOnlineNoticeEvent extends AbstractEvent<BotOnlineNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "bot_online";
 
-    public BotOnlineNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(BotOnlineNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public BotOnlineNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(BotOnlineNoticeData.class, eventShareComponent.objectMapper));
     }
 }
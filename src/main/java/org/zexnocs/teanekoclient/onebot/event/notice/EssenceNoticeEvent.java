@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.EssenceNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class EssenceNoticeEvent extends AbstractEvent<EssenceNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "essence";
 
-    public EssenceNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(EssenceNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public EssenceNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(EssenceNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupAdminNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupAdminNoticeEvent extends AbstractEvent<GroupAdminNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_admin";
 
-    public GroupAdminNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupAdminNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupAdminNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupAdminNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
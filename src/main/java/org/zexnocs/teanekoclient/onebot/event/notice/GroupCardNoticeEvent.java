@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupCardNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupCardNoticeEvent extends AbstractEvent<GroupCardNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_card";
 
-    public GroupCardNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupCardNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupCardNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupCardNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupDecreaseNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -17,7 +18,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupDecreaseNoticeEvent extends AbstractEvent<GroupDecreaseNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_decrease";
 
-    public GroupDecreaseNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupDecreaseNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupDecreaseNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupDecreaseNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupIncreaseNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupIncreaseNoticeEvent extends AbstractEvent<GroupIncreaseNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_increase";
 
-    public GroupIncreaseNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupIncreaseNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupIncreaseNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupIncreaseNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
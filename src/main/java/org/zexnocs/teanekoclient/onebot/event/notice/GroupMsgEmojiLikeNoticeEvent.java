@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupMsgEmojiLikeNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupMsgEmojiLikeNoticeEvent extends AbstractEvent<GroupMsgEmojiLikeNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_msg_emoji_like";
 
-    public GroupMsgEmojiLikeNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupMsgEmojiLikeNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupMsgEmojiLikeNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupMsgEmojiLikeNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupRecallNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupRecallNoticeEvent extends AbstractEvent<GroupRecallNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_recall";
 
-    public GroupRecallNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupRecallNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupRecallNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupRecallNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
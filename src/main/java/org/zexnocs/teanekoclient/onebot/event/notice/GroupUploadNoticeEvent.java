@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.GroupUploadNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupUploadNoticeEvent extends AbstractEvent<GroupUploadNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_upload";
 
-    public GroupUploadNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupUploadNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupUploadNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupUploadNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.NotifyNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class NotifyNoticeReceiveEvent extends AbstractEvent<NotifyNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "notify";
 
-    public NotifyNoticeReceiveEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(NotifyNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public NotifyNoticeReceiveEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(NotifyNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.OfflineFileNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class OfflineFileNoticeEvent extends AbstractEvent<OfflineFileNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "offline_file";
 
-    public OfflineFileNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(OfflineFileNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public OfflineFileNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(OfflineFileNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.notice;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.notice.ReactionNoticeData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class ReactionNoticeEvent extends AbstractEvent<ReactionNoticeData> {
     public static final String KEY = NoticeReceiveEvent.PARSE_SUFFIX_KEY + "reaction";
 
-    public ReactionNoticeEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(ReactionNoticeData.fromJson(information, eventShareComponent.objectMapper));
+    public ReactionNoticeEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(ReactionNoticeData.class, eventShareComponent.objectMapper));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.request;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.request.GroupRequestData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class GroupRequestEvent extends AbstractEvent<GroupRequestData> {
     public static final String KEY = RequestEvent.PARSE_SUFFIX_KEY + "group";
 
-    public GroupRequestEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(GroupRequestData.fromJson(information, eventShareComponent.objectMapper));
+    public GroupRequestEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(GroupRequestData.class, eventShareComponent.objectMapper));
     }
 }
@@ -2,6 +2,7 @@ package org.zexnocs.teanekoclient.onebot.event.request;
 
 import org.zexnocs.teanekoclient.onebot.data.receive.request.PrivateRequestData;
 import org.zexnocs.teanekoclient.onebot.event.OnebotEventShareComponent;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
 import org.zexnocs.teanekocore.event.AbstractEvent;
 import org.zexnocs.teanekocore.event.core.Event;
 
@@ -16,7 +17,7 @@ import org.zexnocs.teanekocore.event.core.Event;
 public class PrivateRequestEvent extends AbstractEvent<PrivateRequestData> {
     public static final String KEY = RequestEvent.PARSE_SUFFIX_KEY + "friend"; // 私聊请求事件
 
-    public PrivateRequestEvent(String information, OnebotEventShareComponent eventShareComponent) {
-        super(PrivateRequestData.fromJson(information, eventShareComponent.objectMapper));
+    public PrivateRequestEvent(OnebotFrame frame, OnebotEventShareComponent eventShareComponent) {
+        super(frame.bind(PrivateRequestData.class, eventShareComponent.objectMapper));
     }
 }
@@ -32,11 +32,13 @@ public enum OnebotMessageDataConvertUtils {
      * @param onebotData 原始的 onebot 消息数据
      * @param eventShareComponent 共享组件
      * @param uuid 发送事件的用户的 UUID
+     * @param receivedNanos 收到信息的时间，System.nanoTime()；0 表示未知
      * @return {@link Pair }<{@link OnebotRawMessageData }, {@link OnebotMessageData }>
      */
     public OnebotMessageData parse(OnebotRawMessageData onebotData,
                                    OnebotEventShareComponent eventShareComponent,
-                                   UUID uuid) {
+                                   UUID uuid,
+                                   long receivedNanos) {
         // 构造 teaNekoData，使用 onebotData 中的字段进行转换
         var userData = getTeaNekoUserData(onebotData, getTeaNekoMessageType(onebotData),
                 uuid, eventShareComponent.onebotDebuggerService);
@@ -50,6 +52,7 @@ public enum OnebotMessageDataConvertUtils {
                 .userData(userData)
                 .client(client)
                 .onebotRawMessageData(onebotData)
+                .receivedNanos(receivedNanos)
                 .scopeId(eventShareComponent.teaNekoCommandConverter.getScopeId(messageType, userData, client))
                 .build();
     }
@@ -12,6 +12,7 @@ import org.zexnocs.teanekocore.actuator.task.state.TaskCreatedState;
 import org.zexnocs.teanekocore.actuator.task.state.TaskExecutedState;
 import org.zexnocs.teanekocore.framework.state.LockStateMachine;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +45,10 @@ public class Task<T> extends LockStateMachine<ITaskState> implements ITask<T> {
     /// 重新尝试次数
     private final AtomicInteger retryCount = new AtomicInteger(0);
 
+    /// 当前这次重试的等待间隔，由退避策略计算
+    @Getter
+    private volatile Duration currentRetryInterval = null;
+
     /// 被订阅的 future
     @Getter
     private final TaskFuture<ITaskResult<T>> future;
@@ -95,13 +100,17 @@ public class Task<T> extends LockStateMachine<ITaskState> implements ITask<T> {
         }
 
         // 判断是不是已经达到了最大重试次数
-        if (retryCount.incrementAndGet() > config.getMaxRetries()) {
+        int attempt = retryCount.incrementAndGet();
+        if (attempt > config.getMaxRetries()) {
             // 达到上限，不能重试了
             return false;
         }
 
-        // 更新上次重试的时间
-        lastRetryTime = Instant.now().plus(config.getRetryInterval());
+        // 根据退避策略计算重试间隔，并更新上次重试的时间
+        var interval = config.getRetryBackoff().nextInterval(config.getRetryInterval(),
+                config.getMaxRetryInterval(), currentRetryInterval, attempt);
+        currentRetryInterval = interval;
+        lastRetryTime = Instant.now().plus(interval);
         return true;
     }
 
@@ -115,6 +124,16 @@ public class Task<T> extends LockStateMachine<ITaskState> implements ITask<T> {
         return currentTime.isAfter(lastRetryTime.plus(config.getExpirationDuration()));
     }
 
+    /**
+     * 获取任务的过期时间点：上次重试时间 + 过期时间。
+     *
+     * @return 过期时间点
+     */
+    @Override
+    public Instant getExpirationTime() {
+        return lastRetryTime.plus(config.getExpirationDuration());
+    }
+
     /**
      * 获取当前重试次数，以便于记录日志
      *
@@ -94,12 +94,26 @@ public class TaskConfig<T> implements ITaskConfig<T> {
 
     /**
      * 自动重试的间隔时间
-     * 每次重试之间的间隔时间
+     * 每次重试之间的间隔时间；使用退避策略时作为基础间隔
      * 默认立刻重试，即 0
      */
     @Builder.Default
     private final Duration retryInterval = Duration.ZERO;
 
+    /**
+     * 重试间隔的退避策略
+     * 默认固定间隔
+     */
+    @Builder.Default
+    private final TaskRetryBackoff retryBackoff = TaskRetryBackoff.FIXED;
+
+    /**
+     * 重试间隔的上限
+     * null 表示不限制
+     */
+    @Builder.Default
+    private final Duration maxRetryInterval = null;
+
     // ----------- task stage related -----------
 
     /**
@@ -0,0 +1,374 @@
+package org.zexnocs.teanekocore.actuator.task;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.zexnocs.teanekocore.logger.ILogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 任务的延迟提交调度器，基于哈希时间轮。
+ * 替代每个任务一个 {@code CompletableFuture.delayedExecutor(...)}：
+ * 1. 延迟小于等于 0 时直接在调用线程中提交给 executor，不经过任何调度线程。
+ * 2. 其他延迟放入时间轮，同一个 tick 到期的任务在一次遍历中一起提交。
+ *    超过一圈的延迟记录剩余圈数，不需要额外的数据结构。
+ * 3. 取消的任务会在下一个 tick 从时间轮中移除，不会一直留在桶里。
+ * 4. 没有等待中的任务时调度线程会一直休眠，直到有新的任务加入。
+ * 5. 到期的任务由虚拟线程提交给 executor，调度线程不会执行 executor 中同步运行的代码（例如拒绝回调），
+ *    避免阻塞时间轮。
+ * <p>
+ * 时间轮的精度为一个 tick，任务最多比预期晚一个 tick 提交，不会提前提交。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Service
+public class TaskDelayScheduler {
+    /// 每个 tick 最多从加入队列中转移的任务数量，避免加入过快时饿死到期任务
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    /// tick 时长，单位纳秒
+    private final long tickNanos;
+
+    /// 时间轮
+    private final Bucket[] wheel;
+
+    /// 时间轮大小 - 1，用于取模
+    private final int mask;
+
+    /// 等待加入时间轮的任务
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+
+    /// 等待从时间轮中移除的任务
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+
+    /// 还没有到期或取消的任务数量
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    /// 时间轮的起始时间
+    private final long startNanos = System.nanoTime();
+
+    /// 调度线程
+    private final Thread worker;
+
+    /// logger
+    private final ILogger logger;
+
+    /// 提交到期任务的虚拟线程池
+    private final ExecutorService virtualExecutor;
+
+    /// 是否正在运行
+    private volatile boolean running = true;
+
+    /// 当前 tick，只在调度线程中访问
+    private long tick;
+
+    @Autowired
+    public TaskDelayScheduler(ExecutorService virtualExecutor,
+                              ILogger logger,
+                              @Value("${tea-neko.task.delay.tick-ms:5}") long tickMs,
+                              @Value("${tea-neko.task.delay.wheel-size:512}") int wheelSize) {
+        this.virtualExecutor = virtualExecutor;
+        this.logger = logger;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        // 时间轮大小取 2 的幂
+        int size = Integer.highestOneBit(Math.clamp(wheelSize, 16, 1 << 16) - 1) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = Thread.ofPlatform()
+                .name("task-delay-wheel")
+                .daemon(true)
+                .start(this::_run);
+    }
+
+    /**
+     * 在指定延迟后将任务提交给 executor。
+     *
+     * @param task 任务
+     * @param delayMs 延迟，单位毫秒；小于等于 0 时立即在调用线程中提交
+     * @param executor 执行任务的 executor
+     * @return 用于取消的句柄
+     */
+    public Timeout schedule(Runnable task, long delayMs, Executor executor) {
+        if (delayMs <= 0 || !running) {
+            executor.execute(task);
+            return Timeout.DONE;
+        }
+        var deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        var timeout = new Timeout(this, task, executor, deadline);
+        pendingAdds.add(timeout);
+        // 调度线程可能因为没有任务而休眠，唤醒它
+        if (pendingCount.getAndIncrement() == 0) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    /**
+     * 获取还没有到期或取消的任务数量。
+     *
+     * @return 等待中的任务数量
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 停止调度线程，之后提交的任务会立即执行。
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * 调度线程的主循环。
+     */
+    private void _run() {
+        while (running) {
+            if (pendingCount.get() == 0) {
+                // 没有任务时一直休眠；醒来后从当前时间对应的 tick 继续，跳过的桶都是空的
+                LockSupport.park(this);
+                tick = (System.nanoTime() - startNanos) / tickNanos;
+                continue;
+            }
+            long deadline = _waitForNextTick();
+            if (!running) {
+                break;
+            }
+            _processCancelled();
+            _transferTimeouts();
+            var due = wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+            _dispatch(due);
+        }
+    }
+
+    /**
+     * 等待到下一个 tick 的结束时间。
+     *
+     * @return 下一个 tick 的结束时间，相对于 startNanos
+     */
+    private long _waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long remaining = deadline - (System.nanoTime() - startNanos);
+            if (remaining <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+        return deadline;
+    }
+
+    /**
+     * 将新加入的任务放入对应的桶。
+     */
+    private void _transferTimeouts() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            var timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 已经过期的任务放入当前 tick 的桶
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * 从桶中移除已经取消的任务。
+     */
+    private void _processCancelled() {
+        Timeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 提交同一个 tick 到期的任务。
+     * executor 本身就是虚拟线程池时直接提交，否则在虚拟线程中调用 executor。
+     */
+    private void _dispatch(List<Timeout> due) {
+        if (due == null) {
+            return;
+        }
+        for (var timeout : due) {
+            try {
+                if (timeout.executor == virtualExecutor) {
+                    virtualExecutor.execute(timeout.task);
+                } else {
+                    virtualExecutor.execute(() -> _submit(timeout));
+                }
+            } catch (Throwable e) {
+                logger.errorWithReport(this.getClass().getSimpleName(), "提交延迟任务时发生异常", e);
+            }
+        }
+    }
+
+    /**
+     * 将到期的任务提交给它的 executor。
+     */
+    private void _submit(Timeout timeout) {
+        try {
+            timeout.executor.execute(timeout.task);
+        } catch (Throwable e) {
+            logger.errorWithReport(this.getClass().getSimpleName(), "提交延迟任务时发生异常", e);
+        }
+    }
+
+    /**
+     * 延迟任务的句柄。
+     */
+    public static final class Timeout {
+        /// 已经提交或不需要调度的句柄
+        static final Timeout DONE = new Timeout(null, null, null, 0);
+
+        static final int INIT = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private final TaskDelayScheduler scheduler;
+        private final Runnable task;
+        private final Executor executor;
+
+        /// 到期时间，相对于 startNanos
+        private final long deadline;
+
+        /// 状态
+        private final AtomicInteger state;
+
+        /// 剩余圈数，只在调度线程中访问
+        private long remainingRounds;
+
+        /// 所在的桶和链表指针，只在调度线程中访问
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TaskDelayScheduler scheduler, Runnable task, Executor executor, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+            this.state = new AtomicInteger(scheduler == null ? EXPIRED : INIT);
+        }
+
+        /**
+         * 取消任务。
+         *
+         * @return true 表示成功取消；false 表示任务已经提交或已经取消
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            scheduler.pendingCount.decrementAndGet();
+            scheduler.pendingCancels.add(this);
+            return true;
+        }
+
+        /**
+         * 是否已经取消。
+         *
+         * @return true 表示已经取消
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * 时间轮中的一个桶，双向链表，只在调度线程中访问。
+     */
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * 取出到期的任务，其余任务的剩余圈数减一。
+         *
+         * @param deadline 当前 tick 的结束时间
+         * @return 到期的任务；没有时返回 null
+         */
+        List<Timeout> expire(long deadline) {
+            List<Timeout> due = null;
+            var timeout = head;
+            while (timeout != null) {
+                var next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (timeout.state.compareAndSet(Timeout.INIT, Timeout.EXPIRED)) {
+                        pendingCount.decrementAndGet();
+                        if (due == null) {
+                            due = new ArrayList<>();
+                        }
+                        due.add(timeout);
+                    }
+                } else if (timeout.state.get() == Timeout.CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return due;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            var next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -4,10 +4,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.actuator.task.api.SetTaskStage;
 import org.zexnocs.teanekocore.actuator.task.exception.TaskIllegalStateException;
+import org.zexnocs.teanekocore.actuator.task.exception.TaskNoRetryRuntimeException;
 import org.zexnocs.teanekocore.actuator.task.exception.TaskNotFoundException;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITask;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskExecuteService;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskService;
+import org.zexnocs.teanekocore.actuator.task.lane.TaskLaneService;
 import org.zexnocs.teanekocore.actuator.task.state.TaskCreatedState;
 import org.zexnocs.teanekocore.actuator.task.state.TaskExecutedState;
 import org.zexnocs.teanekocore.actuator.task.state.TaskSubmittedState;
@@ -16,12 +18,13 @@ import org.zexnocs.teanekocore.utils.MethodCallableUtils;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 任务执行服务。
  * v4.0.8: 新增 AOP 处理 TaskStage namespace
+ * 任务按照 TaskStage namespace 在 {@link TaskLaneService} 的执行通道中执行。
  *
  * @author zExNocs
  * @date 2026/02/11
@@ -29,8 +32,11 @@ import java.util.concurrent.TimeUnit;
  */
 @Service
 public class TaskExecuteService implements ITaskExecuteService {
-    /// 虚拟线程池
-    private final ExecutorService virtualExecutor;
+    /// 执行通道服务
+    private final TaskLaneService taskLaneService;
+
+    /// 延迟调度器
+    private final TaskDelayScheduler taskDelayScheduler;
 
     /// logger
     private final ILogger logger;
@@ -42,11 +48,13 @@ public class TaskExecuteService implements ITaskExecuteService {
     private final ITaskService iTaskService;
 
     @Autowired
-    public TaskExecuteService(ExecutorService virtualExecutor,
+    public TaskExecuteService(TaskLaneService taskLaneService,
+                              TaskDelayScheduler taskDelayScheduler,
                               ILogger logger,
                               TaskStageScanner taskStageScanner,
                               ITaskService iTaskService) {
-        this.virtualExecutor = virtualExecutor;
+        this.taskLaneService = taskLaneService;
+        this.taskDelayScheduler = taskDelayScheduler;
         this.logger = logger;
         this.taskStageScanner = taskStageScanner;
         this.iTaskService = iTaskService;
@@ -71,20 +79,12 @@ public class TaskExecuteService implements ITaskExecuteService {
             return;
         }
         // 执行任务，间隔是 delayDuration
-        var future = CompletableFuture.runAsync(
-                () -> _executeTask(task, _getTaskStageChain(task)),
-                CompletableFuture.delayedExecutor(
-                        task.getConfig().getDelayDuration().toMillis(),
-                        TimeUnit.MILLISECONDS,
-                        virtualExecutor
-                )
-        );
-        task.setExecutingFuture(future);
+        _submit(task, task.getConfig().getDelayDuration().toMillis());
     }
 
     /**
      * 重试任务。由 RetryTaskService 调用。
-     * 最大区别是执行的间隔是 retryInterval，而不是 delayDuration。
+     * 最大区别是执行的间隔是退避策略计算出的重试间隔，而不是 delayDuration。
      *
      * @param task 任务
      */
@@ -106,16 +106,64 @@ public class TaskExecuteService implements ITaskExecuteService {
                             task.getCurrentState().getClass(), TaskCreatedState.class));
             return;
         }
-        // 执行任务，间隔是 retryInterval
-        var future = CompletableFuture.runAsync(
-                () -> _executeTask(task, _getTaskStageChain(task)),
-                CompletableFuture.delayedExecutor(
-                        task.getConfig().getRetryInterval().toMillis(),
-                        TimeUnit.MILLISECONDS,
-                        virtualExecutor
-                )
-        );
+        // 执行任务，间隔是退避策略计算出的重试间隔
+        var retryInterval = task.getCurrentRetryInterval();
+        _submit(task, retryInterval != null
+                ? retryInterval.toMillis()
+                : task.getConfig().getRetryInterval().toMillis());
+    }
+
+    /// 在延迟后将任务提交到执行通道；executingFuture 被取消时同时从延迟调度器中移除。
+    private void _submit(ITask<?> task, long delayMs) {
+        var future = new CompletableFuture<Void>();
+        // 先设置 future：延迟为 0 时任务可能在 schedule 返回前就已经执行
         task.setExecutingFuture(future);
+        var timeout = taskDelayScheduler.schedule(() -> {
+            if (future.isDone()) {
+                // 已经被取消
+                return;
+            }
+            try {
+                _executeTask(task, _getTaskStageChain(task));
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, delayMs, _getLaneExecutor(task));
+        if (delayMs > 0) {
+            future.whenComplete((result, throwable) -> {
+                if (future.isCancelled()) {
+                    timeout.cancel();
+                }
+            });
+        }
+    }
+
+    /// 获取任务所在执行通道的 Executor，队列已满时任务以不重试的异常完成。
+    private Executor _getLaneExecutor(ITask<?> task) {
+        var namespace = _getNamespace(task);
+        return runnable -> taskLaneService.execute(namespace, runnable, e -> _rejectTask(task, e));
+    }
+
+    /// 任务被执行通道拒绝，以不重试的异常完成任务。
+    private void _rejectTask(ITask<?> task, RejectedExecutionException e) {
+        logger.warn(this.getClass().getSimpleName(),
+                "任务：%s 被执行通道拒绝：%s".formatted(task.getConfig().getName(), e.getMessage()));
+        task.switchState(new TaskExecutedState());
+        try {
+            iTaskService.completeExceptionally(task.getKey(), new TaskNoRetryRuntimeException(e.getMessage(), e));
+        } catch (TaskNotFoundException ignore) {
+            // 任务已经过期了
+        }
+    }
+
+    /// 获取任务的 TaskStage namespace：优先使用 callable 上的 SetTaskStage 注解。
+    private String _getNamespace(ITask<?> task) {
+        var config = task.getConfig();
+        return Optional
+                .ofNullable(MethodCallableUtils.INSTANCE.getAnnotation(config.getCallable(), SetTaskStage.class))
+                .map(SetTaskStage::value)
+                .orElseGet(config::getTaskStageNamespace);
     }
 
     /// 构造任务的 stage chain。
@@ -125,11 +173,7 @@ public class TaskExecuteService implements ITaskExecuteService {
         var taskStages = config.getTaskStages();
         // 如果列表为 null，则尝试从命名空间中获取。
         if (taskStages == null) {
-            String namespace = Optional
-                    .ofNullable(MethodCallableUtils.INSTANCE.getAnnotation(config.getCallable(), SetTaskStage.class))
-                    .map(SetTaskStage::value)
-                    .orElseGet(config::getTaskStageNamespace);
-            taskStages = taskStageScanner.getTaskStages(namespace);
+            taskStages = taskStageScanner.getTaskStages(_getNamespace(task));
             config.setTaskStages(taskStages);
         }
         return new TaskStageChain(task, taskStages);
@@ -0,0 +1,85 @@
+package org.zexnocs.teanekocore.actuator.task;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 任务重试间隔的退避策略。
+ * 与 {@link TaskRetryStrategy} 配合使用：TaskRetryStrategy 决定"是否重试"，TaskRetryBackoff 决定"多久之后重试"。
+ * <p>
+ * 所有策略的间隔都不会超过 {@code maxRetryInterval}（为 null 时不限制）。
+ * 多个任务同时失败时（例如热点行的乐观锁冲突），固定间隔会让它们同时重试并再次冲突，
+ * 此时建议使用 {@link #DECORRELATED_JITTER} 将重试时间打散。
+ *
+ * @see TaskConfig#getRetryInterval()
+ * @see TaskConfig#getMaxRetryInterval()
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public enum TaskRetryBackoff {
+    /**
+     * 固定间隔：每次都等待 retryInterval。
+     */
+    FIXED {
+        @Override
+        long nextIntervalMillis(long baseMillis, long previousMillis, int attempt) {
+            return baseMillis;
+        }
+    },
+
+    /**
+     * 指数退避：第 n 次重试等待 retryInterval * 2^(n-1)。
+     */
+    EXPONENTIAL {
+        @Override
+        long nextIntervalMillis(long baseMillis, long previousMillis, int attempt) {
+            int shift = Math.clamp(attempt - 1, 0, 30);
+            return baseMillis > (Long.MAX_VALUE >> shift) ? Long.MAX_VALUE : baseMillis << shift;
+        }
+    },
+
+    /**
+     * 去相关抖动：在 [retryInterval, 上一次间隔 * 3] 之间随机选择。
+     * 保持指数增长的趋势，同时让同时失败的任务在不同的时间重试。
+     */
+    DECORRELATED_JITTER {
+        @Override
+        long nextIntervalMillis(long baseMillis, long previousMillis, int attempt) {
+            long upper = previousMillis > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : previousMillis * 3;
+            if (upper <= baseMillis) {
+                return baseMillis;
+            }
+            return ThreadLocalRandom.current().nextLong(baseMillis, upper + 1);
+        }
+    };
+
+    /**
+     * 计算未限制上限的重试间隔。
+     *
+     * @param baseMillis retryInterval，单位毫秒
+     * @param previousMillis 上一次的重试间隔，第一次重试时等于 baseMillis
+     * @param attempt 第几次重试，从 1 开始
+     * @return 重试间隔，单位毫秒
+     */
+    abstract long nextIntervalMillis(long baseMillis, long previousMillis, int attempt);
+
+    /**
+     * 计算下一次重试的间隔。
+     *
+     * @param retryInterval 基础重试间隔
+     * @param maxRetryInterval 重试间隔上限；为 null 表示不限制
+     * @param previousInterval 上一次的重试间隔；为 null 表示第一次重试
+     * @param attempt 第几次重试，从 1 开始
+     * @return 下一次重试的间隔
+     */
+    public Duration nextInterval(Duration retryInterval, Duration maxRetryInterval,
+                                 Duration previousInterval, int attempt) {
+        long base = retryInterval.toMillis();
+        long previous = previousInterval == null ? base : previousInterval.toMillis();
+        long interval = nextIntervalMillis(base, previous, attempt);
+        if (maxRetryInterval != null) {
+            interval = Math.min(interval, maxRetryInterval.toMillis());
+        }
+        return Duration.ofMillis(interval);
+    }
+}
@@ -0,0 +1,141 @@
+package org.zexnocs.teanekocore.actuator.task;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个任务阶段命名空间的重试预算。
+ * 使用令牌桶限制重试的数量：
+ * 1. 每次重试消耗 1 个令牌，令牌不足时放弃重试，直接以失败完成任务。
+ * 2. 每个成功完成的任务存入 ratio 个令牌，因此正常情况下重试数量不会超过成功数量的 ratio 倍。
+ * 3. 每秒固定补充 minPerSecond 个令牌，保证成功很少的命名空间也能重试。
+ * 令牌数量不会超过 capacity。失败率突然升高时令牌会被迅速耗尽，多余的重试被丢弃，避免重试风暴。
+ * 不启用时总是允许重试，只记录重试数量。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class TaskRetryBudget {
+    /// 令牌的精度：内部以 1/1000 个令牌为单位
+    private static final long SCALE = 1000;
+
+    /// 单次补充最多计算的时间，避免长时间空闲后溢出
+    private static final long MAX_REFILL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /// 是否启用预算
+    private final boolean enabled;
+
+    /// 令牌上限
+    private final long capacity;
+
+    /// 每个成功任务存入的令牌
+    private final long depositPerSuccess;
+
+    /// 每秒补充的令牌
+    private final long refillPerSecond;
+
+    /// 当前令牌
+    private final AtomicLong tokens;
+
+    /// 上次补充令牌的时间，只在 synchronized 中访问
+    private long lastRefillNanos = System.nanoTime();
+
+    /// 已经执行的重试数量
+    private final LongAdder retriedCount = new LongAdder();
+
+    /// 因为预算不足而放弃的重试数量
+    private final LongAdder shedCount = new LongAdder();
+
+    /**
+     * 构造重试预算。
+     *
+     * @param enabled 是否启用预算
+     * @param ratio 每个成功任务存入的令牌
+     * @param minPerSecond 每秒补充的令牌
+     * @param capacity 令牌上限，初始时令牌是满的
+     */
+    public TaskRetryBudget(boolean enabled, double ratio, double minPerSecond, double capacity) {
+        this.enabled = enabled;
+        this.depositPerSuccess = (long) (ratio * SCALE);
+        this.refillPerSecond = (long) (minPerSecond * SCALE);
+        this.capacity = Math.max(SCALE, (long) (capacity * SCALE));
+        this.tokens = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * 记录一个成功完成的任务。
+     */
+    public void recordSuccess() {
+        // 令牌已满时不写入，避免在成功的热路径上竞争
+        if (enabled && depositPerSuccess > 0 && tokens.get() < capacity) {
+            tokens.getAndUpdate(value -> Math.min(capacity, value + depositPerSuccess));
+        }
+    }
+
+    /**
+     * 尝试消耗一个令牌进行重试。
+     *
+     * @return true 表示允许重试；false 表示预算不足，应当放弃重试
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            retriedCount.increment();
+            return true;
+        }
+        _refill();
+        long value;
+        do {
+            value = tokens.get();
+            if (value < SCALE) {
+                shedCount.increment();
+                return false;
+            }
+        } while (!tokens.compareAndSet(value, value - SCALE));
+        retriedCount.increment();
+        return true;
+    }
+
+    /**
+     * 获取当前的令牌数量。
+     *
+     * @return 令牌数量
+     */
+    public double getTokens() {
+        return (double) tokens.get() / SCALE;
+    }
+
+    /**
+     * 获取已经执行的重试数量。
+     *
+     * @return 重试数量
+     */
+    public long getRetriedCount() {
+        return retriedCount.sum();
+    }
+
+    /**
+     * 获取因为预算不足而放弃的重试数量。
+     *
+     * @return 放弃的重试数量
+     */
+    public long getShedCount() {
+        return shedCount.sum();
+    }
+
+    /**
+     * 按照经过的时间补充令牌。
+     */
+    private synchronized void _refill() {
+        if (refillPerSecond <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long elapsed = Math.min(now - lastRefillNanos, MAX_REFILL_NANOS);
+        long add = elapsed * refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        if (add > 0) {
+            lastRefillNanos = now;
+            tokens.getAndUpdate(value -> Math.min(capacity, value + add));
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package org.zexnocs.teanekocore.actuator.task;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.actuator.task.exception.TaskIllegalStateException;
 import org.zexnocs.teanekocore.actuator.task.exception.TaskNoRetryRuntimeException;
@@ -10,19 +15,62 @@ import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskExecuteService;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskResult;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskRetryService;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * retry: 对一个 Task 进行重试的服务。
  * 要求 Task 处于 Executed 状态才允许重试。
+ * <p>
+ * 每个任务阶段命名空间（{@code TaskConfig.taskStageNamespace}）有独立的 {@link TaskRetryBudget}，
+ * 失败率突然升高时会放弃超出预算的重试，避免重试风暴。
+ * 预算用于保护远程 API 等外部依赖；数据库等必须最终完成的命名空间可以通过
+ * {@code tea-neko.task.retry-budget.exempt-namespaces} 豁免，默认豁免 {@code general_database}。
+ * 同时作为 {@link MeterBinder} 注册每个命名空间的重试指标，标签 namespace 为命名空间。
  *
  * @author zExNocs
  * @date 2026/02/12
  */
 @Service
-public class TaskRetryService implements ITaskRetryService {
+public class TaskRetryService implements ITaskRetryService, MeterBinder {
     private final ITaskExecuteService iTaskExecuteService;
 
-    public TaskRetryService(ITaskExecuteService iTaskExecuteService) {
+    /// 命名空间 → 重试预算
+    private final Map<String, TaskRetryBudget> budgets = new ConcurrentHashMap<>();
+
+    /// 是否启用重试预算
+    private final boolean budgetEnabled;
+
+    /// 每个成功任务存入的令牌
+    private final double budgetRatio;
+
+    /// 每秒补充的令牌
+    private final double budgetMinPerSecond;
+
+    /// 令牌上限
+    private final double budgetCapacity;
+
+    /// 不受重试预算限制的命名空间
+    private final Set<String> exemptNamespaces;
+
+    /// 已绑定的指标注册表；为 null 表示还没有绑定
+    private volatile MeterRegistry meterRegistry;
+
+    public TaskRetryService(ITaskExecuteService iTaskExecuteService,
+                            @Value("${tea-neko.task.retry-budget.enabled:true}") boolean budgetEnabled,
+                            @Value("${tea-neko.task.retry-budget.ratio:0.2}") double budgetRatio,
+                            @Value("${tea-neko.task.retry-budget.min-per-second:10}") double budgetMinPerSecond,
+                            @Value("${tea-neko.task.retry-budget.capacity:100}") double budgetCapacity,
+                            @Value("${tea-neko.task.retry-budget.exempt-namespaces:general_database}")
+                            String[] exemptNamespaces) {
         this.iTaskExecuteService = iTaskExecuteService;
+        this.budgetEnabled = budgetEnabled;
+        this.budgetRatio = budgetRatio;
+        this.budgetMinPerSecond = budgetMinPerSecond;
+        this.budgetCapacity = budgetCapacity;
+        this.exemptNamespaces = Set.of(exemptNamespaces);
     }
 
     /**
@@ -38,6 +86,7 @@ public class TaskRetryService implements ITaskRetryService {
                                          @NonNull ITaskResult<?> result) throws TaskIllegalStateException {
         // 条件判断，如果 success 则不需要重试
         if(result.isSuccess()) {
+            _getBudget(task).recordSuccess();
             return false;
         }
 
@@ -46,7 +95,11 @@ public class TaskRetryService implements ITaskRetryService {
             return false;
         }
 
-        // 条件达成，尝试重试
+        // 条件达成，检查重试预算
+        if(!_tryAcquireBudget(task)) {
+            return false;
+        }
+        // 尝试重试
         if(task.switchToRetryState()) {
             iTaskExecuteService.__executeTaskRetry(task);
             return true;
@@ -77,7 +130,11 @@ public class TaskRetryService implements ITaskRetryService {
                 return false;
             }
         }
-        // 条件达成，尝试重试
+        // 条件达成，检查重试预算
+        if(!_tryAcquireBudget(task)) {
+            return false;
+        }
+        // 尝试重试
         if(task.switchToRetryState()) {
             iTaskExecuteService.__executeTaskRetry(task);
             return true;
@@ -85,4 +142,84 @@ public class TaskRetryService implements ITaskRetryService {
         // 达到重试上限 无法重试
         return false;
     }
+
+    /**
+     * 获取所有命名空间的重试预算。
+     *
+     * @return 命名空间 → 重试预算 的只读视图
+     */
+    public Map<String, TaskRetryBudget> getBudgets() {
+        return Collections.unmodifiableMap(budgets);
+    }
+
+    /**
+     * 为已有的命名空间注册指标，之后新增的命名空间会在创建预算时注册。
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(@org.jspecify.annotations.NonNull MeterRegistry registry) {
+        meterRegistry = registry;
+        budgets.forEach((namespace, budget) -> _bindBudget(registry, namespace, budget));
+    }
+
+    /**
+     * 尝试从任务所在命名空间的预算中消耗一次重试。
+     * 已经达到最大重试次数的任务不消耗预算，交给 switchToRetryState 判断。
+     *
+     * @param task 任务
+     * @return true 表示允许重试
+     */
+    private boolean _tryAcquireBudget(ITask<?> task) {
+        if (task.getCurrentRetryCount() >= task.getConfig().getMaxRetries()) {
+            return true;
+        }
+        return _getBudget(task).tryAcquire();
+    }
+
+    /**
+     * 获取任务所在命名空间的预算，不存在时创建。
+     * 豁免的命名空间使用不启用的预算，只记录重试数量。
+     *
+     * @param task 任务
+     * @return 重试预算
+     */
+    private TaskRetryBudget _getBudget(ITask<?> task) {
+        var namespace = task.getConfig().getTaskStageNamespace();
+        var budget = budgets.get(namespace);
+        if (budget != null) {
+            return budget;
+        }
+        return budgets.computeIfAbsent(namespace, key -> {
+            var enabled = budgetEnabled && !exemptNamespaces.contains(key);
+            var created = new TaskRetryBudget(enabled, budgetRatio, budgetMinPerSecond, budgetCapacity);
+            var registry = meterRegistry;
+            if (registry != null) {
+                _bindBudget(registry, key, created);
+            }
+            return created;
+        });
+    }
+
+    /**
+     * 为单个命名空间注册指标。
+     *
+     * @param registry 指标注册表
+     * @param namespace 命名空间
+     * @param budget 重试预算
+     */
+    private static void _bindBudget(MeterRegistry registry, String namespace, TaskRetryBudget budget) {
+        FunctionCounter.builder("teaneko.task.retries", budget, TaskRetryBudget::getRetriedCount)
+                .tags("namespace", namespace, "result", "retried")
+                .description("执行的重试数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.task.retries", budget, TaskRetryBudget::getShedCount)
+                .tags("namespace", namespace, "result", "shed")
+                .description("因为重试预算不足而放弃的重试数量")
+                .register(registry);
+        Gauge.builder("teaneko.task.retry.budget", budget, TaskRetryBudget::getTokens)
+                .tag("namespace", namespace)
+                .description("剩余的重试令牌")
+                .register(registry);
+    }
 }
@@ -10,6 +10,7 @@ import org.zexnocs.teanekocore.actuator.task.exception.TaskExpirationException;
 import org.zexnocs.teanekocore.actuator.task.exception.TaskIllegalStateException;
 import org.zexnocs.teanekocore.actuator.task.exception.TaskNotFoundException;
 import org.zexnocs.teanekocore.actuator.task.interfaces.*;
+import org.zexnocs.teanekocore.actuator.task.lane.TaskLaneService;
 import org.zexnocs.teanekocore.actuator.task.state.TaskFinishedState;
 import org.zexnocs.teanekocore.cache.ConcurrentMapCacheContainer;
 import org.zexnocs.teanekocore.cache.interfaces.ICacheData;
@@ -21,6 +22,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 /**
  * 任务服务。
@@ -35,13 +38,15 @@ public class TaskService implements ITaskService {
     private final ILogger logger;
     private final ITaskExecuteService iTaskExecuteService;
     private final ITaskRetryService iTaskRetryService;
+    private final TaskLaneService taskLaneService;
 
     @Lazy
     @Autowired
     public TaskService(ICacheService iCacheService,
                        ILogger logger,
                        ITaskExecuteService iTaskExecuteService,
-                       ITaskRetryService iTaskRetryService) {
+                       ITaskRetryService iTaskRetryService,
+                       TaskLaneService taskLaneService) {
         this.taskMap = ConcurrentMapCacheContainer.of(iCacheService,
                 Duration.ofSeconds(1),             // 清理间隔，1s
                 new TaskCacheFactory(),         // CacheData 工厂
@@ -49,6 +54,7 @@ public class TaskService implements ITaskService {
         this.logger = logger;
         this.iTaskExecuteService = iTaskExecuteService;
         this.iTaskRetryService = iTaskRetryService;
+        this.taskLaneService = taskLaneService;
     }
 
     /**
@@ -176,6 +182,18 @@ public class TaskService implements ITaskService {
         task.getFuture().completeExceptionally(exception);
     }
 
+    /**
+     * 在任务阶段命名空间对应的执行通道中直接执行一个轻量任务，不创建 Task。
+     *
+     * @param taskStage 任务阶段命名空间
+     * @param runnable 任务
+     * @param onReject 任务被拒绝或丢弃时的回调
+     */
+    @Override
+    public void execute(String taskStage, Runnable runnable, Consumer<RejectedExecutionException> onReject) {
+        taskLaneService.execute(taskStage, runnable, onReject);
+    }
+
     // ---------- Task 专用的 TaskCache -------------
     /// TaskCache 用于包装 Task 对象，使其能够存储在 taskMap 中。
     @AllArgsConstructor
@@ -200,6 +218,15 @@ public class TaskService implements ITaskService {
             // 什么也不做，因为访问不会改变过期时间。
         }
 
+        /**
+         * 更新缓存的访问时间
+         * @param currentTimeMillis 当前时间点，毫秒时间戳
+         */
+        @Override
+        public void updateAccessTimeMillis(long currentTimeMillis) {
+            // 什么也不做，因为访问不会改变过期时间。
+        }
+
         /**
          * 是否过期
          * @param currentTime 当前时间点
@@ -210,6 +237,15 @@ public class TaskService implements ITaskService {
             return task.isExpired(currentTime);
         }
 
+        /**
+         * 获取预计的过期时间点
+         * @return 任务的过期时间点
+         */
+        @Override
+        public Instant getExpirationTime() {
+            return task.getExpirationTime();
+        }
+
         /**
          * 过期后任务将会以异常形式完成。
          * @param currentTime 当前时间点
@@ -5,6 +5,7 @@ import org.zexnocs.teanekocore.actuator.task.exception.TaskIllegalStateException
 import org.zexnocs.teanekocore.actuator.task.state.ITaskState;
 import org.zexnocs.teanekocore.framework.state.IStateMachine;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -63,6 +64,13 @@ public interface ITask<T> extends IStateMachine<ITaskState> {
      */
     int getCurrentRetryCount();
 
+    /**
+     * 获取当前这次重试的等待间隔，由退避策略计算
+     *
+     * @return 重试间隔；还没有重试时为 null
+     */
+    Duration getCurrentRetryInterval();
+
     /**
      * 判断是否过期，过期任务将会以异常的形式完成。
      *
@@ -71,6 +79,13 @@ public interface ITask<T> extends IStateMachine<ITaskState> {
      */
     boolean isExpired(Instant currentTime);
 
+    /**
+     * 获取任务的过期时间点，用于缓存建立过期索引。
+     *
+     * @return 过期时间点；当前时间晚于该时间点时任务过期
+     */
+    Instant getExpirationTime();
+
     /**
      * 设置任务执行的线程 Future，用于观察或者取消任务执行。
      * @param future 任务执行的线程 Future
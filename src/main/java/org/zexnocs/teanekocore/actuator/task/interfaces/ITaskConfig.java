@@ -1,6 +1,7 @@
 package org.zexnocs.teanekocore.actuator.task.interfaces;
 
 import lombok.NonNull;
+import org.zexnocs.teanekocore.actuator.task.TaskRetryBackoff;
 import org.zexnocs.teanekocore.actuator.task.TaskRetryStrategy;
 import org.zexnocs.teanekocore.actuator.task.api.ITaskStage;
 import org.zexnocs.teanekocore.framework.function.MethodCallable;
@@ -83,6 +84,20 @@ public interface ITaskConfig<T> {
      */
     Duration getRetryInterval();
 
+    /**
+     * 获取重试间隔的退避策略
+     *
+     * @return {@link TaskRetryBackoff} 退避策略
+     */
+    TaskRetryBackoff getRetryBackoff();
+
+    /**
+     * 获取重试间隔的上限
+     *
+     * @return 重试间隔上限；null 表示不限制
+     */
+    Duration getMaxRetryInterval();
+
     /**
      * 获取最大保存时间
      *
@@ -9,6 +9,8 @@ import org.zexnocs.teanekocore.actuator.task.exception.TaskNotFoundException;
 import org.zexnocs.teanekocore.framework.function.MethodCallable;
 
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 /**
  * 任务服务接口。
@@ -305,4 +307,15 @@ public interface ITaskService {
      */
     void forceCompleteExceptionally(UUID key, Throwable exception)
             throws TaskNotFoundException, TaskIllegalStateException;
+
+    /**
+     * 在任务阶段命名空间对应的执行通道中直接执行一个轻量任务。
+     * 不创建 Task，因此没有延迟、重试、过期和 TaskFuture，但和注册的任务一样受执行通道的并发数和队列限制，
+     * 同一个通道中按照提交顺序开始执行。任务中的异常需要由任务自己处理。
+     *
+     * @param taskStage 任务阶段命名空间
+     * @param runnable 任务
+     * @param onReject 任务因为通道队列已满被拒绝或丢弃时的回调
+     */
+    void execute(String taskStage, Runnable runnable, Consumer<RejectedExecutionException> onReject);
 }
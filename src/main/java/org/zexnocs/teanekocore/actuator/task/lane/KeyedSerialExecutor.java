@@ -0,0 +1,75 @@
+package org.zexnocs.teanekocore.actuator.task.lane;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 按 key 有序的执行器。
+ * 同一个 key 的任务按照提交顺序串行执行，上一个任务返回的 {@link CompletionStage} 完成后才开始下一个；
+ * 不同 key 的任务互不影响，可以并行执行。
+ * <p>
+ * 每个 key 只记录最后一个任务的 future，新任务挂在它后面，不使用全局锁；
+ * key 的所有任务完成后记录会被移除，不会随着 key 的数量无限增长。
+ * 任务失败不会影响同一个 key 的后续任务。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class KeyedSerialExecutor {
+    /// key → 最后提交的任务完成的 future
+    private final ConcurrentHashMap<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    /// 执行任务的线程池
+    private final Executor executor;
+
+    public KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 提交一个任务。
+     *
+     * @param key 有序的 key，相等的 key 按照提交顺序串行执行
+     * @param task 任务，返回的 stage 完成时视为任务完成
+     * @return 任务完成的 future；任务抛出异常或者 stage 异常完成时以同样的异常完成
+     */
+    public CompletableFuture<Void> execute(Object key, Supplier<? extends CompletionStage<?>> task) {
+        var done = new CompletableFuture<Void>();
+        var previous = tails.put(key, done);
+        Runnable run = () -> {
+            CompletionStage<?> stage;
+            try {
+                stage = task.get();
+            } catch (Throwable e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            stage.whenComplete((result, error) -> {
+                // 如果这是最后一个任务，移除记录
+                tails.remove(key, done);
+                if (error != null) {
+                    done.completeExceptionally(error);
+                } else {
+                    done.complete(null);
+                }
+            });
+        };
+        if (previous == null) {
+            executor.execute(run);
+        } else {
+            previous.whenComplete((result, error) -> executor.execute(run));
+        }
+        return done;
+    }
+
+    /**
+     * 获取还有未完成任务的 key 数量。
+     *
+     * @return key 数量
+     */
+    public int getActiveKeyCount() {
+        return tails.size();
+    }
+}
@@ -0,0 +1,85 @@
+package org.zexnocs.teanekocore.actuator.task.lane;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一个任务阶段命名空间的执行通道。
+ * 通道限制同时执行的任务数量，超出的任务在有界队列中等待。
+ * 所有可变状态只在 {@link TaskLaneService} 的锁中修改。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class TaskLane {
+    /// 通道名称，即任务阶段命名空间
+    @Getter
+    private final String name;
+
+    /// 通道配置
+    @Getter
+    private final TaskLaneProperties properties;
+
+    /// 等待执行的任务
+    final Deque<Entry> queue = new ArrayDeque<>();
+
+    /// 正在执行的任务数量
+    @Getter
+    volatile int running;
+
+    /// 等待执行的任务数量，与 queue.size() 同步更新，供锁外读取
+    @Getter
+    volatile int queued;
+
+    /// 提交的任务数量
+    final LongAdder submittedCount = new LongAdder();
+
+    /// 因为队列已满而被拒绝或丢弃的任务数量
+    final LongAdder rejectedCount = new LongAdder();
+
+    /// 因为 BYPASS 策略而绕过并发上限的任务数量
+    final LongAdder bypassedCount = new LongAdder();
+
+    TaskLane(String name, TaskLaneProperties properties) {
+        this.name = name;
+        this.properties = properties;
+    }
+
+    /**
+     * 获取提交的任务数量。
+     *
+     * @return 提交数量
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * 获取因为队列已满而被拒绝或丢弃的任务数量。
+     *
+     * @return 拒绝数量
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 获取绕过并发上限的任务数量。
+     *
+     * @return 绕过数量
+     */
+    public long getBypassedCount() {
+        return bypassedCount.sum();
+    }
+
+    /**
+     * 队列中的任务。
+     *
+     * @param task 任务
+     * @param onReject 任务被拒绝或丢弃时的回调
+     */
+    record Entry(Runnable task, Runnable onReject) {}
+}
@@ -0,0 +1,36 @@
+package org.zexnocs.teanekocore.actuator.task.lane;
+
+/**
+ * 执行通道的队列已满时的处理策略。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public enum TaskLaneOverflowPolicy {
+    /**
+     * 拒绝新提交的任务，任务以 {@link java.util.concurrent.RejectedExecutionException} 失败且不会重试。
+     */
+    REJECT,
+
+    /**
+     * 拒绝队列中等待最久的任务，然后将新任务加入队列。
+     * 适合只关心最新数据的场景，例如消息洪峰中的事件处理。
+     */
+    DROP_OLDEST,
+
+    /**
+     * 不受并发上限限制，直接执行新任务。
+     * 适合不能丢失的任务，此时队列上限只用于告警。
+     */
+    BYPASS,
+
+    /**
+     * 在提交任务的线程中直接执行新任务，不占用并发名额。
+     * 1. 通道的工作线程在没有空闲名额时提交的嵌套任务不排队，直接在当前线程执行，
+     *    因此任务中推送并等待同一个通道的子任务时不会死锁。
+     * 2. 其他线程提交时，队列已满才在提交线程中执行，提交者在任务完成前不能继续提交，形成背压。
+     *    提交线程不是虚拟线程时（例如 WebSocket IO 线程）不阻塞它，按照 {@link #BYPASS} 处理。
+     * 适合不能丢失的事件处理。
+     */
+    CALLER_RUNS
+}
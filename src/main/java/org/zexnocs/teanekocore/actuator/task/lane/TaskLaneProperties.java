@@ -0,0 +1,24 @@
+package org.zexnocs.teanekocore.actuator.task.lane;
+
+/**
+ * 单个执行通道的配置，从 {@code tea-neko.task.lanes[命名空间].*} 读取。
+ * 没有配置的字段使用默认值。
+ *
+ * @param maxConcurrency 最大并发数；默认 64
+ * @param queueCapacity 等待队列上限；小于 0 表示不限制，默认 1000
+ * @param priority 优先级，越大越优先；只在设置了总并发上限时生效，默认 0
+ * @param overflow 队列已满时的处理策略；默认 REJECT
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public record TaskLaneProperties(Integer maxConcurrency,
+                                 Integer queueCapacity,
+                                 Integer priority,
+                                 TaskLaneOverflowPolicy overflow) {
+    public TaskLaneProperties {
+        maxConcurrency = maxConcurrency != null ? Math.max(1, maxConcurrency) : 64;
+        queueCapacity = queueCapacity != null ? queueCapacity : 1000;
+        priority = priority != null ? priority : 0;
+        overflow = overflow != null ? overflow : TaskLaneOverflowPolicy.REJECT;
+    }
+}
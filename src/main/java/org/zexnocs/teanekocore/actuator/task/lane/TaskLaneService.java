@@ -0,0 +1,264 @@
+package org.zexnocs.teanekocore.actuator.task.lane;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 任务执行通道服务。
+ * 为配置了通道的任务阶段命名空间限制并发数和等待队列，避免消息洪峰中的事件处理占满资源，
+ * 导致指令回复、数据库提交等任务得不到执行。没有配置通道的命名空间直接在虚拟线程池中执行。
+ * <p>
+ * 配置方式：
+ * <pre>
+ * tea-neko.task.lanes[general_database].max-concurrency=32
+ * tea-neko.task.lanes[general_database].queue-capacity=-1
+ * tea-neko.task.lanes[general_database].priority=20
+ * tea-neko.task.lanes[general_database].overflow=REJECT
+ * </pre>
+ * 设置了 {@code tea-neko.task.lanes-max-concurrency} 时，所有通道共享这个总并发上限，
+ * 有空闲时按照 priority 从高到低从各通道的队列中取出任务执行。
+ * <p>
+ * 注意：同一个通道中的任务阻塞等待同一个通道中的其他任务时，如果所有名额都被等待中的任务占用，
+ * 排队的子任务永远不会被取出，导致死锁。使用 {@link TaskLaneOverflowPolicy#CALLER_RUNS} 的通道中，
+ * 通道的工作线程在没有空闲名额时提交的嵌套任务不会排队，而是直接在当前线程中执行；
+ * 其他策略的通道中需要等待的子任务应该使用另一个命名空间。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Service
+public class TaskLaneService implements MeterBinder {
+    /// 虚拟线程池
+    private final ExecutorService virtualExecutor;
+
+    /// 命名空间 → 通道
+    private final Map<String, TaskLane> lanes;
+
+    /// 按照优先级从高到低排列的通道
+    private final List<TaskLane> lanesByPriority;
+
+    /// 所有通道的总并发上限；小于 0 表示不限制
+    private final int totalMaxConcurrency;
+
+    /// 所有通道正在执行的任务数量，只在锁中修改
+    private int totalRunning;
+
+    /// 保护所有通道状态的锁
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// 当前线程作为工作线程所在的通道；不是通道的工作线程时为 null
+    private static final ThreadLocal<TaskLane> CURRENT_LANE = new ThreadLocal<>();
+
+    @Autowired
+    public TaskLaneService(ExecutorService virtualExecutor,
+                           Environment environment,
+                           @Value("${tea-neko.task.lanes-max-concurrency:-1}") int totalMaxConcurrency) {
+        this.virtualExecutor = virtualExecutor;
+        this.totalMaxConcurrency = totalMaxConcurrency;
+        var properties = Binder.get(environment)
+                .bind("tea-neko.task.lanes", Bindable.mapOf(String.class, TaskLaneProperties.class))
+                .orElseGet(Map::of);
+        var map = new LinkedHashMap<String, TaskLane>();
+        properties.forEach((name, laneProperties) -> map.put(name, new TaskLane(name, laneProperties)));
+        this.lanes = Collections.unmodifiableMap(map);
+        var sorted = new ArrayList<>(map.values());
+        sorted.sort(Comparator.comparingInt((TaskLane lane) -> lane.getProperties().priority()).reversed());
+        this.lanesByPriority = List.copyOf(sorted);
+    }
+
+    /**
+     * 在命名空间对应的通道中执行任务。
+     *
+     * @param namespace 任务阶段命名空间
+     * @param task 任务
+     * @param onReject 任务因为队列已满被拒绝或丢弃时的回调，参数为拒绝的原因
+     */
+    public void execute(String namespace, Runnable task, Consumer<RejectedExecutionException> onReject) {
+        var lane = lanes.get(namespace);
+        if (lane == null) {
+            virtualExecutor.execute(task);
+            return;
+        }
+        lane.submittedCount.increment();
+        var entry = new TaskLane.Entry(task, () -> onReject.accept(new RejectedExecutionException(
+                "执行通道 %s 的队列已满".formatted(namespace))));
+        TaskLane.Entry dropped = null;
+        boolean start = false;
+        boolean bypass = false;
+        boolean callerRuns = false;
+        var policy = lane.getProperties().overflow();
+        var nested = CURRENT_LANE.get() == lane;
+        lock.lock();
+        try {
+            if (_hasCapacity(lane)) {
+                _acquire(lane);
+                start = true;
+            } else if (nested && policy == TaskLaneOverflowPolicy.CALLER_RUNS) {
+                // 通道的工作线程提交的嵌套任务：排队后可能要等待当前线程自己占用的名额，直接在当前线程执行
+                callerRuns = true;
+            } else {
+                int capacity = lane.getProperties().queueCapacity();
+                if (capacity < 0 || lane.queue.size() < capacity) {
+                    lane.queue.addLast(entry);
+                } else {
+                    switch (policy) {
+                        case REJECT -> dropped = entry;
+                        case DROP_OLDEST -> {
+                            dropped = lane.queue.pollFirst();
+                            lane.queue.addLast(entry);
+                        }
+                        case BYPASS -> bypass = true;
+                        case CALLER_RUNS -> {
+                            callerRuns = Thread.currentThread().isVirtual();
+                            bypass = !callerRuns;
+                        }
+                    }
+                }
+                lane.queued = lane.queue.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (start) {
+            _start(lane, entry);
+        } else if (bypass) {
+            lane.bypassedCount.increment();
+            virtualExecutor.execute(task);
+        } else if (callerRuns) {
+            lane.bypassedCount.increment();
+            task.run();
+        }
+        if (dropped != null) {
+            lane.rejectedCount.increment();
+            dropped.onReject().run();
+        }
+    }
+
+    /**
+     * 获取所有通道。
+     *
+     * @return 命名空间 → 通道 的只读视图
+     */
+    public Map<String, TaskLane> getLanes() {
+        return lanes;
+    }
+
+    /**
+     * 注册每个通道的指标，标签 lane 为通道名称。
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (var lane : lanes.values()) {
+            var name = lane.getName();
+            Gauge.builder("teaneko.task.lane.running", lane, TaskLane::getRunning)
+                    .tag("lane", name)
+                    .description("通道中正在执行的任务数量")
+                    .register(registry);
+            Gauge.builder("teaneko.task.lane.queued", lane, TaskLane::getQueued)
+                    .tag("lane", name)
+                    .description("通道中等待执行的任务数量")
+                    .register(registry);
+            FunctionCounter.builder("teaneko.task.lane.tasks", lane, TaskLane::getSubmittedCount)
+                    .tags("lane", name, "result", "submitted")
+                    .description("提交到通道的任务数量")
+                    .register(registry);
+            FunctionCounter.builder("teaneko.task.lane.tasks", lane, TaskLane::getRejectedCount)
+                    .tags("lane", name, "result", "rejected")
+                    .description("因为队列已满被拒绝或丢弃的任务数量")
+                    .register(registry);
+            FunctionCounter.builder("teaneko.task.lane.tasks", lane, TaskLane::getBypassedCount)
+                    .tags("lane", name, "result", "bypassed")
+                    .description("绕过并发上限的任务数量，包括在提交线程中执行的任务")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 在虚拟线程中执行任务，完成后释放并发名额并调度等待中的任务。
+     */
+    private void _start(TaskLane lane, TaskLane.Entry entry) {
+        try {
+            virtualExecutor.execute(() -> {
+                CURRENT_LANE.set(lane);
+                try {
+                    entry.task().run();
+                } finally {
+                    CURRENT_LANE.remove();
+                    _release(lane);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 线程池已经关闭
+            _release(lane);
+            throw e;
+        }
+    }
+
+    /**
+     * 释放一个并发名额，并按照优先级启动等待中的任务。
+     */
+    private void _release(TaskLane lane) {
+        List<TaskLane> startLanes = null;
+        List<TaskLane.Entry> startEntries = null;
+        lock.lock();
+        try {
+            lane.running--;
+            totalRunning--;
+            // 没有总并发上限时只有当前通道释放了名额
+            var candidates = totalMaxConcurrency < 0 ? List.of(lane) : lanesByPriority;
+            for (var candidate : candidates) {
+                while (!candidate.queue.isEmpty() && _hasCapacity(candidate)) {
+                    _acquire(candidate);
+                    if (startLanes == null) {
+                        startLanes = new ArrayList<>();
+                        startEntries = new ArrayList<>();
+                    }
+                    startLanes.add(candidate);
+                    startEntries.add(candidate.queue.pollFirst());
+                    candidate.queued = candidate.queue.size();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (startLanes != null) {
+            for (int i = 0; i < startLanes.size(); i++) {
+                _start(startLanes.get(i), startEntries.get(i));
+            }
+        }
+    }
+
+    /// 通道是否还有并发名额，需要持有锁
+    private boolean _hasCapacity(TaskLane lane) {
+        return lane.running < lane.getProperties().maxConcurrency()
+                && (totalMaxConcurrency < 0 || totalRunning < totalMaxConcurrency);
+    }
+
+    /// 占用一个并发名额，需要持有锁
+    private void _acquire(TaskLane lane) {
+        lane.running++;
+        totalRunning++;
+    }
+}
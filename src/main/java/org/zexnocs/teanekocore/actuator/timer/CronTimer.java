@@ -89,6 +89,16 @@ public class CronTimer<T> implements ITimer<T>  {
         return !currentTime.isBefore(nextTriggerTime);
     }
 
+    /**
+     * 获取下一次可能触发的时间点。
+     *
+     * @return 下一次 cron 触发时间点。
+     */
+    @Override
+    public Instant getNextTriggerTime() {
+        return nextTriggerTime;
+    }
+
     /**
      * 每次执行成功时更新定时器的状态
      *
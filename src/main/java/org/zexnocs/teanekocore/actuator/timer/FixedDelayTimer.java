@@ -36,6 +36,9 @@ public class FixedDelayTimer<T> implements ITimer<T> {
     /// 任务是否正在执行。
     private final AtomicBoolean executing = new AtomicBoolean(false);
 
+    /// 唤醒回调，任务完成后用于通知调度器重新调度。
+    private volatile Runnable wakeUpHook;
+
     /// result type
     @Getter
     private final Class<T> resultType;
@@ -81,6 +84,30 @@ public class FixedDelayTimer<T> implements ITimer<T> {
         return !currentTime.isBefore(lastTime.plus(delay));
     }
 
+    /**
+     * 获取下一次可能触发的时间点。
+     * 如果任务正在执行，则返回 null 挂起，等待任务完成后通过唤醒回调重新调度。
+     *
+     * @return 上次执行时间 + delay；正在执行时返回 null。
+     */
+    @Override
+    public Instant getNextTriggerTime() {
+        if(executing.get()) {
+            return null;
+        }
+        return lastExecutionTime.get().plus(delay);
+    }
+
+    /**
+     * 设置唤醒回调。
+     *
+     * @param wakeUpHook 唤醒回调。
+     */
+    @Override
+    public void setWakeUpHook(Runnable wakeUpHook) {
+        this.wakeUpHook = wakeUpHook;
+    }
+
     /**
      * 每次执行成功时更新定时器的状态
      *
@@ -104,6 +131,10 @@ public class FixedDelayTimer<T> implements ITimer<T> {
                 .whenComplete((v, t) -> {
                     lastExecutionTime.set(Instant.now());
                     executing.set(false);
+                    var hook = wakeUpHook;
+                    if(hook != null) {
+                        hook.run();
+                    }
                 });
         // 配置任务的 future 链。
         var chain = timerTaskConfig.getTaskFutureChain();
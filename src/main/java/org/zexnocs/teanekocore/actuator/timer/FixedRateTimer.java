@@ -64,6 +64,16 @@ public class FixedRateTimer<T> implements ITimer<T> {
         return !currentTime.isBefore(lastExecutionTime.plus(rate));
     }
 
+    /**
+     * 获取下一次可能触发的时间点。
+     *
+     * @return 上次执行时间 + rate。
+     */
+    @Override
+    public Instant getNextTriggerTime() {
+        return lastExecutionTime.plus(rate);
+    }
+
     /**
      * 每次执行成功时更新定时器的状态
      *
@@ -33,6 +33,9 @@ public class SmartRateTimer<T> implements ITimer<T> {
     /// 上次执行任务是否已经完成。true 表示上次执行的任务已经完成，false 表示上次执行的任务还在执行中。
     private final AtomicBoolean lastTaskCompleted;
 
+    /// 唤醒回调，任务完成后用于通知调度器重新调度。
+    private volatile Runnable wakeUpHook;
+
     /// result type
     @Getter
     private final Class<T> resultType;
@@ -76,6 +79,30 @@ public class SmartRateTimer<T> implements ITimer<T> {
         return lastTaskCompleted.get() && !currentTime.isBefore(lastExecutionTime.plus(delay));
     }
 
+    /**
+     * 获取下一次可能触发的时间点。
+     * 如果上次的任务还没有完成，则返回 null 挂起，等待任务完成后通过唤醒回调重新调度。
+     *
+     * @return 上次执行时间 + delay；上次任务未完成时返回 null。
+     */
+    @Override
+    public Instant getNextTriggerTime() {
+        if(!lastTaskCompleted.get()) {
+            return null;
+        }
+        return lastExecutionTime.plus(delay);
+    }
+
+    /**
+     * 设置唤醒回调。
+     *
+     * @param wakeUpHook 唤醒回调。
+     */
+    @Override
+    public void setWakeUpHook(Runnable wakeUpHook) {
+        this.wakeUpHook = wakeUpHook;
+    }
+
     /**
      * 每次执行成功时更新定时器的状态
      *
@@ -100,7 +127,13 @@ public class SmartRateTimer<T> implements ITimer<T> {
     public void execute(ITaskService iTaskService) {
         // 当任务完成时，设置 lastTaskCompleted 为 true
         var future = iTaskService.subscribeWithFuture(timerTaskConfig.getTaskConfig(), resultType)
-                .whenComplete((v, t) -> lastTaskCompleted.set(true));
+                .whenComplete((v, t) -> {
+                    lastTaskCompleted.set(true);
+                    var hook = wakeUpHook;
+                    if(hook != null) {
+                        hook.run();
+                    }
+                });
 
         // 配置任务的 future 链。
         var chain = timerTaskConfig.getTaskFutureChain();
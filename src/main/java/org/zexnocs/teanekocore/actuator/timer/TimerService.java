@@ -1,9 +1,10 @@
 package org.zexnocs.teanekocore.actuator.timer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.actuator.task.TaskConfig;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskResult;
@@ -15,13 +16,20 @@ import org.zexnocs.teanekocore.framework.function.MethodCallable;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 管理定时器的服务。
+ * <p>
+ * 每个定时器都按照 {@link ITimer#getNextTriggerTime()} 给出的下一次触发时间点单独调度到 timerScheduler 中，
+ * timerScheduler 内部是一个按截止时间排序的延迟队列，线程会一直休眠到最近的截止时间；
+ * 因此没有定时器到期时不会有任何 CPU 消耗，开销也不会随着定时器数量线性增长。
+ * <p>
+ * 生命周期与暂停采用惰性处理：
+ * 1. 定时器到期时才检查是否存活，已经销毁的定时器不会再被调度。
+ * 2. 定时器到期时如果处于暂停状态，则在 pausedCheckInterval 之后再次检查。
  *
  * @author zExNocs
  * @date 2026/02/14
@@ -29,14 +37,24 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class TimerService implements ITimerService {
     /// 定时器集合
-    private final Set<ITimer<?>> timers;
+    private final Set<ScheduledTimer> timers;
     private final ITaskService iTaskService;
 
+    /// 按截止时间调度定时器的 scheduler
+    private final TaskScheduler timerScheduler;
+
+    /// 定时器处于暂停状态时，再次检查的间隔
+    private final Duration pausedCheckInterval;
+
     @Lazy
     @Autowired
-    public TimerService(ITaskService iTaskService) {
+    public TimerService(ITaskService iTaskService,
+                        @Qualifier("timerScheduler") TaskScheduler timerScheduler,
+                        @Value("${tea-neko.timer.paused-check-ms:100}") long pausedCheckMs) {
         this.timers = ConcurrentHashMap.newKeySet();
         this.iTaskService = iTaskService;
+        this.timerScheduler = timerScheduler;
+        this.pausedCheckInterval = Duration.ofMillis(pausedCheckMs);
     }
 
     /**
@@ -47,44 +65,98 @@ public class TimerService implements ITimerService {
      */
     @Override
     public void register(ITimer<?> timer) {
-        timers.add(timer);
+        var scheduledTimer = new ScheduledTimer(timer);
+        timers.add(scheduledTimer);
+        timer.setWakeUpHook(scheduledTimer::wakeUp);
+        scheduledTimer.wakeUp();
     }
 
-    // --------------- 计时器循环 -----------------
-    @Async("timerScheduler")
-    @Scheduled(fixedDelayString = "${tea-neko.timer.update-delay-ms:10}")
-    public void timerLoop() {
-        // 获得当前的时间戳。
-        var now = Instant.now();
-
-        // 遍历所有定时器，更新它们的状态。
-        List<ITimer<?>> copy = new ArrayList<>(timers);
-        List<ITimer<?>> toRemove = new ArrayList<>();
-
-        for (var timer: copy) {
-            // 如果定时器已经销毁，则删除。
-            var livable = timer.getTimerTaskConfig().getLivable();
-            if (livable != null && !livable.isAlive()) {
-                toRemove.add(timer);
-                continue;
-            }
-            // 如果定时器已经暂停，则跳过。
-            var pausable = timer.getTimerTaskConfig().getPausable();
-            if (pausable != null && pausable.isPaused()) {
-                continue;
+    /**
+     * 获取当前注册的定时器数量。
+     * 已经销毁但还没有到期的定时器会在到期时才被移除。
+     *
+     * @return 定时器数量。
+     */
+    public int getTimerCount() {
+        return timers.size();
+    }
+
+    // --------------- 计时器调度 -----------------
+    /**
+     * 被调度的定时器。
+     * 同一时刻最多只有一个待触发的调度，避免唤醒回调与正常调度重复提交。
+     */
+    private final class ScheduledTimer implements Runnable {
+        /// 定时器
+        private final ITimer<?> timer;
+
+        /// 是否已经有一个待触发的调度
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+
+        private ScheduledTimer(ITimer<?> timer) {
+            this.timer = timer;
+        }
+
+        /**
+         * 根据定时器的下一次触发时间点重新调度。
+         * 如果定时器正在等待外部条件，则挂起等待下一次唤醒。
+         */
+        private void wakeUp() {
+            var next = timer.getNextTriggerTime();
+            if (next == null) {
+                return;
             }
-            // 如果定时器没有到达执行时间，则跳过。
-            if (!timer.isTime(now)) {
-                continue;
+            scheduleAt(next);
+        }
+
+        /**
+         * 在指定时间点调度该定时器。
+         *
+         * @param time 触发时间点。
+         */
+        private void scheduleAt(Instant time) {
+            if (!pending.compareAndSet(false, true)) {
+                return;
             }
-            // ----- 已通过定时器属性判断执行 ------
-            timer.update(now);
-            timer.execute(iTaskService);
+            timerScheduler.schedule(this, time);
         }
 
-        // 删除已经销毁的定时器。
-        for (var key: toRemove) {
-            timers.remove(key);
+        /**
+         * 到期时的处理。
+         * 执行顺序与 ITimer 的约定一致：isTime → update → execute。
+         * 存活和暂停的检查也在 try 中，任何一步抛出异常时都会重新调度，定时器不会静默停止。
+         */
+        @Override
+        public void run() {
+            pending.set(false);
+            var now = Instant.now();
+            boolean reschedule = true;
+            try {
+                var config = timer.getTimerTaskConfig();
+                // 如果定时器已经销毁，则删除并不再调度。
+                var livable = config.getLivable();
+                if (livable != null && !livable.isAlive()) {
+                    timers.remove(this);
+                    reschedule = false;
+                    return;
+                }
+                // 如果定时器已经暂停，则稍后再次检查。
+                var pausable = config.getPausable();
+                if (pausable != null && pausable.isPaused()) {
+                    scheduleAt(now.plus(pausedCheckInterval));
+                    reschedule = false;
+                    return;
+                }
+                // ----- 已通过定时器属性判断执行 ------
+                if (timer.isTime(now)) {
+                    timer.update(now);
+                    timer.execute(iTaskService);
+                }
+            } finally {
+                if (reschedule) {
+                    wakeUp();
+                }
+            }
         }
     }
 
@@ -1,6 +1,7 @@
 package org.zexnocs.teanekocore.actuator.timer.interfaces;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskService;
 
 import java.time.Instant;
@@ -8,6 +9,7 @@ import java.time.Instant;
 /**
  * Timer 任务的配置接口，用于周期性地根据 taskConfig 来生成 task。
  * 执行顺序是 isTime → update → execute。
+ * 调度器按照 {@link #getNextTriggerTime()} 给出的时间点唤醒定时器，而不是轮询所有定时器。
  *
  * @author zExNocs
  * @date 2026/02/14
@@ -29,6 +31,27 @@ public interface ITimer<T> {
      */
     boolean isTime(Instant currentTime);
 
+    /**
+     * 获取下一次可能触发的时间点。
+     * 调度器会在该时间点到达后再调用 isTime 判断，因此该时间点不能晚于真正的执行时间。
+     * 如果返回 null，表示定时器正在等待外部条件（例如上一次任务尚未完成），
+     * 调度器会将其挂起，直到定时器调用 {@link #setWakeUpHook(Runnable)} 中设置的回调。
+     *
+     * @return 下一次可能触发的时间点；null 表示挂起等待唤醒。
+     */
+    @Nullable
+    Instant getNextTriggerTime();
+
+    /**
+     * 设置唤醒回调。
+     * 当 {@link #getNextTriggerTime()} 从 null 变为非 null 时，定时器需要调用该回调让调度器重新安排触发时间。
+     * 默认不需要唤醒，因此不做任何处理。
+     *
+     * @param wakeUpHook 唤醒回调。
+     */
+    default void setWakeUpHook(@Nullable Runnable wakeUpHook) {
+    }
+
     /**
      * 每次执行成功时更新定时器的状态
      * @param currentTime 当前时间点。
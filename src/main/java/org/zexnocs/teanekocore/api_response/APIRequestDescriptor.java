@@ -0,0 +1,218 @@
+package org.zexnocs.teanekocore.api_response;
+
+import org.zexnocs.teanekocore.api_response.api.APIRequestData;
+import org.zexnocs.teanekocore.api_response.api.APIRequestParam;
+import org.zexnocs.teanekocore.api_response.api.IAPIRequestData;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 请求类的预编译描述。
+ * 每个请求类只解析一次 {@link APIRequestData} 注解和字段：
+ * 1. 字段读取使用 MethodHandle，不再在每次请求时调用 getDeclaredFields 和 setAccessible。
+ * 2. {@link APIRequestParam#defaultValue()} 在解析时转换为字段类型。
+ * 3. 参数名和顺序固定，用于生成稳定的缓存 key。
+ * <p>
+ * 静态字段不会作为请求参数。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+final class APIRequestDescriptor {
+    /// 请求类 → 描述
+    private static final ClassValue<APIRequestDescriptor> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected APIRequestDescriptor computeValue(Class<?> type) {
+            return new APIRequestDescriptor(type);
+        }
+    };
+
+    /// 请求类上的注解；为 null 表示缺少注解
+    private final APIRequestData annotation;
+
+    /// 按照字段声明顺序排列的参数
+    private final List<Param> params;
+
+    /**
+     * 获取请求类的描述。
+     *
+     * @param type 请求类
+     * @return 请求类的描述
+     */
+    static APIRequestDescriptor of(Class<?> type) {
+        return DESCRIPTORS.get(type);
+    }
+
+    private APIRequestDescriptor(Class<?> type) {
+        this.annotation = type.getAnnotation(APIRequestData.class);
+        var lookup = _lookup(type);
+        var list = new ArrayList<Param>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            var getter = _getter(lookup, field);
+            if (getter == null) {
+                continue;
+            }
+            // 获取 APIRequestParam 注解，如果没有则使用字段名作为键
+            var paramAnnotation = field.getAnnotation(APIRequestParam.class);
+            String key;
+            if (paramAnnotation == null || paramAnnotation.value().isBlank()) {
+                key = field.getName().toLowerCase();
+            } else {
+                key = paramAnnotation.value();
+            }
+            var defaultValue = paramAnnotation == null
+                    ? null
+                    : _parseDefaultValue(field.getType(), paramAnnotation.defaultValue());
+            list.add(new Param(key, getter, defaultValue));
+        }
+        this.params = List.copyOf(list);
+    }
+
+    /**
+     * 获取请求类上的注解。
+     *
+     * @return 注解；为 null 表示缺少注解
+     */
+    APIRequestData annotation() {
+        return annotation;
+    }
+
+    /**
+     * 从请求对象中提取参数。
+     * 字段为 null 时使用默认值；没有默认值则忽略该参数。
+     *
+     * @param requestData 请求对象
+     * @return 参数映射，顺序为字段声明顺序
+     */
+    Map<String, Object> extractParams(IAPIRequestData requestData) {
+        Map<String, Object> map = new LinkedHashMap<>(params.size() * 2);
+        for (Param param : params) {
+            Object value;
+            try {
+                value = param.getter.invokeExact((Object) requestData);
+            } catch (Throwable e) {
+                // 字段读取不会抛出异常；保持与反射实现一致，忽略该参数
+                continue;
+            }
+            if (value == null) {
+                value = param.defaultValue;
+            }
+            if (value != null) {
+                map.put(param.key, value);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 生成缓存 key。
+     * 每个片段都带有长度前缀，参数顺序固定，因此不同的请求不会得到相同的 key。
+     *
+     * @param method HTTP method
+     * @param url base URL
+     * @param path 路径
+     * @param params 由 {@link #extractParams(IAPIRequestData)} 提取的参数
+     * @param responseType 响应类型
+     * @return 缓存 key
+     */
+    static String cacheKey(String method, String url, String path, Map<String, Object> params, Class<?> responseType) {
+        var builder = new StringBuilder(64 + params.size() * 16);
+        _append(builder, method.toUpperCase());
+        _append(builder, url);
+        _append(builder, path);
+        builder.append('?');
+        params.forEach((key, value) -> {
+            _append(builder, key);
+            _append(builder, String.valueOf(value));
+        });
+        builder.append('@').append(responseType.getName());
+        return builder.toString();
+    }
+
+    /**
+     * 以 "长度:内容" 的形式追加一个片段。
+     */
+    private static void _append(StringBuilder builder, String value) {
+        builder.append(value.length()).append(':').append(value);
+    }
+
+    /**
+     * 获取可以访问请求类私有字段的 Lookup。
+     *
+     * @param type 请求类
+     * @return Lookup；无法获取时返回 null，之后使用 setAccessible 回退
+     */
+    private static MethodHandles.Lookup _lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 创建字段的 getter，类型为 (Object)Object。
+     *
+     * @param lookup 请求类的 Lookup
+     * @param field 字段
+     * @return getter；无法访问该字段时返回 null
+     */
+    private static MethodHandle _getter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            MethodHandle getter;
+            if (lookup != null) {
+                getter = lookup.unreflectGetter(field);
+            } else {
+                field.setAccessible(true);
+                getter = MethodHandles.lookup().unreflectGetter(field);
+            }
+            return getter.asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 将注解中的默认值转换为字段类型。
+     *
+     * @param type 字段类型
+     * @param defaultValue 注解中的默认值
+     * @return 转换后的默认值；为空或无法转换时返回 null
+     */
+    private static Object _parseDefaultValue(Class<?> type, String defaultValue) {
+        if (defaultValue == null || defaultValue.isBlank()) {
+            return null;
+        }
+        try {
+            if (type.equals(int.class) || type.equals(Integer.class)) {
+                return Integer.parseInt(defaultValue);
+            } else if (type.equals(boolean.class) || type.equals(Boolean.class)) {
+                return Boolean.parseBoolean(defaultValue);
+            } else {
+                return type.cast(defaultValue);
+            }
+        } catch (NumberFormatException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 单个请求参数。
+     *
+     * @param key 参数名
+     * @param getter 字段 getter，类型为 (Object)Object
+     * @param defaultValue 字段为 null 时使用的默认值
+     */
+    private record Param(String key, MethodHandle getter, Object defaultValue) {}
+}
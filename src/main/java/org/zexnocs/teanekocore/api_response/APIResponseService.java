@@ -1,6 +1,12 @@
 package org.zexnocs.teanekocore.api_response;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -11,12 +17,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriBuilder;
 import org.zexnocs.teanekocore.actuator.task.TaskFuture;
 import org.zexnocs.teanekocore.api_response.api.APIRequestData;
-import org.zexnocs.teanekocore.api_response.api.APIRequestParam;
 import org.zexnocs.teanekocore.api_response.api.IAPIRequestData;
 import org.zexnocs.teanekocore.api_response.api.IAPIResponseData;
 import org.zexnocs.teanekocore.api_response.exception.APIRequestAnnotationNotFoundException;
 import org.zexnocs.teanekocore.api_response.exception.APIURLErrorException;
 import org.zexnocs.teanekocore.api_response.interfaces.IAPIResponseService;
+import org.zexnocs.teanekocore.cache.CacheContainerConfig;
 import org.zexnocs.teanekocore.cache.ConcurrentMapCacheContainer;
 import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
 import org.zexnocs.teanekocore.logger.ILogger;
@@ -24,37 +30,54 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.util.retry.Retry;
 
-import java.lang.reflect.Field;
 import java.net.URI;
 import java.time.Duration;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * APIResponseService 是一个用于处理 API 请求和响应的服务类。
  * 它使用 Spring WebClient 来发送 HTTP 请求，并使用 Reactor 来处理异步响应。
+ * <p>
+ * 相同缓存 key 的并发 GET 请求会被合并：第一个请求真正发送，之后的请求在其完成前共享同一个结果。
+ * POST 等非幂等请求默认不合并，可以通过 {@link APIRequestData#coalesce()} 修改某个请求类型的合并模式。
  *
  * @author zExNocs
  * @date 2026/02/17
  */
 @Service
-public class APIResponseService implements IAPIResponseService {
+public class APIResponseService implements IAPIResponseService, MeterBinder {
     /// webClient 缓存 url -> webClient 实例
     private final Map<String, WebClient> webClientCache = new ConcurrentHashMap<>();
 
     /// 响应缓存，缓解重复请求问题
     private final ConcurrentMapCacheContainer<String, ResponseCache<?>> responseCache;
 
+    /// 正在进行的请求，缓存 key → 请求结果。请求结束后移除
+    private final Map<String, CompletableFuture<? extends IAPIResponseData>> inFlight = new ConcurrentHashMap<>();
+
+    /// 真正发送的请求数量
+    private final LongAdder issuedCount = new LongAdder();
+
+    /// 合并到正在进行的请求的数量
+    private final LongAdder coalescedCount = new LongAdder();
+
     /// 用于执行 API 请求的 Scheduler
     private final Scheduler scheduler;
     private final ILogger logger;
 
     @Autowired
-    public APIResponseService(Scheduler apiScheduler, ICacheService iCacheService, ILogger logger) {
+    public APIResponseService(Scheduler apiScheduler,
+                              ICacheService iCacheService,
+                              ILogger logger,
+                              @Value("${tea-neko.cache.api-response-maximum-size:1000}") long maximumSize) {
         this.scheduler = apiScheduler;
-        this.responseCache = ConcurrentMapCacheContainer.of(iCacheService);
+        this.responseCache = ConcurrentMapCacheContainer.of(iCacheService,
+                CacheContainerConfig.<String, ResponseCache<?>>builder()
+                        .maximumSize(maximumSize)
+                        .build());
         this.logger = logger;
     }
 
@@ -78,7 +101,8 @@ public class APIResponseService implements IAPIResponseService {
             boolean skipCache
     ) throws APIRequestAnnotationNotFoundException,
             APIURLErrorException {
-        var apiRequestAnnotation = requestData.getClass().getAnnotation(APIRequestData.class);
+        var descriptor = APIRequestDescriptor.of(requestData.getClass());
+        var apiRequestAnnotation = descriptor.annotation();
         if (apiRequestAnnotation == null) {
             throw new APIRequestAnnotationNotFoundException("类 " + requestData.getClass().getName() + " 缺少 APIRequestData 注解");
         }
@@ -96,21 +120,38 @@ public class APIResponseService implements IAPIResponseService {
             throw new APIURLErrorException("APIRequestData 注解中的 URL 不能为空");
         }
         // 获取 WebClient 实例
-        var future = new TaskFuture<>(logger, "订阅 api", new CompletableFuture<RES>());
         var webClient = _getWebClient(url);
-        var params = _extractParams(requestData);
+        var params = descriptor.extractParams(requestData);
         boolean isPost = method.equalsIgnoreCase("POST");
-        String cacheKey = url + path + "?" + params.hashCode() + "@" + responseType.getName();
+        String cacheKey = APIRequestDescriptor.cacheKey(method, url, path, params, responseType);
 
         // 如果不跳过缓存，则尝试从缓存中获取响应
         if(!skipCache) {
             var cachedResponse = responseCache.get(cacheKey);
             if (cachedResponse != null && cachedResponse.responseType.equals(responseType)) {
                 // 如果缓存中有响应，直接调用成功回调
-                future.complete(responseType.cast(cachedResponse.responseData()));
-                return future;
+                return new TaskFuture<>(logger, "订阅 api",
+                        CompletableFuture.completedFuture(responseType.cast(cachedResponse.responseData())));
+            }
+        }
+
+        // 合并到正在进行的相同请求。skipCache 表示需要新的数据，因此不加入已经在进行的请求
+        boolean coalesce = apiRequestAnnotation.coalesce().shouldCoalesce(method);
+        var shared = new CompletableFuture<RES>();
+        if (coalesce) {
+            if (skipCache) {
+                // 之后的相同请求合并到这个更新的请求上
+                inFlight.put(cacheKey, shared);
+            } else {
+                var existing = inFlight.putIfAbsent(cacheKey, shared);
+                if (existing != null) {
+                    coalescedCount.increment();
+                    return new TaskFuture<>(logger, "订阅 api", existing.thenApply(responseType::cast));
+                }
             }
         }
+        issuedCount.increment();
+        var future = new TaskFuture<>(logger, "订阅 api", shared.copy());
 
         Mono<RES> mono;
         if(isPost) {
@@ -129,10 +170,55 @@ public class APIResponseService implements IAPIResponseService {
                     responseCache.put(cacheKey, new ResponseCache<>(responseType, res));
                 }
             })
-            .subscribe(future::complete, future::completeExceptionally);
+            // 先写入响应缓存再移出正在进行的请求，保证之后的相同请求总能命中其中之一
+            .doFinally(signal -> {
+                if (coalesce) {
+                    inFlight.remove(cacheKey, shared);
+                }
+            })
+            // 空响应以 null 完成，避免合并的请求一直等待
+            .subscribe(shared::complete, shared::completeExceptionally, () -> shared.complete(null));
         return future;
     }
 
+    /**
+     * 获取真正发送的请求数量。
+     *
+     * @return 发送的请求数量
+     */
+    public long getIssuedCount() {
+        return issuedCount.sum();
+    }
+
+    /**
+     * 获取合并到正在进行的请求的数量。
+     *
+     * @return 合并的请求数量
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * 注册请求合并的指标。
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("teaneko.api.requests", this, APIResponseService::getIssuedCount)
+                .tag("result", "issued")
+                .description("真正发送的 API 请求数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.api.requests", this, APIResponseService::getCoalescedCount)
+                .tag("result", "coalesced")
+                .description("合并到正在进行的请求的 API 请求数量")
+                .register(registry);
+        Gauge.builder("teaneko.api.requests.in-flight", inFlight, Map::size)
+                .description("正在进行的 API 请求数量")
+                .register(registry);
+    }
+
     /**
      * 从缓存中获取 webClient
      * @param url API 的基础 URL
@@ -186,49 +272,6 @@ public class APIResponseService implements IAPIResponseService {
                 .bodyToMono(responseType);
     }
 
-    /**
-     * 从 IAPIRequestData 对象中提取参数
-     * @param obj 请求数据对象
-     * @return 参数映射
-     */
-    private static Map<String, Object> _extractParams(IAPIRequestData obj) {
-        Map<String, Object> map = new LinkedHashMap<>();
-        for(Field field: obj.getClass().getDeclaredFields()) {
-            field.setAccessible(true);
-            // 获取 APIRequestParam 注解，如果没有则使用字段名作为键
-            String key;
-            var annotation = field.getAnnotation(APIRequestParam.class);
-            if (annotation == null || annotation.value().isBlank()) {
-                key = field.getName().toLowerCase();
-            } else {
-                key = annotation.value();
-            }
-            // 添加到映射中
-            try {
-                var val = field.get(obj);
-                if(val != null) {
-                    map.put(key, val);
-                } else if (annotation != null) {
-                    // 尝试使用注解中的默认值
-                    String defaultValueInString = annotation.defaultValue();
-                    if(defaultValueInString == null || defaultValueInString.isBlank()) {
-                        continue;
-                    }
-                    var type = field.getType();
-                    // 将默认值转换为字段类型，如果抛出异常则忽略
-                    if (type.equals(int.class) || type.equals(Integer.class)) {
-                        map.put(key, Integer.parseInt(defaultValueInString));
-                    } else if (type.equals(boolean.class) || type.equals(Boolean.class)) {
-                        map.put(key, Boolean.parseBoolean(defaultValueInString));
-                    } else {
-                        map.put(key, type.cast(defaultValueInString));
-                    }
-                }
-            } catch (IllegalAccessException | ClassCastException ignored) {}
-        }
-        return map;
-    }
-
     /**
      * 构造 URI
      */
@@ -62,4 +62,43 @@ public @interface APIRequestData {
      * 默认半个小时。
      */
     long cacheDurationInMillis() default 30 * 60 * 1000L; // 30 分钟
+
+    /**
+     * 是否合并并发的相同请求。
+     * 合并时，相同的请求在第一个请求完成之前不会重复发送，而是共享第一个请求的结果。
+     * 默认为 {@link CoalesceMode#IDEMPOTENT}，只合并 GET 和 HEAD 请求；
+     * POST 等请求可能有副作用或者每次结果不同（例如大模型对话），不会被合并。
+     */
+    CoalesceMode coalesce() default CoalesceMode.IDEMPOTENT;
+
+    /**
+     * 请求合并模式枚举类。
+     *
+     * @author zExNocs
+     * @date 2026/10/18
+     */
+    enum CoalesceMode {
+        /// 只合并幂等的 GET 和 HEAD 请求
+        IDEMPOTENT,
+
+        /// 总是合并，适用于确认没有副作用的 POST 查询接口
+        ALWAYS,
+
+        /// 从不合并
+        NEVER;
+
+        /**
+         * 判断指定 HTTP 方法的请求是否需要合并。
+         *
+         * @param method HTTP 方法
+         * @return 是否合并
+         */
+        public boolean shouldCoalesce(String method) {
+            return switch (this) {
+                case IDEMPOTENT -> method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD");
+                case ALWAYS -> true;
+                case NEVER -> false;
+            };
+        }
+    }
 }
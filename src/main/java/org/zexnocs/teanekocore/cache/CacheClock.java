@@ -0,0 +1,42 @@
+package org.zexnocs.teanekocore.cache;
+
+/**
+ * 缓存使用的毫秒时钟。
+ * 缓存的读操作非常频繁，每次都调用 {@code Instant.now()} 会产生一个 Instant 对象；
+ * 访问时间并不需要比毫秒更高的精度，因此读操作统一读取这里的毫秒时间戳。
+ * <p>
+ * 时间在读取时直接从 {@link System#currentTimeMillis()} 获取，不依赖 CacheService 的清理任务，
+ * 没有注册清理任务的缓存容器（例如测试中直接创建的容器）也能得到正确的访问时间。
+ * 清理任务每次清理前会调用 {@link #tick()} 记录一次时间，读取的时间不会早于该记录，
+ * 因此不会因为系统时间回拨而倒退到上一次清理之前。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public final class CacheClock {
+    /// 上一次清理时记录的毫秒时间戳，作为读取时间的下限
+    private static volatile long lastTickMillis = System.currentTimeMillis();
+
+    private CacheClock() {
+    }
+
+    /**
+     * 获取当前时间。
+     *
+     * @return 毫秒时间戳，不早于上一次清理时记录的时间
+     */
+    public static long currentTimeMillis() {
+        return Math.max(lastTickMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * 记录当前时间。只由清理任务所在的单个线程调用。
+     *
+     * @return 记录的毫秒时间戳
+     */
+    static long tick() {
+        long now = currentTimeMillis();
+        lastTickMillis = now;
+        return now;
+    }
+}
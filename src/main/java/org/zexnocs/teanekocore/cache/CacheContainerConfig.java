@@ -0,0 +1,63 @@
+package org.zexnocs.teanekocore.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.zexnocs.teanekocore.cache.eviction.EvictionPolicyType;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheDataFactory;
+
+import java.time.Duration;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * ConcurrentMapCacheContainer 的完整配置。
+ * 适用于 {@code ConcurrentMapCacheContainer.of(...)} 的快捷方法无法满足的场景，例如限制缓存容量。
+ * <p>
+ * 容量限制：
+ * 1. maximumSize：限制缓存数量，每个缓存的权重为 1。
+ * 2. maximumWeight：限制缓存总权重，必须同时设置 weigher。
+ * 两者最多只能设置一个；都不设置时不限制容量，只根据过期时间清理。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Getter
+@Builder
+public class CacheContainerConfig<K, V> {
+    /// 缓存名称，用于统计和监控；为 null 时使用创建缓存的类的简单类名
+    @Builder.Default
+    private final String name = null;
+
+    /// 单个数据的过期时长，默认 1 小时
+    @Builder.Default
+    private final Duration expireTime = Duration.ofHours(1);
+
+    /// 清理间隔；为 null 时使用 1 / 60 的过期时长
+    @Builder.Default
+    private final Duration cleanInterval = null;
+
+    /// 是否参与手动清理
+    @Builder.Default
+    private final boolean participateInManualClean = true;
+
+    /// 创建 CacheData 的工厂类；为 null 时使用 expireTime 创建 CacheDataFactory
+    @Builder.Default
+    private final ICacheDataFactory<V> cacheDataFactory = null;
+
+    /// 最大缓存数量；小于 0 表示不限制
+    @Builder.Default
+    private final long maximumSize = -1;
+
+    /// 最大缓存总权重；小于 0 表示不限制。需要同时设置 weigher
+    @Builder.Default
+    private final long maximumWeight = -1;
+
+    /// 计算单个缓存权重的函数，只在设置了 maximumWeight 时使用
+    @Builder.Default
+    private final ToLongBiFunction<? super K, ? super V> weigher = null;
+
+    /// 超出容量上限时使用的淘汰策略
+    @Builder.Default
+    private final EvictionPolicyType evictionPolicy = EvictionPolicyType.W_TINY_LFU;
+}
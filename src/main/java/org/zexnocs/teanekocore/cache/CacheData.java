@@ -18,11 +18,11 @@ public class CacheData<V> implements ICacheData<V> {
     @Getter
     private final V value;
 
-    /// 上次访问时间，单位毫秒
-    private volatile Instant lastUpdate;
+    /// 上次访问时间，毫秒时间戳
+    private volatile long lastUpdateMillis;
 
-    /// 过期时间，单位毫秒
-    private final Duration expireTime;
+    /// 过期时长，单位毫秒
+    private final long expireTimeMs;
 
     /**
      * 过期后的处理方法，默认不做任何处理
@@ -54,8 +54,8 @@ public class CacheData<V> implements ICacheData<V> {
      */
     public CacheData(V value, Duration expireTime) {
         this.value = value;
-        this.lastUpdate = Instant.now();
-        this.expireTime = expireTime;
+        this.lastUpdateMillis = System.currentTimeMillis();
+        this.expireTimeMs = expireTime.toMillis();
         this.onExpireFunction = null;
     }
 
@@ -78,8 +78,8 @@ public class CacheData<V> implements ICacheData<V> {
      */
     public CacheData(V value, Duration expireTime, BiFunction<Instant, V, Boolean> onExpireFunction) {
         this.value = value;
-        this.lastUpdate = Instant.now();
-        this.expireTime = expireTime;
+        this.lastUpdateMillis = System.currentTimeMillis();
+        this.expireTimeMs = expireTime.toMillis();
         this.onExpireFunction = onExpireFunction;
     }
 
@@ -90,7 +90,21 @@ public class CacheData<V> implements ICacheData<V> {
      */
     @Override
     public void updateAccessTime(Instant currentTime) {
-        this.lastUpdate = currentTime;
+        updateAccessTimeMillis(currentTime.toEpochMilli());
+    }
+
+    /**
+     * 更新缓存的访问时间。
+     * 只有时间向前走时才写入，避免多个线程同时读取同一个热点缓存时反复写同一个缓存行，
+     * 也避免访问时间因为系统时间回拨而倒退。
+     *
+     * @param currentTimeMillis 当前时间点，毫秒时间戳
+     */
+    @Override
+    public void updateAccessTimeMillis(long currentTimeMillis) {
+        if (currentTimeMillis > lastUpdateMillis) {
+            this.lastUpdateMillis = currentTimeMillis;
+        }
     }
 
     /**
@@ -99,7 +113,16 @@ public class CacheData<V> implements ICacheData<V> {
      * @return true 如果过期，否则 false
      */
     public boolean isExpired(Instant currentTime) {
-        return currentTime.isAfter(lastUpdate.plus(expireTime));
+        return currentTime.toEpochMilli() > lastUpdateMillis + expireTimeMs;
+    }
+
+    /**
+     * 获取预计的过期时间点：上次访问时间 + 过期时长
+     * @return 预计的过期时间点
+     */
+    @Override
+    public Instant getExpirationTime() {
+        return Instant.ofEpochMilli(lastUpdateMillis + expireTimeMs);
     }
 
     /**
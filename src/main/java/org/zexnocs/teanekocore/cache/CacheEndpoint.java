@@ -0,0 +1,105 @@
+package org.zexnocs.teanekocore.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheContainer;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 缓存统计的 actuator 端点，路径为 /actuator/teaneko-caches。
+ * 1. GET /actuator/teaneko-caches：所有缓存的统计快照。
+ * 2. GET /actuator/teaneko-caches/{name}：单个缓存的统计快照。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Component
+@Endpoint(id = "teaneko-caches")
+public class CacheEndpoint {
+    /// 缓存服务
+    private final ICacheService iCacheService;
+
+    @Autowired
+    public CacheEndpoint(ICacheService iCacheService) {
+        this.iCacheService = iCacheService;
+    }
+
+    /**
+     * 获取所有缓存的统计快照。
+     *
+     * @return 缓存唯一名称 → 统计快照，按名称排序
+     */
+    @ReadOperation
+    public Map<String, CacheSnapshot> caches() {
+        var result = new TreeMap<String, CacheSnapshot>();
+        iCacheService.getCaches().forEach((name, cache) -> result.put(name, CacheSnapshot.of(cache)));
+        return result;
+    }
+
+    /**
+     * 获取单个缓存的统计快照。
+     *
+     * @param name 缓存唯一名称
+     * @return 统计快照；缓存不存在时返回 null，端点会响应 404
+     */
+    @ReadOperation
+    public CacheSnapshot cache(@Selector String name) {
+        var cache = iCacheService.getCaches().get(name);
+        return cache == null ? null : CacheSnapshot.of(cache);
+    }
+
+    /**
+     * 单个缓存的统计快照。
+     *
+     * @param size 当前缓存数量
+     * @param maximumWeight 容量上限；小于 0 表示不限制
+     * @param hitCount 命中次数
+     * @param missCount 未命中次数
+     * @param hitRate 命中率
+     * @param putCount 写入次数
+     * @param evictionCount 因为超出容量上限而淘汰的数量
+     * @param expiredCount 因为过期而删除的数量
+     * @param cleanCount 清理次数
+     * @param lastCleanScannedCount 上一次清理时扫描的数量
+     * @param lastCleanExpiredCount 上一次清理时删除的数量
+     * @param lastCleanDurationMicros 上一次清理的耗时，单位微秒
+     * @param totalCleanDurationMicros 累计清理耗时，单位微秒
+     */
+    public record CacheSnapshot(long size,
+                                long maximumWeight,
+                                long hitCount,
+                                long missCount,
+                                double hitRate,
+                                long putCount,
+                                long evictionCount,
+                                long expiredCount,
+                                long cleanCount,
+                                long lastCleanScannedCount,
+                                long lastCleanExpiredCount,
+                                long lastCleanDurationMicros,
+                                long totalCleanDurationMicros) {
+        public static CacheSnapshot of(ICacheContainer cache) {
+            var statistics = cache.getStatistics();
+            return new CacheSnapshot(
+                    cache.size(),
+                    cache.getMaximumWeight(),
+                    statistics.getHitCount(),
+                    statistics.getMissCount(),
+                    statistics.getHitRate(),
+                    statistics.getPutCount(),
+                    statistics.getEvictionCount(),
+                    statistics.getExpiredCount(),
+                    statistics.getCleanCount(),
+                    statistics.getLastCleanScannedCount(),
+                    statistics.getLastCleanExpiredCount(),
+                    statistics.getLastCleanDurationNanos() / 1000,
+                    statistics.getCleanDurationNanos() / 1000);
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package org.zexnocs.teanekocore.cache;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
+import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -11,18 +17,22 @@ import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Set;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 用于自动管理缓存的服务类。
  * 主要用于清理长时间未被访问的缓存资源。
+ * <p>
+ * 同时作为 {@link MeterBinder} 为每个缓存注册 Micrometer 指标，标签 cache 为缓存的唯一名称。
  *
  * @author zExNocs
  * @date 2026/02/10
  */
 @Service
-public class CacheService implements ICacheService {
+public class CacheService implements ICacheService, MeterBinder {
     /// 清理缓存任务的命名空间
     public static final String CLEAN_CACHE_TASK_NAMESPACE = "one-bot-cache-service-clean-cache-task";
 
@@ -32,8 +42,11 @@ public class CacheService implements ICacheService {
     /// 清理缓存的时间间隔
     private final Duration cleanCacheInterval;
 
-    /// 缓存列表
-    private final Set<ICacheContainer> cacheMap = ConcurrentHashMap.newKeySet();
+    /// 缓存唯一名称 → 缓存
+    private final Map<String, ICacheContainer> cacheMap = new ConcurrentHashMap<>();
+
+    /// 已绑定的指标注册表；为 null 表示还没有绑定
+    private volatile MeterRegistry meterRegistry;
 
     @Autowired
     public CacheService(ITimerService iTimerService,
@@ -58,8 +71,8 @@ public class CacheService implements ICacheService {
      * @return emptyTaskResult
      */
     public EmptyTaskResult cleanCacheTask() {
-        var currentTime = Instant.now();
-        for (ICacheContainer cache : cacheMap) {
+        var currentTime = Instant.ofEpochMilli(CacheClock.tick());
+        for (ICacheContainer cache : cacheMap.values()) {
             cache.autoClean(currentTime);
         }
         return EmptyTaskResult.INSTANCE;
@@ -71,7 +84,37 @@ public class CacheService implements ICacheService {
      */
     @Override
     public void addCache(ICacheContainer cache) {
-        cacheMap.add(cache);
+        var name = cache.getName();
+        // 同名缓存使用 -2、-3 ... 区分；不使用 #，否则无法作为 URL 路径访问
+        for (int i = 2; cacheMap.putIfAbsent(name, cache) != null; i++) {
+            name = cache.getName() + "-" + i;
+        }
+        var registry = meterRegistry;
+        if (registry != null) {
+            _bindCache(registry, name, cache);
+        }
+    }
+
+    /**
+     * 获取所有缓存。
+     *
+     * @return 缓存唯一名称 → 缓存 的只读视图
+     */
+    @Override
+    public Map<String, ICacheContainer> getCaches() {
+        return Collections.unmodifiableMap(cacheMap);
+    }
+
+    /**
+     * 为已有的缓存注册指标，之后新增的缓存会在 addCache 时注册。
+     * 重复注册同一个指标时 Micrometer 会返回已有的指标，因此与 addCache 并发时不会出错。
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        meterRegistry = registry;
+        cacheMap.forEach((name, cache) -> _bindCache(registry, name, cache));
     }
 
     /**
@@ -80,8 +123,52 @@ public class CacheService implements ICacheService {
      */
     @Override
     public void manualCleanAll() {
-        for (ICacheContainer cache : cacheMap) {
+        for (ICacheContainer cache : cacheMap.values()) {
             cache.manualClean();
         }
     }
+
+    /**
+     * 为单个缓存注册指标。
+     *
+     * @param registry 指标注册表
+     * @param name 缓存唯一名称
+     * @param cache 缓存
+     */
+    private static void _bindCache(MeterRegistry registry, String name, ICacheContainer cache) {
+        var statistics = cache.getStatistics();
+        Gauge.builder("teaneko.cache.size", cache, ICacheContainer::size)
+                .tag("cache", name)
+                .description("缓存数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.cache.gets", statistics, CacheStatistics::getHitCount)
+                .tags("cache", name, "result", "hit")
+                .description("缓存命中次数")
+                .register(registry);
+        FunctionCounter.builder("teaneko.cache.gets", statistics, CacheStatistics::getMissCount)
+                .tags("cache", name, "result", "miss")
+                .description("缓存未命中次数")
+                .register(registry);
+        FunctionCounter.builder("teaneko.cache.puts", statistics, CacheStatistics::getPutCount)
+                .tag("cache", name)
+                .description("缓存写入次数")
+                .register(registry);
+        FunctionCounter.builder("teaneko.cache.evictions", statistics, CacheStatistics::getEvictionCount)
+                .tags("cache", name, "cause", "size")
+                .description("因为超出容量上限而淘汰的缓存数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.cache.evictions", statistics, CacheStatistics::getExpiredCount)
+                .tags("cache", name, "cause", "expired")
+                .description("因为过期而删除的缓存数量")
+                .register(registry);
+        TimeGauge.builder("teaneko.cache.clean.last.duration", statistics, TimeUnit.NANOSECONDS,
+                        CacheStatistics::getLastCleanDurationNanos)
+                .tag("cache", name)
+                .description("上一次清理的耗时")
+                .register(registry);
+        Gauge.builder("teaneko.cache.clean.last.scanned", statistics, CacheStatistics::getLastCleanScannedCount)
+                .tag("cache", name)
+                .description("上一次清理时扫描的缓存数量")
+                .register(registry);
+    }
 }
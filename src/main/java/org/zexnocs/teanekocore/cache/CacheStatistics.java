@@ -0,0 +1,170 @@
+package org.zexnocs.teanekocore.cache;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存容器的统计数据。
+ * 累计计数使用 {@link LongAdder}，避免在缓存的热路径上产生竞争。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class CacheStatistics {
+    /// 命中次数
+    private final LongAdder hitCount = new LongAdder();
+
+    /// 未命中次数
+    private final LongAdder missCount = new LongAdder();
+
+    /// 写入次数
+    private final LongAdder putCount = new LongAdder();
+
+    /// 因为超出容量上限而淘汰的缓存数量
+    private final LongAdder evictionCount = new LongAdder();
+
+    /// 累计清理时扫描的缓存数量
+    private final LongAdder scannedCount = new LongAdder();
+
+    /// 累计因为过期而删除的缓存数量
+    private final LongAdder expiredCount = new LongAdder();
+
+    /// 上一次清理时扫描的缓存数量
+    @Getter
+    private volatile long lastCleanScannedCount;
+
+    /// 上一次清理时因为过期而删除的缓存数量
+    @Getter
+    private volatile long lastCleanExpiredCount;
+
+    /// 上一次清理的耗时，单位纳秒
+    @Getter
+    private volatile long lastCleanDurationNanos;
+
+    /// 累计清理耗时，单位纳秒
+    private final LongAdder cleanDurationNanos = new LongAdder();
+
+    /// 清理次数
+    private final LongAdder cleanCount = new LongAdder();
+
+    /// 记录一次命中
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    /// 记录一次未命中
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    /// 记录一次写入
+    void recordPut() {
+        putCount.increment();
+    }
+
+    /// 记录一次容量淘汰
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     * 记录一次清理的结果。
+     *
+     * @param scanned 扫描的缓存数量
+     * @param expired 删除的缓存数量
+     * @param durationNanos 清理耗时，单位纳秒
+     */
+    void recordCleanPass(long scanned, long expired, long durationNanos) {
+        scannedCount.add(scanned);
+        expiredCount.add(expired);
+        cleanDurationNanos.add(durationNanos);
+        cleanCount.increment();
+        lastCleanScannedCount = scanned;
+        lastCleanExpiredCount = expired;
+        lastCleanDurationNanos = durationNanos;
+    }
+
+    /**
+     * 获取累计清理时扫描的缓存数量。
+     *
+     * @return 累计扫描数量
+     */
+    public long getScannedCount() {
+        return scannedCount.sum();
+    }
+
+    /**
+     * 获取累计因为过期而删除的缓存数量。
+     *
+     * @return 累计删除数量
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /**
+     * 获取命中次数。
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取未命中次数。
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取命中率。
+     *
+     * @return 命中率；没有任何访问时返回 1
+     */
+    public double getHitRate() {
+        long hit = getHitCount();
+        long total = hit + getMissCount();
+        return total == 0 ? 1.0 : (double) hit / total;
+    }
+
+    /**
+     * 获取因为超出容量上限而淘汰的缓存数量。
+     *
+     * @return 淘汰数量
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 获取写入次数。
+     *
+     * @return 写入次数
+     */
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    /**
+     * 获取清理次数。
+     *
+     * @return 清理次数
+     */
+    public long getCleanCount() {
+        return cleanCount.sum();
+    }
+
+    /**
+     * 获取累计清理耗时。
+     *
+     * @return 累计清理耗时，单位纳秒
+     */
+    public long getCleanDurationNanos() {
+        return cleanDurationNanos.sum();
+    }
+}
@@ -1,19 +1,33 @@
 package org.zexnocs.teanekocore.cache;
 
-import org.zexnocs.teanekocore.cache.interfaces.ICacheContainer;
-import org.zexnocs.teanekocore.cache.interfaces.ICacheData;
-import org.zexnocs.teanekocore.cache.interfaces.ICacheDataFactory;
-import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+import lombok.Getter;
+import org.zexnocs.teanekocore.cache.interfaces.*;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
 
 /**
  * 基于 ConcurrentHashMap 实现的缓存类，所有缓存资源的清理时间是共享的。
+ * <p>
+ * 过期清理使用按时间分桶的过期索引：每个桶的宽度为清理间隔，缓存按照 {@link ICacheData#getExpirationTime()}
+ * 放入对应的桶中，每次清理只检查已经到期的桶，而不是遍历整个缓存。
+ * 访问只会刷新缓存自身的访问时间，不会修改索引；到期检查时如果发现缓存因为访问还没有过期，则按新的过期时间重新放入索引。
+ * <p>
+ * 如果通过 {@link CacheContainerConfig} 设置了容量上限，超出上限时会按照淘汰策略删除缓存，
+ * 并调用被删除缓存的 {@link ICacheData#onEvict(Instant, Object)}。
+ * 淘汰策略由一把锁保护：写入和删除会等待该锁，读取只在锁空闲时记录访问，竞争激烈时允许丢失部分访问记录。
+ * 写入时会在锁内确认缓存仍然存在后才记录到淘汰策略中，删除也在锁内完成，避免并发的写入和删除在淘汰策略中残留不存在的键；
+ * onEvict 在释放锁之后才调用，回调中可以再次访问该缓存容器。
  * <param K> 键类型
  * <param V> 值类型
  *
@@ -91,12 +105,11 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
                                                               Duration expireTime,
                                                               Duration cleanInterval,
                                                               boolean participateInManualClean) {
-        var instance = new ConcurrentMapCacheContainer<K, V>(
-                participateInManualClean,
-                cleanInterval,
-                new CacheDataFactory<>(expireTime));
-        cacheService.addCache(instance);
-        return instance;
+        return of(cacheService, CacheContainerConfig.<K, V>builder()
+                .expireTime(expireTime)
+                .cleanInterval(cleanInterval)
+                .participateInManualClean(participateInManualClean)
+                .build());
     }
 
     /**
@@ -120,16 +133,54 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
                                                               Duration cleanInterval,
                                                               ICacheDataFactory<V> iCacheDataFactory,
                                                               boolean participateInManualClean) {
-        var instance = new ConcurrentMapCacheContainer<K, V>(
-                participateInManualClean,
-                cleanInterval,
-                iCacheDataFactory);
+        return of(cacheService, CacheContainerConfig.<K, V>builder()
+                .cleanInterval(cleanInterval)
+                .cacheDataFactory(iCacheDataFactory)
+                .participateInManualClean(participateInManualClean)
+                .build());
+    }
+
+    /**
+     * 使用完整的配置创建 ConcurrentMapCacheContainer 实例，例如需要限制缓存容量时。
+     *
+     * @param cacheService 缓存服务实例
+     * @param config 缓存容器配置
+     * @return 创建好的 ConcurrentMapCacheContainer 实例
+     * @param <K> 键类型
+     * @param <V> 值类型
+     * @throws IllegalArgumentException 如果同时设置了 maximumSize 和 maximumWeight，或者设置了 maximumWeight 但没有设置 weigher
+     */
+    public static <K, V> ConcurrentMapCacheContainer<K, V> of(ICacheService cacheService,
+                                                              CacheContainerConfig<K, V> config) {
+        var name = config.getName() != null ? config.getName() : _callerName();
+        var instance = new ConcurrentMapCacheContainer<>(name, config);
         cacheService.addCache(instance);
         return instance;
     }
 
+    /// 用于获取创建缓存的类名
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * 获取创建缓存的类的简单类名，作为没有指定名称的缓存的默认名称。
+     *
+     * @return 调用者的简单类名
+     */
+    private static String _callerName() {
+        return STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(clazz -> clazz != ConcurrentMapCacheContainer.class)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse("cache"));
+    }
+
     // -------------------------------
 
+    /// 缓存名称，用于统计和监控
+    @Getter
+    private final String name;
+
     /// 清理间隔时间，单位毫秒
     private final Duration cleanInterval;
 
@@ -145,13 +196,58 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
     /// 创建 CacheData 的工厂类
     private final ICacheDataFactory<V> iCacheDataFactory;
 
-    private ConcurrentMapCacheContainer(boolean participateInManualClean,
-                                        Duration cleanInterval,
-                                        ICacheDataFactory<V> iCacheDataFactory) {
+    /// 过期索引：桶编号 → 桶内的键。桶内集合只在 compute 中修改，或在整个桶被取出后由清理线程独占读取。
+    private final Map<Long, Set<K>> expiryIndex = new ConcurrentHashMap<>();
+
+    /// 过期索引中每个桶的宽度，单位毫秒
+    private final long bucketWidthMs;
+
+    /// 统计数据
+    @Getter
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    /// 容量上限；小于 0 表示不限制
+    @Getter
+    private final long maximumWeight;
+
+    /// 淘汰策略；为 null 表示不限制容量
+    private final ICacheEvictionPolicy<K> evictionPolicy;
+
+    /// 计算缓存权重的函数；为 null 表示每个缓存的权重为 1
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+
+    /// 保护淘汰策略的锁
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private ConcurrentMapCacheContainer(String name, CacheContainerConfig<K, V> config) {
+        if (config.getMaximumSize() >= 0 && config.getMaximumWeight() >= 0) {
+            throw new IllegalArgumentException("maximumSize 和 maximumWeight 不能同时设置");
+        }
+        if (config.getMaximumWeight() >= 0 && config.getWeigher() == null) {
+            throw new IllegalArgumentException("设置 maximumWeight 时必须同时设置 weigher");
+        }
+        this.name = name;
+        var expireTime = config.getExpireTime();
+        var cleanInterval = config.getCleanInterval() != null
+                ? config.getCleanInterval()
+                : expireTime.dividedBy(60);
         this.cleanInterval = cleanInterval;
-        this.participateInManualClean = participateInManualClean;
+        this.participateInManualClean = config.isParticipateInManualClean();
         this.lastCleanTime = Instant.now();
-        this.iCacheDataFactory = iCacheDataFactory;
+        this.iCacheDataFactory = config.getCacheDataFactory() != null
+                ? config.getCacheDataFactory()
+                : new CacheDataFactory<>(expireTime);
+        this.bucketWidthMs = Math.max(1, cleanInterval.toMillis());
+        if (config.getMaximumWeight() >= 0) {
+            this.maximumWeight = config.getMaximumWeight();
+            this.weigher = config.getWeigher();
+        } else {
+            this.maximumWeight = config.getMaximumSize();
+            this.weigher = null;
+        }
+        this.evictionPolicy = maximumWeight >= 0
+                ? config.getEvictionPolicy().create(maximumWeight)
+                : null;
     }
 
     /**
@@ -161,8 +257,9 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
      * @param cache 缓存数据，包含值和过期时间
      */
     public void put(K key, ICacheData<V> cache) {
-        cache.updateAccessTime(Instant.now());
+        cache.updateAccessTimeMillis(CacheClock.currentTimeMillis());
         this.cache.put(key, cache);
+        _afterWrite(key, cache);
     }
 
     /**
@@ -172,7 +269,9 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
      * @param value 值
      */
     public void put(K key, V value) {
-        cache.put(key, iCacheDataFactory.createCacheData(value));
+        var data = iCacheDataFactory.createCacheData(value);
+        cache.put(key, data);
+        _afterWrite(key, data);
     }
 
     /**
@@ -184,9 +283,12 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
     public V get(K key) {
         var data = cache.get(key);
         if (data != null) {
-            data.updateAccessTime(Instant.now());
+            statistics.recordHit();
+            _afterRead(key);
+            data.updateAccessTimeMillis(CacheClock.currentTimeMillis());
             return data.getValue();
         }
+        statistics.recordMiss();
         return null;
     }
 
@@ -198,8 +300,26 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
      * @return 值
      */
     public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
-        var data = cache.computeIfAbsent(key, k -> iCacheDataFactory.createCacheData(mappingFunction.apply(k)));
-        data.updateAccessTime(Instant.now());
+        var data = cache.get(key);
+        if (data == null) {
+            // 只有新建的缓存才需要加入过期索引
+            @SuppressWarnings("unchecked")
+            ICacheData<V>[] created = new ICacheData[1];
+            data = cache.computeIfAbsent(key, k -> {
+                created[0] = iCacheDataFactory.createCacheData(mappingFunction.apply(k));
+                return created[0];
+            });
+            if (data == created[0]) {
+                statistics.recordMiss();
+                _afterWrite(key, data);
+            } else {
+                statistics.recordHit();
+            }
+        } else {
+            statistics.recordHit();
+            _afterRead(key);
+        }
+        data.updateAccessTimeMillis(CacheClock.currentTimeMillis());
         return data.getValue();
     }
 
@@ -220,9 +340,11 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
             }
         });
         if (data != null) {
-            data.updateAccessTime(Instant.now());
+            _afterWrite(key, data);
+            data.updateAccessTimeMillis(CacheClock.currentTimeMillis());
             return data.getValue();
         }
+        _afterRemove(key);
         return null;
     }
 
@@ -244,9 +366,11 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
             }
         });
         if (data != null) {
-            data.updateAccessTime(Instant.now());
+            _afterWrite(key, data);
+            data.updateAccessTimeMillis(CacheClock.currentTimeMillis());
             return data.getValue();
         }
+        _afterRemove(key);
         return null;
     }
 
@@ -256,7 +380,24 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
      * @param key 键
      */
     public void remove(K key) {
-        cache.remove(key);
+        ICacheData<V> data;
+        if (evictionPolicy == null) {
+            data = cache.remove(key);
+        } else {
+            // 删除和淘汰策略的更新在同一把锁内完成，与 _afterWrite 互斥
+            evictionLock.lock();
+            try {
+                data = cache.remove(key);
+                if (data != null) {
+                    evictionPolicy.onRemove(key);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        if (data != null) {
+            _unindex(key, data);
+        }
     }
 
     /**
@@ -275,12 +416,25 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
     @Override
     public void manualClean() {
         if (participateInManualClean) {
-            cache.clear();
+            // 先清理索引，保证并发写入的缓存不会丢失索引
+            expiryIndex.clear();
+            if (evictionPolicy == null) {
+                cache.clear();
+                return;
+            }
+            evictionLock.lock();
+            try {
+                cache.clear();
+                evictionPolicy.clear();
+            } finally {
+                evictionLock.unlock();
+            }
         }
     }
 
     /**
-     * 自动清理缓存
+     * 自动清理缓存。
+     * 只检查过期索引中已经到期的桶。
      *
      * @param currentTime 当前时间点
      */
@@ -291,14 +445,197 @@ public class ConcurrentMapCacheContainer<K, V> implements ICacheContainer {
             return;
         }
         lastCleanTime = currentTime;
-        // 清理过期缓存
-        cache.entrySet().removeIf(entry -> {
-            var value = entry.getValue();
-            if(value.isExpired(currentTime)) {
-                // 执行过期后的处理方法
-                return value.onExpire(currentTime, value.getValue());
+        long startNanos = System.nanoTime();
+        long currentBucket = Math.floorDiv(currentTime.toEpochMilli(), bucketWidthMs);
+        long scanned = 0;
+        long expired = 0;
+        for (var bucket : expiryIndex.keySet()) {
+            if (bucket > currentBucket) {
+                continue;
+            }
+            var keys = expiryIndex.remove(bucket);
+            if (keys == null) {
+                continue;
+            }
+            for (var key : keys) {
+                var data = cache.get(key);
+                if (data == null) {
+                    // 已经被删除
+                    continue;
+                }
+                scanned++;
+                if (data.isExpired(currentTime) && data.onExpire(currentTime, data.getValue())) {
+                    // 执行过期后的处理方法，返回 true 则删除
+                    if (cache.remove(key, data)) {
+                        _afterRemove(key);
+                        expired++;
+                    }
+                    continue;
+                }
+                // 还没有过期或者暂时不删除，按照新的过期时间重新加入索引，至少等到下一次清理
+                _index(key, data, currentBucket + 1);
+            }
+        }
+        statistics.recordCleanPass(scanned, expired, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 获取当前的缓存数量
+     *
+     * @return 缓存数量
+     */
+    @Override
+    public long size() {
+        return cache.size();
+    }
+
+    // ------------ 容量淘汰 ------------
+    /**
+     * 写入缓存后，加入过期索引并记录到淘汰策略中；如果超出容量上限则淘汰缓存。
+     * 如果在获取锁之前缓存已经被删除或者被替换，则不记录，由替换者自己记录。
+     *
+     * @param key  键
+     * @param data 写入的缓存数据
+     */
+    private void _afterWrite(K key, ICacheData<V> data) {
+        statistics.recordPut();
+        _index(key, data, Long.MIN_VALUE);
+        if (evictionPolicy == null) {
+            return;
+        }
+        var weight = weigher == null ? 1 : weigher.applyAsLong(key, data.getValue());
+        List<Map.Entry<K, ICacheData<V>>> evicted;
+        evictionLock.lock();
+        try {
+            if (cache.get(key) != data) {
+                return;
+            }
+            evictionPolicy.onWrite(key, weight);
+            evicted = _evict();
+        } finally {
+            evictionLock.unlock();
+        }
+        // 在锁外调用回调，避免回调访问容器时长时间持有锁
+        var now = Instant.now();
+        for (var entry : evicted) {
+            var evictedData = entry.getValue();
+            evictedData.onEvict(now, evictedData.getValue());
+        }
+    }
+
+    /**
+     * 读取缓存后，记录到淘汰策略中。
+     * 只在锁空闲时记录，避免读取之间互相等待。
+     *
+     * @param key 键
+     */
+    private void _afterRead(K key) {
+        if (evictionPolicy == null || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            evictionPolicy.onAccess(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 删除缓存后，从淘汰策略中删除。
+     * 如果在获取锁之前同一个键已经被重新写入，则保留淘汰策略中的记录。
+     *
+     * @param key 键
+     */
+    private void _afterRemove(K key) {
+        if (evictionPolicy == null) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            if (!cache.containsKey(key)) {
+                evictionPolicy.onRemove(key);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 淘汰缓存直到不超出容量上限。
+     * 需要持有 evictionLock；被淘汰缓存的 onEvict 由调用者在释放锁之后调用。
+     *
+     * @return 被淘汰的缓存
+     */
+    private List<Map.Entry<K, ICacheData<V>>> _evict() {
+        List<Map.Entry<K, ICacheData<V>>> evicted = List.of();
+        K victim;
+        while ((victim = evictionPolicy.selectVictim()) != null) {
+            evictionPolicy.onRemove(victim);
+            var data = cache.remove(victim);
+            if (data == null) {
+                continue;
+            }
+            _unindex(victim, data);
+            statistics.recordEviction();
+            if (evicted.isEmpty()) {
+                evicted = new ArrayList<>();
+            }
+            evicted.add(Map.entry(victim, data));
+        }
+        return evicted;
+    }
+
+    // ------------ 过期索引 ------------
+    /**
+     * 将缓存加入过期索引。
+     * 无法预测过期时间的缓存会放入最小的桶，也就是在每次清理时都检查。
+     *
+     * @param key       键
+     * @param data      缓存数据
+     * @param minBucket 最小的桶编号
+     */
+    private void _index(K key, ICacheData<V> data, long minBucket) {
+        var bucket = Math.max(_bucketOf(data), minBucket);
+        expiryIndex.compute(bucket, (b, keys) -> {
+            if (keys == null) {
+                keys = new HashSet<>();
             }
-            return false;
+            keys.add(key);
+            return keys;
         });
     }
+
+    /**
+     * 尽可能地将已经删除的缓存从过期索引中移除，避免索引保留大量已经删除的键。
+     * 如果缓存因为访问被放在了其他桶中，则交给清理时处理。
+     *
+     * @param key  键
+     * @param data 被删除的缓存数据
+     */
+    private void _unindex(K key, ICacheData<V> data) {
+        expiryIndex.computeIfPresent(_bucketOf(data), (b, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+        // 并发写入同一个键时，保证新的缓存仍然在索引中
+        var current = cache.get(key);
+        if (current != null) {
+            _index(key, current, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * 计算缓存所在的桶编号。
+     * 桶编号 b 表示该桶在 b * bucketWidthMs 时到期，此时桶内的缓存都已经超过了过期时间点。
+     *
+     * @param data 缓存数据
+     * @return 桶编号；无法预测过期时间时返回 Long.MIN_VALUE
+     */
+    private long _bucketOf(ICacheData<V> data) {
+        var expirationTime = data.getExpirationTime();
+        if (expirationTime == null) {
+            return Long.MIN_VALUE;
+        }
+        return Math.floorDiv(expirationTime.toEpochMilli(), bucketWidthMs) + 1;
+    }
 }
@@ -0,0 +1,38 @@
+package org.zexnocs.teanekocore.cache.eviction;
+
+import org.zexnocs.teanekocore.cache.interfaces.ICacheEvictionPolicy;
+
+import java.util.function.LongFunction;
+
+/**
+ * 缓存容量淘汰策略的类型。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public enum EvictionPolicyType {
+    /// 最近最少使用：淘汰最久没有被访问的缓存。
+    LRU(LruEvictionPolicy::new),
+
+    /// W-TinyLFU：使用小窗口 LRU 接纳新缓存，主区域根据访问频率决定是否接纳，适合热点明显的访问模式。
+    W_TINY_LFU(WTinyLfuEvictionPolicy::new);
+
+    /// 根据容量上限创建淘汰策略
+    private final LongFunction<ICacheEvictionPolicy<?>> factory;
+
+    EvictionPolicyType(LongFunction<ICacheEvictionPolicy<?>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 创建一个淘汰策略。
+     *
+     * @param maximumWeight 容量上限
+     * @return 淘汰策略
+     * @param <K> 键类型
+     */
+    @SuppressWarnings("unchecked")
+    public <K> ICacheEvictionPolicy<K> create(long maximumWeight) {
+        return (ICacheEvictionPolicy<K>) factory.apply(maximumWeight);
+    }
+}
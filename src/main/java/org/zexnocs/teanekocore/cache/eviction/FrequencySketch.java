@@ -0,0 +1,105 @@
+package org.zexnocs.teanekocore.cache.eviction;
+
+/**
+ * 用于估计访问频率的 Count-Min Sketch。
+ * 每个计数器最大为 15，当记录次数达到采样上限时所有计数器减半，使频率随时间衰减。
+ *
+ * @param <K> 键类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+class FrequencySketch<K> {
+    /// 计数器的行数，即哈希函数的数量
+    private static final int DEPTH = 4;
+
+    /// 单个计数器的上限
+    private static final int MAX_FREQUENCY = 15;
+
+    /// 每一行哈希函数使用的种子
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    /// 计数器表
+    private final byte[][] table;
+
+    /// 计算下标的掩码
+    private final int mask;
+
+    /// 采样上限，达到后计数器减半
+    private final long sampleSize;
+
+    /// 自上次衰减以来的记录次数
+    private long additions;
+
+    /**
+     * 构造函数。
+     *
+     * @param maximumWeight 缓存的容量上限，用于决定计数器表的宽度
+     */
+    FrequencySketch(long maximumWeight) {
+        int width = Integer.highestOneBit(Math.clamp(maximumWeight, 16, 1 << 20) - 1) << 1;
+        this.table = new byte[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = 10L * width;
+    }
+
+    /**
+     * 记录一次访问。
+     *
+     * @param key 键
+     */
+    void increment(K key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            var row = table[i];
+            int index = indexOf(hash, i);
+            if (row[index] < MAX_FREQUENCY) {
+                row[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 估计访问频率。
+     *
+     * @param key 键
+     * @return 估计的访问频率，最大为 15
+     */
+    int frequency(K key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    /// 所有计数器减半
+    private void reset() {
+        for (var row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        additions /= 2;
+    }
+
+    /// 计算第 i 行的下标
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+
+    /// 打散 hashCode 的低位
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
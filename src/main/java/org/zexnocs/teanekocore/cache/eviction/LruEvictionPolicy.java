@@ -0,0 +1,69 @@
+package org.zexnocs.teanekocore.cache.eviction;
+
+import lombok.Getter;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheEvictionPolicy;
+
+import java.util.LinkedHashMap;
+
+/**
+ * 最近最少使用 (LRU) 淘汰策略。
+ * 超出容量上限时淘汰最久没有被访问的缓存。
+ *
+ * @param <K> 键类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class LruEvictionPolicy<K> implements ICacheEvictionPolicy<K> {
+    /// 容量上限
+    private final long maximumWeight;
+
+    /// 按访问顺序排列的键 → 权重，最久没有被访问的在最前面
+    private final LinkedHashMap<K, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /// 当前的总权重
+    @Getter
+    private long weightedSize;
+
+    /**
+     * 构造函数。
+     *
+     * @param maximumWeight 容量上限
+     */
+    public LruEvictionPolicy(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    @Override
+    public void onWrite(K key, long weight) {
+        var old = entries.put(key, weight);
+        weightedSize += weight - (old == null ? 0 : old);
+    }
+
+    @Override
+    public void onAccess(K key) {
+        // access order 的 LinkedHashMap 会在 get 时将该键移到最后
+        entries.get(key);
+    }
+
+    @Override
+    public void onRemove(K key) {
+        var old = entries.remove(key);
+        if (old != null) {
+            weightedSize -= old;
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        weightedSize = 0;
+    }
+
+    @Override
+    public K selectVictim() {
+        if (weightedSize <= maximumWeight || entries.isEmpty()) {
+            return null;
+        }
+        return entries.sequencedKeySet().getFirst();
+    }
+}
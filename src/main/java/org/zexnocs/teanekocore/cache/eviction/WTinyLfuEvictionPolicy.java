@@ -0,0 +1,184 @@
+package org.zexnocs.teanekocore.cache.eviction;
+
+import org.zexnocs.teanekocore.cache.interfaces.ICacheEvictionPolicy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * W-TinyLFU 淘汰策略。
+ * <p>
+ * 缓存分为三个区域：
+ * 1. 窗口区 (window)：约占容量的 1%，新写入的缓存先进入窗口区，按 LRU 排序。
+ * 2. 试用区 (probation)：从窗口区溢出的缓存进入试用区。
+ * 3. 保护区 (protected)：在试用区中再次被访问的缓存晋升到保护区，约占主区域的 80%。
+ * <p>
+ * 窗口区溢出且容量已满时，窗口区最旧的缓存作为候选者，与试用区最旧的缓存比较 {@link FrequencySketch} 估计的访问频率，
+ * 频率更高的一方被保留；这样一次性的访问不会把热点缓存挤出去。
+ *
+ * @param <K> 键类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class WTinyLfuEvictionPolicy<K> implements ICacheEvictionPolicy<K> {
+    /// 窗口区占总容量的比例
+    private static final double WINDOW_RATIO = 0.01;
+
+    /// 保护区占主区域的比例
+    private static final double PROTECTED_RATIO = 0.8;
+
+    /// 容量上限
+    private final long maximumWeight;
+
+    /// 窗口区容量上限
+    private final long windowMaximum;
+
+    /// 保护区容量上限
+    private final long protectedMaximum;
+
+    /// 窗口区、试用区、保护区；键 → 权重，最久没有被访问的在最前面
+    private final LinkedHashMap<K, Long> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Long> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Long> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    /// 各个区域的当前权重
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    /// 访问频率估计
+    private final FrequencySketch<K> sketch;
+
+    /**
+     * 构造函数。
+     *
+     * @param maximumWeight 容量上限
+     */
+    public WTinyLfuEvictionPolicy(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_RATIO));
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch<>(maximumWeight);
+    }
+
+    @Override
+    public void onWrite(K key, long weight) {
+        sketch.increment(key);
+        Long old;
+        if ((old = window.get(key)) != null) {
+            window.put(key, weight);
+            windowWeight += weight - old;
+        } else if ((old = probation.remove(key)) != null) {
+            probationWeight -= old;
+            _promote(key, weight);
+        } else if ((old = protectedSegment.get(key)) != null) {
+            protectedSegment.put(key, weight);
+            protectedWeight += weight - old;
+            _demoteProtectedOverflow();
+        } else {
+            window.put(key, weight);
+            windowWeight += weight;
+        }
+    }
+
+    @Override
+    public void onAccess(K key) {
+        sketch.increment(key);
+        if (window.get(key) != null) {
+            return;
+        }
+        var weight = probation.remove(key);
+        if (weight != null) {
+            // 试用区中再次被访问的缓存晋升到保护区
+            probationWeight -= weight;
+            _promote(key, weight);
+            return;
+        }
+        protectedSegment.get(key);
+    }
+
+    @Override
+    public void onRemove(K key) {
+        Long old;
+        if ((old = window.remove(key)) != null) {
+            windowWeight -= old;
+        } else if ((old = probation.remove(key)) != null) {
+            probationWeight -= old;
+        } else if ((old = protectedSegment.remove(key)) != null) {
+            protectedWeight -= old;
+        }
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    @Override
+    public K selectVictim() {
+        // 窗口区溢出的缓存作为候选者尝试进入主区域
+        while (windowWeight > windowMaximum && !window.isEmpty()) {
+            var candidate = window.firstEntry();
+            if (getWeightedSize() <= maximumWeight) {
+                // 还有空间，直接进入试用区
+                window.remove(candidate.getKey());
+                windowWeight -= candidate.getValue();
+                probation.put(candidate.getKey(), candidate.getValue());
+                probationWeight += candidate.getValue();
+                continue;
+            }
+            // 没有空间：与主区域最旧的缓存比较访问频率，淘汰频率较低的一方
+            var victim = _firstEntry(probation, protectedSegment);
+            if (victim == null) {
+                return candidate.getKey();
+            }
+            return sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())
+                    ? victim.getKey()
+                    : candidate.getKey();
+        }
+        if (getWeightedSize() <= maximumWeight) {
+            return null;
+        }
+        // 窗口区没有溢出但总量超出上限：依次从试用区、保护区、窗口区淘汰最旧的缓存
+        var victim = _firstEntry(probation, protectedSegment, window);
+        return victim == null ? null : victim.getKey();
+    }
+
+    @Override
+    public long getWeightedSize() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    /// 晋升到保护区
+    private void _promote(K key, long weight) {
+        protectedSegment.put(key, weight);
+        protectedWeight += weight;
+        _demoteProtectedOverflow();
+    }
+
+    /// 保护区溢出时，将最旧的缓存降级到试用区
+    private void _demoteProtectedOverflow() {
+        while (protectedWeight > protectedMaximum && protectedSegment.size() > 1) {
+            var eldest = protectedSegment.pollFirstEntry();
+            protectedWeight -= eldest.getValue();
+            probation.put(eldest.getKey(), eldest.getValue());
+            probationWeight += eldest.getValue();
+        }
+    }
+
+    /// 获取第一个非空区域中最旧的缓存
+    @SafeVarargs
+    private static <K> Map.Entry<K, Long> _firstEntry(LinkedHashMap<K, Long>... segments) {
+        for (var segment : segments) {
+            if (!segment.isEmpty()) {
+                return segment.firstEntry();
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,7 @@
 package org.zexnocs.teanekocore.cache.interfaces;
 
+import org.zexnocs.teanekocore.cache.CacheStatistics;
+
 import java.time.Instant;
 
 /**
@@ -9,6 +11,13 @@ import java.time.Instant;
  * @date 2026/02/06
  */
 public interface ICacheContainer {
+    /**
+     * 获取缓存名称，用于统计和监控
+     *
+     * @return 缓存名称
+     */
+    String getName();
+
     /**
      * 用于在特定情况下手动清理缓存
      */
@@ -20,4 +29,26 @@ public interface ICacheContainer {
      * @param currentTime 当前时间点
      */
     void autoClean(Instant currentTime);
+
+    /**
+     * 获取当前的缓存数量
+     *
+     * @return 缓存数量
+     */
+    long size();
+
+    /**
+     * 获取容量上限。
+     * 如果没有设置权重函数，则表示最大缓存数量。
+     *
+     * @return 容量上限；小于 0 表示不限制
+     */
+    long getMaximumWeight();
+
+    /**
+     * 获取缓存的统计数据
+     *
+     * @return 统计数据
+     */
+    CacheStatistics getStatistics();
 }
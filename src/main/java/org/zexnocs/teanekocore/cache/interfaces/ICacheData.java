@@ -21,6 +21,17 @@ public interface ICacheData<V> {
      */
     void updateAccessTime(Instant currentTime);
 
+    /**
+     * 使用毫秒时间戳更新缓存的访问时间。
+     * 缓存容器的读操作使用该方法和 {@code CacheClock} 的毫秒时间，避免每次访问都创建 Instant。
+     * 默认转换为 Instant 后调用 updateAccessTime，实现类可以覆盖它直接保存毫秒时间戳。
+     *
+     * @param currentTimeMillis 当前时间点，毫秒时间戳
+     */
+    default void updateAccessTimeMillis(long currentTimeMillis) {
+        updateAccessTime(Instant.ofEpochMilli(currentTimeMillis));
+    }
+
     /**
      * 是否过期
      * @param currentTime 当前时间点
@@ -28,6 +39,18 @@ public interface ICacheData<V> {
      */
     boolean isExpired(Instant currentTime);
 
+    /**
+     * 获取预计的过期时间点。
+     * 缓存容器使用该时间点建立过期索引，只有到达该时间点后才会调用 isExpired 检查该缓存。
+     * 因为访问会推迟过期时间，所以到期检查时如果发现还没有过期，容器会按照新的过期时间点重新加入索引。
+     * 默认返回 null，表示无法预测过期时间点，容器会在每次清理时都检查该缓存。
+     *
+     * @return 预计的过期时间点；null 表示无法预测
+     */
+    default Instant getExpirationTime() {
+        return null;
+    }
+
     /**
      * 过期后的处理方法，默认不做任何处理
      * 注意只有自动过期时才会调用这个方法，手动清理不会调用这个方法。
@@ -40,4 +63,15 @@ public interface ICacheData<V> {
      * @return true 表示会正常删除该缓存；false 表示暂时不删除该缓存。如果没有更新 access time 则会在下次清理时再次调用 onExpire 方法。
      */
     boolean onExpire(Instant currentTime, V value);
+
+    /**
+     * 因为超出容量上限被淘汰时的处理方法。
+     * 默认复用 onExpire 的处理逻辑，但会忽略其返回值：被淘汰的缓存总是会被删除。
+     * 该方法在写入缓存的线程中调用，同样请使用轻量化的操作。
+     * @param currentTime 当前时间点
+     * @param value 被淘汰的缓存的值
+     */
+    default void onEvict(Instant currentTime, V value) {
+        onExpire(currentTime, value);
+    }
 }
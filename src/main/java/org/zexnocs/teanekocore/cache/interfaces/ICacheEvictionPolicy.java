@@ -0,0 +1,58 @@
+package org.zexnocs.teanekocore.cache.interfaces;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 缓存的容量淘汰策略。
+ * 记录缓存的写入、访问和删除，并在超出容量上限时选出需要淘汰的键。
+ * <p>
+ * 淘汰策略不是线程安全的，由缓存容器在持有锁的情况下调用。
+ *
+ * @param <K> 键类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public interface ICacheEvictionPolicy<K> {
+    /**
+     * 记录一次写入，包括新增和更新。
+     *
+     * @param key    键
+     * @param weight 缓存的权重
+     */
+    void onWrite(K key, long weight);
+
+    /**
+     * 记录一次访问。
+     *
+     * @param key 键
+     */
+    void onAccess(K key);
+
+    /**
+     * 记录一次删除。
+     *
+     * @param key 键
+     */
+    void onRemove(K key);
+
+    /**
+     * 删除所有记录。
+     */
+    void clear();
+
+    /**
+     * 如果超出了容量上限，则选出一个需要淘汰的键。
+     * 容器会删除该键并调用 {@link #onRemove(Object)}，然后再次调用该方法直到返回 null。
+     *
+     * @return 需要淘汰的键；没有超出容量上限时返回 null
+     */
+    @Nullable
+    K selectVictim();
+
+    /**
+     * 获取当前记录的总权重。
+     *
+     * @return 总权重
+     */
+    long getWeightedSize();
+}
@@ -1,5 +1,7 @@
 package org.zexnocs.teanekocore.cache.interfaces;
 
+import java.util.Map;
+
 /**
  * 用于自动管理缓存的服务类接口。
  * 主要用于清理长时间未被访问的缓存资源。
@@ -15,6 +17,14 @@ public interface ICacheService {
      */
     void addCache(ICacheContainer cache);
 
+    /**
+     * 获取所有被管理的缓存。
+     * 同名缓存会被加上 -2、-3 ... 后缀以保证唯一。
+     *
+     * @return 缓存唯一名称 → 缓存 的只读视图
+     */
+    Map<String, ICacheContainer> getCaches();
+
     /**
      * 尝试手动清理所有缓存
      * 取决于各个缓存对象是否参与强制清理
@@ -0,0 +1,257 @@
+package org.zexnocs.teanekocore.command;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.zexnocs.teanekocore.cache.CacheContainerConfig;
+import org.zexnocs.teanekocore.cache.ConcurrentMapCacheContainer;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+import org.zexnocs.teanekocore.command.easydata.CommandEasyData;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 指令权限和作用域的判定索引。
+ * 权限和作用域的数据存储在 {@link CommandEasyData} 中，每次判定都从 EasyData 读取需要加锁、拼接字符串并反序列化；
+ * 这里把每个判定结果缓存为 (命名空间, 目标, 键) → boolean，命中时只需要一次哈希查找。
+ * <p>
+ * 所有写入都必须通过 {@link #setPermission} 和 {@link #setScope}，
+ * 写入 EasyData 的同时直接更新对应的判定结果，不需要让其他判定失效。
+ * 写入提交之前，判定结果即使被淘汰也以写入的值为准，不会从存储中读到旧值。
+ * 读取存储在缓存的锁之外进行，不会阻塞其他 key 的判定。
+ * <p>
+ * 数据布局：
+ * <pre>
+ * 权限：namespace = command.permission.*, target = scopeId@permissionId, key = userId
+ * 作用域：namespace = command.scope.*, target = commandId, key = scopeId
+ * </pre>
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+@Service
+public class CommandAccessIndex {
+    /// 判定结果缓存
+    private final ConcurrentMapCacheContainer<Key, Boolean> decisions;
+
+    /// 读取存储的数据
+    private final Loader loader;
+
+    /// 写入存储的数据
+    private final Writer writer;
+
+    /// 还没有提交的写入，提交之前优先于存储中的数据
+    private final Map<Key, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    /// 写入次数，用于判断读取存储期间是否有写入
+    private final AtomicLong writeCount = new AtomicLong();
+
+    @Autowired
+    public CommandAccessIndex(ICacheService iCacheService,
+                              @Value("${tea-neko.cache.command-access-maximum-size:10000}") long maximumSize) {
+        this(iCacheService, maximumSize,
+                (namespace, target, key) -> CommandEasyData.of(namespace).get(target).getBoolean(key),
+                (namespace, target, key, value, taskName) -> CommandEasyData.of(namespace)
+                        .get(target)
+                        .getTaskConfig(taskName)
+                        .setBoolean(key, value)
+                        .pushWithFuture()
+                        .finish());
+    }
+
+    /**
+     * 使用自定义的读写方式创建索引，用于测试和基准测试。
+     *
+     * @param iCacheService 缓存服务
+     * @param maximumSize 缓存的判定结果数量上限
+     * @param loader 读取存储的数据
+     * @param writer 写入存储的数据
+     */
+    CommandAccessIndex(ICacheService iCacheService, long maximumSize, Loader loader, Writer writer) {
+        this.decisions = ConcurrentMapCacheContainer.of(iCacheService,
+                CacheContainerConfig.<Key, Boolean>builder()
+                        .maximumSize(maximumSize)
+                        .build());
+        this.loader = loader;
+        this.writer = writer;
+    }
+
+    /**
+     * 用户在作用域中是否被设置了权限。
+     *
+     * @param namespace 命名空间，启用或者禁止
+     * @param scopeId 作用域 ID
+     * @param permissionId 权限 ID
+     * @param userId 用户 ID
+     * @return 是否被设置
+     */
+    public boolean getPermission(String namespace, String scopeId, String permissionId, String userId) {
+        return _get(new Key(namespace, scopeId, permissionId, userId));
+    }
+
+    /**
+     * 设置用户在作用域中的权限，并更新判定结果。
+     *
+     * @param namespace 命名空间，启用或者禁止
+     * @param scopeId 作用域 ID
+     * @param permissionId 权限 ID
+     * @param userId 用户 ID
+     * @param value 是否设置
+     * @param taskName 数据库任务名称
+     */
+    public void setPermission(String namespace, String scopeId, String permissionId, String userId,
+                              boolean value, String taskName) {
+        _set(new Key(namespace, scopeId, permissionId, userId), value, taskName);
+    }
+
+    /**
+     * 指令在作用域中是否被设置。
+     *
+     * @param namespace 命名空间，启用或者禁止
+     * @param commandId 指令 ID
+     * @param scopeId 作用域 ID
+     * @return 是否被设置
+     */
+    public boolean getScope(String namespace, String commandId, String scopeId) {
+        return _get(new Key(namespace, commandId, null, scopeId));
+    }
+
+    /**
+     * 设置指令在作用域中的状态，并更新判定结果。
+     *
+     * @param namespace 命名空间，启用或者禁止
+     * @param commandId 指令 ID
+     * @param scopeId 作用域 ID
+     * @param value 是否设置
+     * @param taskName 数据库任务名称
+     */
+    public void setScope(String namespace, String commandId, String scopeId, boolean value, String taskName) {
+        _set(new Key(namespace, commandId, null, scopeId), value, taskName);
+    }
+
+    /**
+     * 获取缓存的判定结果数量。
+     *
+     * @return 判定结果数量
+     */
+    public long size() {
+        return decisions.size();
+    }
+
+    /**
+     * 获取判定结果。
+     * 缓存未命中时先使用还没有提交的写入，否则在缓存的锁之外读取存储，只在拼接 target 时产生字符串；
+     * 读取期间如果有写入，读到的可能是旧值，不放入缓存而是重新判定。
+     *
+     * @param key 判定结果的 key
+     * @return 判定结果
+     */
+    private boolean _get(Key key) {
+        while (true) {
+            var value = decisions.get(key);
+            if (value != null) {
+                return value;
+            }
+            var pending = pendingWrites.get(key);
+            if (pending != null) {
+                return pending.value();
+            }
+            long count = writeCount.get();
+            var loaded = loader.load(key.namespace(), key.storageTarget(), key.key());
+            if (writeCount.get() == count) {
+                // 其他线程已经放入的判定结果优先
+                return decisions.computeIfAbsent(key, ignored -> loaded);
+            }
+        }
+    }
+
+    /**
+     * 写入存储并直接更新判定结果。
+     * 写入提交之前记录在 pendingWrites 中，判定结果被淘汰后仍然使用写入的值；
+     * 写入失败时移除判定结果，之后重新从存储中读取。
+     *
+     * @param key 判定结果的 key
+     * @param value 写入的值
+     * @param taskName 数据库任务名称
+     */
+    private void _set(Key key, boolean value, String taskName) {
+        var pending = new PendingWrite(value);
+        pendingWrites.put(key, pending);
+        writeCount.incrementAndGet();
+        decisions.put(key, value);
+        CompletableFuture<?> committed;
+        try {
+            committed = writer.write(key.namespace(), key.storageTarget(), key.key(), value, taskName);
+        } catch (RuntimeException e) {
+            _abort(key, pending);
+            throw e;
+        }
+        committed.whenComplete((ignored, error) -> {
+            if (error != null) {
+                _abort(key, pending);
+            } else {
+                pendingWrites.remove(key, pending);
+            }
+        });
+    }
+
+    /// 写入失败，没有更新的写入时移除判定结果
+    private void _abort(Key key, PendingWrite pending) {
+        if (pendingWrites.remove(key, pending)) {
+            decisions.remove(key);
+        }
+    }
+
+    /**
+     * 还没有提交的写入。不是 record，使用对象的引用区分同一个 key 的多次写入。
+     */
+    private static final class PendingWrite {
+        /// 写入的值
+        private final boolean value;
+
+        private PendingWrite(boolean value) {
+            this.value = value;
+        }
+
+        private boolean value() {
+            return value;
+        }
+    }
+
+    /**
+     * 判定结果的 key。
+     *
+     * @param namespace 命名空间
+     * @param target 目标
+     * @param subTarget 子目标；不为 null 时存储的 target 为 target@subTarget
+     * @param key 键
+     */
+    private record Key(String namespace, String target, String subTarget, String key) {
+        /// 存储使用的 target
+        String storageTarget() {
+            return subTarget == null ? target : target + "@" + subTarget;
+        }
+    }
+
+    /**
+     * 读取存储的数据。
+     */
+    @FunctionalInterface
+    interface Loader {
+        boolean load(String namespace, String target, String key);
+    }
+
+    /**
+     * 写入存储的数据。
+     */
+    @FunctionalInterface
+    interface Writer {
+        /**
+         * @return 写入提交后完成的 future
+         */
+        CompletableFuture<?> write(String namespace, String target, String key, boolean value, String taskName);
+    }
+}
@@ -0,0 +1,381 @@
+package org.zexnocs.teanekocore.command;
+
+import org.zexnocs.teanekocore.command.api.DefaultValue;
+import org.zexnocs.teanekocore.command.exception.CommandDataTypeMismatchException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 预编译的指令参数绑定器，每个指令方法编译一次。
+ * 编译时解析参数类型、泛型、{@link DefaultValue} 并转换默认值，每个参数得到一个转换器；
+ * 绑定时只按照编译好的转换器把 String[] 转换成 Object[]，不再读取方法的参数和注解。
+ * <p>
+ * 匹配规则和 {@link CommandArgumentProcessor} 原本的规则一致：
+ * 1. CommandData 参数直接注入，并校验泛型原始数据类型。
+ * 2. 普通参数消费一个参数；参数不足或者转换失败时使用默认值。
+ * 3. List 参数和方法最后的可变参数消费多个参数，并为后面的普通参数留出足够的参数。
+ * 实例创建后不可变，可以在多个线程中使用。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public final class CommandArgumentBinder {
+    /// 没有参数时使用的空数组
+    private static final String[] EMPTY_ARGS = new String[0];
+
+    /// 每个方法参数的绑定方式
+    private final Slot[] slots;
+
+    /// 每个位置之后剩余的普通参数数量
+    private final int[] nonListCount;
+
+    private CommandArgumentBinder(Slot[] slots, int[] nonListCount) {
+        this.slots = slots;
+        this.nonListCount = nonListCount;
+    }
+
+    /**
+     * 编译指令方法的参数绑定器。
+     *
+     * @param method 指令方法
+     * @param onInvalidDefault 默认值转换失败时的报告，参数为错误信息；这样的默认值不会被使用
+     * @return 参数绑定器
+     */
+    public static CommandArgumentBinder compile(Method method, Consumer<String> onInvalidDefault) {
+        var parameters = method.getParameters();
+        var slots = new Slot[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            var varArgs = method.isVarArgs() && i == parameters.length - 1;
+            slots[i] = _compile(parameters[i], varArgs, onInvalidDefault);
+        }
+        var nonListCount = new int[parameters.length];
+        for (int i = parameters.length - 2; i >= 0; i--) {
+            nonListCount[i] = nonListCount[i + 1] + (slots[i + 1].kind() == Kind.NORMAL ? 1 : 0);
+        }
+        return new CommandArgumentBinder(slots, nonListCount);
+    }
+
+    /**
+     * 绑定指令参数。
+     *
+     * @param args 指令参数
+     * @param commandData 指令数据。如果有参数是 CommandData 的话，直接使用
+     * @return 方法参数；参数无法匹配时返回 null
+     * @throws CommandDataTypeMismatchException 指令数据的类型不符合 CommandData 参数的要求
+     */
+    public Object[] bind(String[] args, CommandData<?> commandData) throws CommandDataTypeMismatchException {
+        if (slots.length == 0) {
+            return new Object[0];
+        }
+        for (var slot : slots) {
+            if (slot.kind() == Kind.DATA && !slot.accepts(commandData)) {
+                throw new CommandDataTypeMismatchException();
+            }
+        }
+        var result = new Object[slots.length];
+        return _match(0, args == null ? EMPTY_ARGS : args, 0, result, commandData) ? result : null;
+    }
+
+    /**
+     * 匹配参数。
+     *
+     * @param paramIndex 当前参数索引
+     * @param args 指令参数
+     * @param argIndex 当前指令参数索引
+     * @param output 输出数组
+     * @param commandData 指令数据
+     * @return 是否匹配成功
+     */
+    private boolean _match(int paramIndex, String[] args, int argIndex, Object[] output, CommandData<?> commandData) {
+        // 全部参数匹配完成，后续参数可以丢弃
+        if (paramIndex >= slots.length) {
+            return true;
+        }
+        var slot = slots[paramIndex];
+        return switch (slot.kind()) {
+            case DATA -> {
+                output[paramIndex] = commandData;
+                yield _match(paramIndex + 1, args, argIndex, output, commandData);
+            }
+            case NORMAL -> _matchNormal(slot, paramIndex, args, argIndex, output, commandData);
+            case LIST, ARRAY -> _matchMany(slot, paramIndex, args, argIndex, output, commandData);
+        };
+    }
+
+    /**
+     * 匹配普通参数：消费一个参数，参数不足或者转换失败时使用默认值。
+     */
+    private boolean _matchNormal(Slot slot, int paramIndex, String[] args, int argIndex,
+                                 Object[] output, CommandData<?> commandData) {
+        var defaultValue = slot.defaultValue();
+        int remainingArgs = args.length - argIndex;
+        if (remainingArgs <= nonListCount[paramIndex] && defaultValue != null) {
+            // 如果剩余参数不足以匹配后续普通参数，则先尝试使用默认值
+            output[paramIndex] = defaultValue;
+            if (_match(paramIndex + 1, args, argIndex, output, commandData)) {
+                return true;
+            }
+        }
+        // 没有参数来匹配，直接失败
+        if (remainingArgs == 0) {
+            return false;
+        }
+        var converted = slot.converter().convert(args[argIndex]);
+        if (converted == null) {
+            // 如果转化失败，则尝试使用默认值（如果有）
+            if (defaultValue == null) {
+                return false;
+            }
+            output[paramIndex] = defaultValue;
+            return _match(paramIndex + 1, args, argIndex, output, commandData);
+        }
+        output[paramIndex] = converted;
+        return _match(paramIndex + 1, args, argIndex + 1, output, commandData);
+    }
+
+    /**
+     * 匹配 List 参数和可变参数：尽可能多地消费参数，后续参数匹配失败时逐个退回。
+     * 一个参数都没有匹配时，有默认值则使用默认值作为唯一元素，否则为空。
+     */
+    private boolean _matchMany(Slot slot, int paramIndex, String[] args, int argIndex,
+                               Object[] output, CommandData<?> commandData) {
+        // 可以匹配的最大参数数量 = 剩余参数数量 - 后续普通参数数量
+        int max = args.length - argIndex - nonListCount[paramIndex];
+        if (max < 0) {
+            return false;
+        }
+        var values = new Object[max];
+        int count = 0;
+        while (count < max) {
+            var value = slot.converter().convert(args[argIndex + count]);
+            if (value == null) {
+                break;
+            }
+            values[count++] = value;
+        }
+        for (int size = count; size > 0; size--) {
+            output[paramIndex] = slot.collect(values, size);
+            if (_match(paramIndex + 1, args, argIndex + size, output, commandData)) {
+                return true;
+            }
+        }
+        // 默认值转换失败，无法使用默认值
+        if (slot.invalidDefault()) {
+            return false;
+        }
+        output[paramIndex] = slot.fallback();
+        return _match(paramIndex + 1, args, argIndex, output, commandData);
+    }
+
+    /**
+     * 编译一个方法参数。
+     *
+     * @param parameter 方法参数
+     * @param varArgs 是否是可变参数
+     * @param onInvalidDefault 默认值转换失败时的报告
+     * @return 绑定方式
+     */
+    private static Slot _compile(Parameter parameter, boolean varArgs, Consumer<String> onInvalidDefault) {
+        var type = parameter.getType();
+        var defaultAnnotation = parameter.getAnnotation(DefaultValue.class);
+        if (CommandData.class.isAssignableFrom(type)) {
+            return new Slot(Kind.DATA, null, null, null, false, _rawDataType(parameter));
+        }
+        var many = List.class.isAssignableFrom(type) ? Kind.LIST : varArgs ? Kind.ARRAY : null;
+        if (many != null) {
+            var elementType = many == Kind.LIST ? _listElementType(parameter) : type.getComponentType();
+            var converter = _converter(elementType);
+            Object defaultValue = null;
+            boolean invalidDefault = false;
+            if (defaultAnnotation != null) {
+                defaultValue = converter.convert(defaultAnnotation.value());
+                if (defaultValue == null) {
+                    invalidDefault = true;
+                    onInvalidDefault.accept("""
+                            列表参数的默认值转化失败，无法使用默认值
+                             - 参数: %s
+                             - 默认值: %s
+                             - 元素类型: %s
+                            """.formatted(parameter.getName(), defaultAnnotation.value(), elementType.getName()));
+                }
+            }
+            return new Slot(many, converter, elementType, defaultValue, invalidDefault, null);
+        }
+        var converter = _converter(type);
+        Object defaultValue = null;
+        if (defaultAnnotation != null) {
+            defaultValue = converter.convert(defaultAnnotation.value());
+            if (defaultValue == null) {
+                // 转换失败的默认值等同于没有默认值
+                onInvalidDefault.accept("""
+                        转化默认值失败，无法使用默认值
+                         - 参数: %s
+                         - 默认值: %s
+                         - 目标类型: %s
+                        """.formatted(parameter.getName(), defaultAnnotation.value(), type.getName()));
+            }
+        }
+        return new Slot(Kind.NORMAL, converter, type, defaultValue, false, null);
+    }
+
+    /**
+     * 获取 CommandData 参数要求的原始数据类型。
+     *
+     * @param parameter CommandData 参数
+     * @return 原始数据类型；没有泛型时返回 null，表示不接受任何数据
+     */
+    private static Class<?> _rawDataType(Parameter parameter) {
+        if (!(parameter.getParameterizedType() instanceof ParameterizedType pt)) {
+            return null;
+        }
+        return _erase(pt.getActualTypeArguments()[0]);
+    }
+
+    /// 获取泛型参数的擦除类型，通配符和类型变量使用上界
+    private static Class<?> _erase(Type type) {
+        return switch (type) {
+            case Class<?> clazz -> clazz;
+            case ParameterizedType pt -> _erase(pt.getRawType());
+            case WildcardType wt -> _erase(wt.getUpperBounds()[0]);
+            case TypeVariable<?> tv -> _erase(tv.getBounds()[0]);
+            default -> Object.class;
+        };
+    }
+
+    /**
+     * 获取 List 元素类型。
+     * @param parameter List 参数
+     * @return List 元素类型，如果无法获取则默认为 String.class
+     */
+    private static Class<?> _listElementType(Parameter parameter) {
+        if (parameter.getParameterizedType() instanceof ParameterizedType pt
+                && pt.getActualTypeArguments()[0] instanceof Class<?> clazz) {
+            return clazz;
+        }
+        return String.class;
+    }
+
+    /**
+     * 获取类型的转换器。
+     *
+     * @param type 类型
+     * @return 转换器；不支持的类型总是转换失败
+     */
+    private static Converter _converter(Class<?> type) {
+        if (type == String.class)
+            return input -> input;
+        if (type == int.class || type == Integer.class)
+            return _safe(Integer::parseInt);
+        if (type == long.class || type == Long.class)
+            return _safe(Long::parseLong);
+        if (type == float.class || type == Float.class)
+            return _safe(Float::parseFloat);
+        if (type == double.class || type == Double.class)
+            return _safe(Double::parseDouble);
+        if (type == boolean.class || type == Boolean.class)
+            return Boolean::parseBoolean;
+        if (type.isEnum()) {
+            // 和 Enum.valueOf 一样按照名称精确匹配
+            Map<String, Object> constants = new HashMap<>();
+            for (var constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+            return constants::get;
+        }
+        return input -> null;
+    }
+
+    /// 把解析异常转换成转换失败
+    private static Converter _safe(Converter parser) {
+        return input -> {
+            try {
+                return parser.convert(input);
+            } catch (RuntimeException ignore) {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * 参数的绑定方式。
+     */
+    private enum Kind {
+        /// 注入指令数据
+        DATA,
+        /// 消费一个参数
+        NORMAL,
+        /// 消费多个参数，组成 List
+        LIST,
+        /// 消费多个参数，组成可变参数数组
+        ARRAY
+    }
+
+    /**
+     * 一个方法参数编译后的绑定方式。
+     *
+     * @param kind 绑定方式
+     * @param converter 参数或者元素的转换器
+     * @param type 参数类型；LIST 和 ARRAY 为元素类型
+     * @param defaultValue 转换后的默认值；LIST 和 ARRAY 为默认的唯一元素；为 null 表示没有可用的默认值
+     * @param invalidDefault LIST 和 ARRAY 的默认值是否转换失败
+     * @param rawDataType DATA 要求的原始数据类型；为 null 表示不接受任何数据
+     */
+    private record Slot(Kind kind, Converter converter, Class<?> type, Object defaultValue,
+                        boolean invalidDefault, Class<?> rawDataType) {
+        /// 指令数据是否符合要求
+        boolean accepts(CommandData<?> commandData) {
+            return rawDataType != null && rawDataType.isAssignableFrom(commandData.getRawDataType());
+        }
+
+        /// 将前 size 个值组成参数
+        Object collect(Object[] values, int size) {
+            if (kind == Kind.LIST) {
+                var list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(values[i]);
+                }
+                return list;
+            }
+            // 元素可能是基本类型，使用 Array 创建和拆箱
+            var array = Array.newInstance(type, size);
+            for (int i = 0; i < size; i++) {
+                Array.set(array, i, values[i]);
+            }
+            return array;
+        }
+
+        /// 一个参数都没有匹配时使用的参数
+        Object fallback() {
+            if (kind == Kind.LIST) {
+                return defaultValue == null ? Collections.emptyList() : Collections.singletonList(defaultValue);
+            }
+            return defaultValue == null ? collect(new Object[0], 0) : collect(new Object[]{defaultValue}, 1);
+        }
+    }
+
+    /**
+     * 参数转换器。
+     */
+    @FunctionalInterface
+    private interface Converter {
+        /**
+         * 转换参数。
+         *
+         * @param input 输入字符串
+         * @return 转换后的值；转换失败时返回 null
+         */
+        Object convert(String input);
+    }
+}
@@ -16,7 +16,7 @@ import org.zexnocs.teanekocore.command.interfaces.ICommandClient;
  * @since 4.0.0
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class CommandData<T> {
     /// 指令体
     private final String body;
@@ -41,6 +41,9 @@ public class CommandData<T> {
     /// 指令发送者的识别 ID。
     private final String senderId;
 
+    /// 收到指令原始消息的时间，System.nanoTime()；0 表示未知
+    private final long receivedNanos;
+
     /// 指令被解析前的数据，应该永远不为 null
     @NonNull
     private final T rawData;
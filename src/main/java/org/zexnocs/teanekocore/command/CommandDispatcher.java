@@ -10,6 +10,7 @@ import org.zexnocs.teanekocore.command.event.CommandDispatchEvent;
 import org.zexnocs.teanekocore.command.event.CommandExecuteEvent;
 import org.zexnocs.teanekocore.command.exception.CommandDataTypeMismatchException;
 import org.zexnocs.teanekocore.command.interfaces.*;
+import org.zexnocs.teanekocore.event.interfaces.IEvent;
 import org.zexnocs.teanekocore.event.interfaces.IEventService;
 import org.zexnocs.teanekocore.logger.ILogger;
 
@@ -21,6 +22,10 @@ import java.lang.reflect.Method;
  * 2. 判断指令是否有权限
  * 3. 判断指令作用域
  * 4. 执行指令
+ * <p>
+ * CommandDispatchEvent 和 CommandExecuteEvent 没有监听器或者只有同步监听器时，在当前线程中直接处理，
+ * 不再为事件注册任务；指令本身仍然提交到 taskNamespace 对应的任务通道中执行，
+ * 快速指令（{@link org.zexnocs.teanekocore.command.api.Command#fast()}）则在当前线程中直接执行。
  *
  * @author zExNocs
  * @date 2025/04/25
@@ -47,7 +52,26 @@ public class CommandDispatcher implements ICommandDispatcher {
     @Override
     public void dispatch(@NonNull CommandData<?> data, ICommandErrorHandler errorHandler, IHelpSubCommandHandler helpSubCommandHandler) {
         // 推送事件
-        iEventService.pushEvent(new CommandDispatchEvent(this, data, errorHandler, helpSubCommandHandler));
+        _pushEvent(new CommandDispatchEvent(this, data, errorHandler, helpSubCommandHandler));
+    }
+
+    /**
+     * 推送指令事件。事件没有异步监听器时在当前线程中直接处理，否则注册任务推送。
+     * 直接处理时的异常在这里报告，不影响调用者。
+     *
+     * @param event 事件
+     */
+    private void _pushEvent(IEvent<?> event) {
+        try {
+            if(iEventService.processInline(event)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            logger.errorWithReport(this.getClass().getSimpleName(),
+                    "处理指令事件 %s 时发生异常".formatted(event.getClass().getSimpleName()), e);
+            return;
+        }
+        iEventService.pushEvent(event);
     }
 
     /**
@@ -56,9 +80,14 @@ public class CommandDispatcher implements ICommandDispatcher {
      */
     public void __dispatchForEvent(@NonNull CommandData<?> data, ICommandErrorHandler errorHandler, IHelpSubCommandHandler helpSubCommandHandler) {
         var commandBody = data.getBody();
-        // 首先尝试解析成前缀指令
-        var prefixMapData = commandScanner.getPrefixCommand(commandBody);
-        if(prefixMapData != null) {
+        // 首先尝试解析成前缀指令，只遍历一次指令体
+        var prefixMatch = commandScanner.resolvePrefixCommand(commandBody);
+        if(prefixMatch != null) {
+            var prefixMapData = prefixMatch.value();
+            if(prefixMatch.length() < commandBody.length()) {
+                // 指令名和参数之间没有空格，剩余部分作为第一个参数
+                data = __splitGluedBody(data, prefixMatch.length());
+            }
             // 判断指令是否关闭
             if(prefixMapData.getCommandAnnotation().enable()) {
                 __handlePrefixCommand(data, prefixMapData, errorHandler, helpSubCommandHandler);
@@ -68,32 +97,46 @@ public class CommandDispatcher implements ICommandDispatcher {
             return;
         }
         // 尝试解析成正则指令
+        if(!commandScanner.hasRegexpCommand()) {
+            return;
+        }
         var sb = new StringBuilder();
         sb.append(commandBody);
         for(var arg: data.getArgs()) {
             sb.append(" ").append(arg);
         }
-        var regexpBody = sb.toString();
-        var regexpKeySet = commandScanner.getRegexpCommandKeys();
-        for(var key: regexpKeySet) {
-            if(regexpBody.matches(key)) {
-                var regexpMapData = commandScanner.getRegexpCommand(key);
-                if (regexpMapData == null) {
-                    // 理论上不应该发生，说明在获取正则指令时发生了问题，直接跳过
-                    continue;
-                }
-                if(regexpMapData.getCommandAnnotation().enable()) {
-                    __handleRegexpCommand(data, regexpMapData, errorHandler);
-                } else {
-                    errorHandler.handleCommandClosed(data);
-                }
-                return;
-            }
+        // 预编译的正则只匹配字面量前缀符合的候选正则
+        var regexpMapData = commandScanner.matchRegexpCommand(sb);
+        if(regexpMapData == null) {
+            return;
+        }
+        if(regexpMapData.getCommandAnnotation().enable()) {
+            __handleRegexpCommand(data, regexpMapData, errorHandler);
+        } else {
+            errorHandler.handleCommandClosed(data);
         }
     }
 
 
     // -------------- 前缀指令处理 --------------
+    /**
+     * 拆分没有空格分隔的指令名和参数。
+     * @param data 指令输入数据
+     * @param length 指令名的长度
+     * @return 指令体为指令名、剩余部分为第一个参数的指令数据
+     */
+    private CommandData<?> __splitGluedBody(@NonNull CommandData<?> data, int length) {
+        var body = data.getBody();
+        var args = data.getArgs() == null ? new String[0] : data.getArgs();
+        var newArgs = new String[args.length + 1];
+        newArgs[0] = body.substring(length);
+        System.arraycopy(args, 0, newArgs, 1, args.length);
+        return data.toBuilder()
+                .body(body.substring(0, length))
+                .args(newArgs)
+                .build();
+    }
+
     /**
      * 处理前缀指令。
      * @param data 指令输入数据
@@ -224,7 +267,7 @@ public class CommandDispatcher implements ICommandDispatcher {
             return;
         }
         // 执行指令
-        iEventService.pushEvent(new CommandExecuteEvent(
+        _pushEvent(new CommandExecuteEvent(
                 commandExecutor,
                 data,
                 mapData,
@@ -269,7 +312,7 @@ public class CommandDispatcher implements ICommandDispatcher {
             return;
         }
         // 执行指令
-        iEventService.pushEvent(new CommandExecuteEvent(
+        _pushEvent(new CommandExecuteEvent(
                 commandExecutor,
                 data,
                 mapData,
@@ -1,24 +1,62 @@
 package org.zexnocs.teanekocore.command;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.actuator.task.EmptyTaskResult;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskService;
 import org.zexnocs.teanekocore.command.interfaces.ICommandExecutor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 指令执行器实现类，使用任务服务异步执行指令方法，确保指令执行不会阻塞主线程。
+ * 指令执行器实现类。
+ * 指令方法在第一次执行时编译成 MethodHandle，之后不再通过反射调用。
+ * <p>
+ * 默认提交到指令的任务通道中执行，以便限制并发；
+ * 标记为快速指令（{@link org.zexnocs.teanekocore.command.api.Command#fast()}）的指令直接在当前线程中执行，不注册任务，
+ * 异常抛出给调用者，由外层的事件任务报告。
  *
  * @author zExNocs
  * @date 2026/02/18
  * @since 4.0.0
  */
 @Service("commandExecutor")
-public class CommandExecutor implements ICommandExecutor {
+public class CommandExecutor implements ICommandExecutor, MeterBinder {
     public final static String DEFAULT_TASK_NAMESPACE = "command-executor-task-namespace";
+
+    /// 编译后的调用句柄的类型：(指令对象, 参数数组) → void
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
     private final ITaskService iTaskService;
 
+    /// 指令方法 → 编译后的调用句柄
+    private final Map<Method, MethodHandle> invokers = new ConcurrentHashMap<>();
+
+    /// 直接执行的指令数量
+    private final LongAdder directCount = new LongAdder();
+
+    /// 提交任务执行的指令数量
+    private final LongAdder taskCount = new LongAdder();
+
+    /// 记录了收到时间的指令数量
+    private final LongAdder startedCount = new LongAdder();
+
+    /// 从收到到开始执行的总耗时
+    private final LongAdder startedNanos = new LongAdder();
+
     public CommandExecutor(ITaskService iTaskService) {
         this.iTaskService = iTaskService;
     }
@@ -32,16 +70,103 @@ public class CommandExecutor implements ICommandExecutor {
      */
     @Override
     public void execute(Object object, Method method, Object[] args, String taskNamespace) {
+        execute(null, object, method, args, taskNamespace, false);
+    }
+
+    /**
+     * 执行指令，并统计从收到指令到开始执行的耗时。
+     * @param data 指令数据；为 null 时不统计耗时
+     * @param object 指令执行对象
+     * @param method 指令方法
+     * @param args 指令参数
+     * @param taskNamespace 指令命名空间
+     * @param fast 是否是快速指令；快速指令在当前线程中执行
+     */
+    @Override
+    public void execute(CommandData<?> data, Object object, Method method, Object[] args,
+                        String taskNamespace, boolean fast) {
+        var invoker = invokers.computeIfAbsent(method, CommandExecutor::_compile);
+        long receivedNanos = data == null ? 0 : data.getReceivedNanos();
+        if(fast) {
+            directCount.increment();
+            _started(receivedNanos);
+            try {
+                _invoke(invoker, object, args);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("指令 %s 执行异常".formatted(method), e);
+            }
+            return;
+        }
         if(taskNamespace == null || taskNamespace.isBlank()) {
             taskNamespace = DEFAULT_TASK_NAMESPACE;
         }
+        taskCount.increment();
         iTaskService.subscribe(
                 "指令执行",
                 taskNamespace,
                 () -> {
-                    method.invoke(object, args);
+                    _started(receivedNanos);
+                    _invoke(invoker, object, args);
                     return EmptyTaskResult.INSTANCE;
                 },
                 EmptyTaskResult.getResultType());
     }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("teaneko.command.executions", directCount, LongAdder::sum)
+                .tag("path", "direct")
+                .description("直接在当前线程中执行的指令数量")
+                .register(registry);
+        FunctionCounter.builder("teaneko.command.executions", taskCount, LongAdder::sum)
+                .tag("path", "task")
+                .description("提交任务执行的指令数量")
+                .register(registry);
+        FunctionTimer.builder("teaneko.command.latency", this,
+                        executor -> executor.startedCount.sum(),
+                        executor -> executor.startedNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("指令从收到原始信息到开始执行指令方法的耗时")
+                .register(registry);
+    }
+
+    /// 记录指令开始执行；收到时间未知时不记录
+    private void _started(long receivedNanos) {
+        if(receivedNanos != 0) {
+            startedCount.increment();
+            startedNanos.add(System.nanoTime() - receivedNanos);
+        }
+    }
+
+    /**
+     * 将指令方法编译成 (指令对象, 参数数组) → void 的调用句柄。
+     *
+     * @param method 指令方法
+     * @return 调用句柄
+     */
+    private static MethodHandle _compile(Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("无法访问指令方法 " + method, e);
+        }
+        if(Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+    }
+
+    /// 调用指令方法；非 Exception 的 Throwable 包装成 InvocationTargetException
+    private static void _invoke(MethodHandle invoker, Object object, Object[] args) throws Exception {
+        try {
+            invoker.invokeExact(object, args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
 }
@@ -38,13 +38,16 @@ public class CommandMapData {
     /// 子指令集合
     private final Map<String, Pair<SubCommand, Method>> subCommandMap;
 
+    /// 子指令前缀树，忽略大小写；为 null 时使用子指令集合
+    private final CommandTrie<Pair<SubCommand, Method>> subCommandTrie;
+
     /// 子指令集合
     protected Map<String, Pair<SubCommand, Method>> getSubCommandMap() {
         return subCommandMap;
     }
 
     /**
-     * 从子指令集合中获取子指令。
+     * 从子指令集合中获取子指令，忽略大小写。
      * @param key 子指令名称
      * @return 子指令
      */
@@ -52,6 +55,9 @@ public class CommandMapData {
         if(key == null || key.isBlank()) {
             return null;
         }
+        if(subCommandTrie != null) {
+            return subCommandTrie.get(key);
+        }
         return subCommandMap.get(key);
     }
 }
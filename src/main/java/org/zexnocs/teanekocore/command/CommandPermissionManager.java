@@ -1,15 +1,16 @@
 package org.zexnocs.teanekocore.command;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.command.api.Command;
 import org.zexnocs.teanekocore.command.api.CommandPermission;
 import org.zexnocs.teanekocore.command.api.DefaultCommand;
 import org.zexnocs.teanekocore.command.api.SubCommand;
-import org.zexnocs.teanekocore.command.easydata.CommandEasyData;
 import org.zexnocs.teanekocore.command.interfaces.ICommandPermissionManager;
 
 /**
  * 命令权限管理器
+ * 权限数据通过 {@link CommandAccessIndex} 读写，判定结果会被缓存。
  *
  * @author zExNocs
  * @date 2026/02/18
@@ -20,6 +21,14 @@ public class CommandPermissionManager implements ICommandPermissionManager {
     public static final String ENABLE_NAMESPACE = "command.permission.enable";
     public static final String DISABLE_NAMESPACE = "command.permission.disable";
 
+    /// 权限判定索引
+    private final CommandAccessIndex commandAccessIndex;
+
+    @Autowired
+    public CommandPermissionManager(CommandAccessIndex commandAccessIndex) {
+        this.commandAccessIndex = commandAccessIndex;
+    }
+
     /**
      * 添加权限
      *
@@ -28,12 +37,8 @@ public class CommandPermissionManager implements ICommandPermissionManager {
      */
     @Override
     public void addPermission(String userId, String scopeId, String permissionId) {
-        // 获取 EasyData 的任务配置
-        var task = CommandEasyData.of(ENABLE_NAMESPACE).get(scopeId + "@" + permissionId).getTaskConfig("添加权限");
-        // 设置用户的权限为 true
-        task.setBoolean(userId, true);
-        // 推送任务
-        task.push();
+        // 写入数据库并更新判定结果
+        commandAccessIndex.setPermission(ENABLE_NAMESPACE, scopeId, permissionId, userId, true, "添加权限");
     }
 
     /**
@@ -44,12 +49,8 @@ public class CommandPermissionManager implements ICommandPermissionManager {
      */
     @Override
     public void removePermission(String userId, String scopeId, String permissionId) {
-        // 获取 EasyData 的任务配置
-        var task = CommandEasyData.of(ENABLE_NAMESPACE).get(scopeId + "@" + permissionId).getTaskConfig("删除权限");
-        // 设置用户的权限为 false
-        task.setBoolean(userId, false);
-        // 推送任务
-        task.push();
+        // 写入数据库并更新判定结果
+        commandAccessIndex.setPermission(ENABLE_NAMESPACE, scopeId, permissionId, userId, false, "删除权限");
     }
 
     /**
@@ -60,12 +61,8 @@ public class CommandPermissionManager implements ICommandPermissionManager {
      */
     @Override
     public void banPermission(String userId, String scopeId, String permissionId) {
-        // 获取 EasyData 的任务配置
-        var task = CommandEasyData.of(DISABLE_NAMESPACE).get(scopeId + "@" + permissionId).getTaskConfig("禁止权限");
-        // 设置用户的权限为 true
-        task.setBoolean(userId, true);
-        // 推送任务
-        task.push();
+        // 写入数据库并更新判定结果
+        commandAccessIndex.setPermission(DISABLE_NAMESPACE, scopeId, permissionId, userId, true, "禁止权限");
     }
 
     /**
@@ -76,12 +73,8 @@ public class CommandPermissionManager implements ICommandPermissionManager {
      */
     @Override
     public void unbanPermission(String userId, String scopeId, String permissionId) {
-        // 获取 EasyData 的任务配置
-        var task = CommandEasyData.of(DISABLE_NAMESPACE).get(scopeId + "@" + permissionId).getTaskConfig("解除禁止权限");
-        // 设置用户的权限为 false
-        task.setBoolean(userId, false);
-        // 推送任务
-        task.push();
+        // 写入数据库并更新判定结果
+        commandAccessIndex.setPermission(DISABLE_NAMESPACE, scopeId, permissionId, userId, false, "解除禁止权限");
     }
 
     /**
@@ -153,11 +146,11 @@ public class CommandPermissionManager implements ICommandPermissionManager {
      * @return boolean
      */
     private boolean __hasPermission(CommandData<?> commandData, CommandPermission expectedPermission, String[] permissionPackage) {
+        var scopeId = commandData.getScopeId();
+        var senderId = commandData.getSenderId();
         // 1. 先判断是否被被取消权限，如果被禁止使用权限则直接返回 false
-        var __disableEasyData = CommandEasyData.of(DISABLE_NAMESPACE);
         for(var permissionName: permissionPackage) {
-            if(__disableEasyData.get(permissionName)
-                    .getBoolean(commandData.getScopeId() + "@" + commandData.getSenderId())) {
+            if(commandAccessIndex.getPermission(DISABLE_NAMESPACE, scopeId, permissionName, senderId)) {
                 return false;
             }
         }
@@ -174,10 +167,8 @@ public class CommandPermissionManager implements ICommandPermissionManager {
             return true;
         }
         // c. 判断数据库权限
-        var __enableEasyData = CommandEasyData.of(ENABLE_NAMESPACE);
         for(var permissionName: permissionPackage) {
-            if(__enableEasyData.get(permissionName)
-                    .getBoolean(commandData.getScopeId() + "@" + commandData.getSenderId())) {
+            if(commandAccessIndex.getPermission(ENABLE_NAMESPACE, scopeId, permissionName, senderId)) {
                 return true;
             }
         }
@@ -0,0 +1,289 @@
+package org.zexnocs.teanekocore.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 正则指令匹配器。
+ * 在扫描指令时预编译所有正则，并提取每个正则必须以之开头的字面量前缀，放入前缀树中。
+ * 匹配时沿着前缀树走一遍文本就能得到候选正则，只有候选正则和没有字面量前缀的正则才会真正执行匹配，
+ * 所以普通聊天的开销只和文本长度有关，而和注册的正则指令数量无关。
+ * <p>
+ * 匹配语义和 {@link String#matches(String)} 相同，即整个文本必须匹配正则；
+ * 多个正则都能匹配时返回注册顺序最靠前的。
+ * <p>
+ * 实例创建后不可变，可以在多个线程中共享。
+ *
+ * @param <T> 匹配结果的数据类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public final class CommandRegexpMatcher<T> {
+    /// 空匹配器
+    private static final CommandRegexpMatcher<?> EMPTY = new CommandRegexpMatcher<>(
+            new Pattern[0], new Object[0], new Node(new char[0], new Node[0], new int[0]), new int[0]);
+
+    /// 按照注册顺序排列的正则
+    private final Pattern[] patterns;
+
+    /// 正则对应的数据
+    private final Object[] values;
+
+    /// 字面量前缀树的根节点
+    private final Node root;
+
+    /// 没有字面量前缀、每次都需要匹配的正则下标，升序
+    private final int[] unprefixed;
+
+    private CommandRegexpMatcher(Pattern[] patterns, Object[] values, Node root, int[] unprefixed) {
+        this.patterns = patterns;
+        this.values = values;
+        this.root = root;
+        this.unprefixed = unprefixed;
+    }
+
+    /**
+     * 获取空匹配器。
+     *
+     * @return 空匹配器
+     * @param <T> 匹配结果的数据类型
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CommandRegexpMatcher<T> empty() {
+        return (CommandRegexpMatcher<T>) EMPTY;
+    }
+
+    /**
+     * 创建匹配器的构建器。
+     *
+     * @return 构建器
+     * @param <T> 匹配结果的数据类型
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 获取正则数量。
+     *
+     * @return 正则数量
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * 查找第一个完整匹配文本的正则对应的数据。
+     *
+     * @param text 文本
+     * @return 数据；没有正则匹配时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public T match(CharSequence text) {
+        if (patterns.length == 0) {
+            return null;
+        }
+        // 沿着前缀树收集候选正则，候选正则一般只有几个
+        int[] candidates = unprefixed;
+        int count = unprefixed.length;
+        var node = root;
+        for (int i = 0; i < text.length(); i++) {
+            node = node.next(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.terminal.length > 0) {
+                if (candidates == unprefixed) {
+                    candidates = Arrays.copyOf(unprefixed, count + node.terminal.length);
+                } else if (count + node.terminal.length > candidates.length) {
+                    candidates = Arrays.copyOf(candidates, Math.max(candidates.length * 2, count + node.terminal.length));
+                }
+                System.arraycopy(node.terminal, 0, candidates, count, node.terminal.length);
+                count += node.terminal.length;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        if (candidates != unprefixed) {
+            // 按照注册顺序匹配
+            Arrays.sort(candidates, 0, count);
+        }
+        for (int i = 0; i < count; i++) {
+            var index = candidates[i];
+            if (patterns[index].matcher(text).matches()) {
+                return (T) values[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 提取正则必须以之开头的字面量前缀。
+     * 只处理最常见的写法，无法确定时返回空字符串，表示每次都需要匹配：
+     * 顶层有 {@code |}、以分组或者字符类开头、使用了 {@code \Q} 等情况都不提取。
+     *
+     * @param regex 正则
+     * @return 字面量前缀，可能为空字符串
+     */
+    static String literalPrefix(String regex) {
+        if (_hasTopLevelAlternation(regex)) {
+            return "";
+        }
+        var prefix = new StringBuilder();
+        int i = 0;
+        if (regex.startsWith("^")) {
+            i = 1;
+        }
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            int next;
+            char literal;
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    break;
+                }
+                char escaped = regex.charAt(i + 1);
+                // 字母和数字的转义都有特殊含义，例如 \d、\Q、\1
+                if (Character.isLetterOrDigit(escaped)) {
+                    break;
+                }
+                literal = escaped;
+                next = i + 2;
+            } else if ("^$.|?*+()[]{}".indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+            // 后面跟着可以出现 0 次的量词时，这个字符不是必须的
+            if (next < regex.length() && "?*{".indexOf(regex.charAt(next)) >= 0) {
+                break;
+            }
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    /// 正则的顶层是否有 |
+    private static boolean _hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                }
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 正则指令匹配器的构建器。
+     *
+     * @param <T> 匹配结果的数据类型
+     */
+    public static final class Builder<T> {
+        private final List<Pattern> patterns = new ArrayList<>();
+        private final List<T> values = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * 添加一个正则。先添加的正则优先匹配。
+         *
+         * @param regex 正则
+         * @param value 匹配时返回的数据
+         * @return 构建器
+         * @throws java.util.regex.PatternSyntaxException 正则语法错误
+         */
+        public Builder<T> add(String regex, T value) {
+            patterns.add(Pattern.compile(regex));
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * 构建匹配器。
+         *
+         * @return 匹配器
+         */
+        public CommandRegexpMatcher<T> build() {
+            if (patterns.isEmpty()) {
+                return empty();
+            }
+            var root = new MutableNode();
+            var unprefixed = new ArrayList<Integer>();
+            for (int i = 0; i < patterns.size(); i++) {
+                var prefix = literalPrefix(patterns.get(i).pattern());
+                if (prefix.isEmpty()) {
+                    unprefixed.add(i);
+                    continue;
+                }
+                var node = root;
+                for (int j = 0; j < prefix.length(); j++) {
+                    node = node.children.computeIfAbsent(prefix.charAt(j), k -> new MutableNode());
+                }
+                node.terminal.add(i);
+            }
+            return new CommandRegexpMatcher<>(
+                    patterns.toArray(Pattern[]::new),
+                    values.toArray(),
+                    root.freeze(),
+                    unprefixed.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * 不可变的前缀树节点，子节点按照字符排序，使用二分查找。
+     *
+     * @param keys 子节点的字符，升序
+     * @param children 子节点
+     * @param terminal 前缀在这个节点结束的正则下标，升序
+     */
+    private record Node(char[] keys, Node[] children, int[] terminal) {
+        Node next(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * 构建时使用的前缀树节点。
+     */
+    private static final class MutableNode {
+        private final Map<Character, MutableNode> children = new HashMap<>();
+        private final List<Integer> terminal = new ArrayList<>();
+
+        private Node freeze() {
+            var keys = new char[children.size()];
+            int i = 0;
+            for (var key : children.keySet()) {
+                keys[i++] = key;
+            }
+            Arrays.sort(keys);
+            var nodes = new Node[keys.length];
+            for (i = 0; i < keys.length; i++) {
+                nodes[i] = children.get(keys[i]).freeze();
+            }
+            return new Node(keys, nodes, terminal.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
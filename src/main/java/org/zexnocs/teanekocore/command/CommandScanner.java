@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.command.api.Command;
 import org.zexnocs.teanekocore.command.api.DefaultCommand;
 import org.zexnocs.teanekocore.command.api.SubCommand;
+import org.zexnocs.teanekocore.command.interfaces.ICommandArgumentProcessor;
 import org.zexnocs.teanekocore.logger.ILogger;
 import org.zexnocs.teanekocore.reload.AbstractScanner;
 import org.zexnocs.teanekocore.utils.scanner.inerfaces.IBeanScanner;
@@ -14,6 +15,7 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * 指令扫描器
@@ -28,6 +30,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Service("commandScanner")
 public class CommandScanner extends AbstractScanner {
+    /// 允许指令名和参数之间没有空格的指令前缀
+    public static final char GLUED_COMMAND_PREFIX = '/';
+
     /// 日志
     private final ILogger logger;
 
@@ -36,12 +41,22 @@ public class CommandScanner extends AbstractScanner {
 
     /// 正则指令映射表，key为指令名，value为指令数据
     private final Map<String, CommandMapData> regexpCommandMap = new ConcurrentHashMap<>();
+
+    /// 前缀指令前缀树，忽略大小写，扫描完成后整体替换
+    private volatile CommandTrie<CommandMapData> prefixCommandTrie = CommandTrie.empty();
+
+    /// 预编译的正则指令匹配器，扫描完成后整体替换
+    private volatile CommandRegexpMatcher<CommandMapData> regexpMatcher = CommandRegexpMatcher.empty();
     private final IBeanScanner iBeanScanner;
 
+    /// 参数处理器，扫描时预编译指令方法的参数绑定
+    private final ICommandArgumentProcessor iCommandArgumentProcessor;
+
     @Autowired
-    public CommandScanner(ILogger logger, IBeanScanner iBeanScanner) {
+    public CommandScanner(ILogger logger, IBeanScanner iBeanScanner, ICommandArgumentProcessor iCommandArgumentProcessor) {
         this.logger = logger;
         this.iBeanScanner = iBeanScanner;
+        this.iCommandArgumentProcessor = iCommandArgumentProcessor;
     }
 
     /**
@@ -53,7 +68,7 @@ public class CommandScanner extends AbstractScanner {
     }
 
     /**
-     * 获取前缀指令。
+     * 获取前缀指令，忽略大小写。
      * 如果指令不存在，返回null。
      * @param command 指令名
      * @return CommandMapData
@@ -62,7 +77,36 @@ public class CommandScanner extends AbstractScanner {
         if(command == null || command.isBlank()) {
             return null;
         }
-        return prefixCommandMap.get(command);
+        return prefixCommandTrie.get(command);
+    }
+
+    /**
+     * 解析指令体对应的前缀指令，忽略大小写。
+     * 指令体和指令名完全相同时直接返回；否则查找作为指令体开头的最长指令名，
+     * 支持 "/签到明天" 这种指令名和参数之间没有空格的写法。
+     * 只有以指令前缀 "/" 开头的指令名才会拆分，"签到了吗" 这种普通聊天不会被当成没有 "/" 的别名 "签到" 加参数，
+     * 也不会挡住以这些别名开头的正则指令。
+     * 为了避免 "/r" 误匹配 "/roll"，如果指令名的最后一个字符和剩余部分的第一个字符都是 ASCII 字母或数字，则不拆分。
+     *
+     * @param body 指令体
+     * @return 匹配结果，长度小于指令体长度时剩余部分为第一个参数；没有匹配时返回 null
+     */
+    public CommandTrie.Match<CommandMapData> resolvePrefixCommand(String body) {
+        if(body == null || body.isBlank()) {
+            return null;
+        }
+        if(body.charAt(0) != GLUED_COMMAND_PREFIX) {
+            var mapData = prefixCommandTrie.get(body);
+            return mapData == null ? null : new CommandTrie.Match<>(mapData, body.length());
+        }
+        var match = prefixCommandTrie.longestPrefix(body);
+        if(match == null || match.length() == body.length()) {
+            return match;
+        }
+        if(_isAsciiLetterOrDigit(body.charAt(match.length() - 1)) && _isAsciiLetterOrDigit(body.charAt(match.length()))) {
+            return null;
+        }
+        return match;
     }
 
     /**
@@ -86,11 +130,33 @@ public class CommandScanner extends AbstractScanner {
         return regexpCommandMap.get(command);
     }
 
+    /**
+     * 查找第一个完整匹配文本的正则指令。
+     * 正则在扫描时已经预编译，并且只会匹配字面量前缀符合的候选正则。
+     *
+     * @param body 指令文本，即 body 和参数使用空格拼接后的字符串
+     * @return CommandMapData；没有匹配的正则指令时返回 null
+     */
+    public CommandMapData matchRegexpCommand(CharSequence body) {
+        return regexpMatcher.match(body);
+    }
+
+    /**
+     * 是否存在正则指令。
+     *
+     * @return true 表示存在
+     */
+    public boolean hasRegexpCommand() {
+        return regexpMatcher.size() > 0;
+    }
+
     /**
      * 扫描指令。
      *
      */
     protected synchronized void _scan() {
+        var prefixTrieBuilder = CommandTrie.<CommandMapData>builder();
+        var regexpMatcherBuilder = CommandRegexpMatcher.<CommandMapData>builder();
         var beanPairs = iBeanScanner.getBeansWithAnnotation(Command.class);
         for(var pair: beanPairs.values()) {
             var annotation = pair.first();
@@ -110,6 +176,7 @@ public class CommandScanner extends AbstractScanner {
             Method defaultCommandMethod = null;
             DefaultCommand defaultCommandAnnotation = null;
             var subCommandMap = new ConcurrentHashMap<String, Pair<SubCommand, Method>>();
+            var subCommandTrieBuilder = CommandTrie.<Pair<SubCommand, Method>>builder();
             for(var method: clazz.getDeclaredMethods()) {
                 // 如果是默认指令方法
                 if(method.isAnnotationPresent(DefaultCommand.class)) {
@@ -118,10 +185,12 @@ public class CommandScanner extends AbstractScanner {
                     } else {
                         defaultCommandMethod = method;
                         defaultCommandAnnotation = method.getAnnotation(DefaultCommand.class);
+                        _compileArguments(annotation, method);
                     }
                 } else if (method.isAnnotationPresent(SubCommand.class)) {
                     // 如果是子指令方法
                     var subCommandAnnotation = method.getAnnotation(SubCommand.class);
+                    _compileArguments(annotation, method);
                     for(var subCommandName: subCommandAnnotation.value()) {
                         var __checkSubCommand = subCommandMap.get(subCommandName);
                         if(__checkSubCommand != null){
@@ -133,7 +202,17 @@ public class CommandScanner extends AbstractScanner {
                                     method.getName()));
                             continue;
                         }
-                        subCommandMap.put(subCommandName, Pair.of(subCommandAnnotation, method));
+                        var subCommandPair = Pair.of(subCommandAnnotation, method);
+                        var __checkFolded = subCommandTrieBuilder.putIfAbsent(subCommandName, subCommandPair);
+                        if(__checkFolded != null) {
+                            logger.errorWithReport("CommandScanner", String.format("""
+                                    指令 %s 的子指令 %s 忽略大小写后和方法 %s 的子指令重复""",
+                                    clazz.getName(),
+                                    subCommandName,
+                                    __checkFolded.getSecond().getName()));
+                            continue;
+                        }
+                        subCommandMap.put(subCommandName, subCommandPair);
                     }
                 }
             }
@@ -144,6 +223,7 @@ public class CommandScanner extends AbstractScanner {
                     .defaultCommandMethod(defaultCommandMethod)
                     .defaultCommandAnnotation(defaultCommandAnnotation)
                     .subCommandMap(subCommandMap)
+                    .subCommandTrie(subCommandTrieBuilder.build())
                     .build();
             for(var command: commandNames) {
                 var __checkCommand = commandMap.get(command);
@@ -155,9 +235,48 @@ public class CommandScanner extends AbstractScanner {
                             commandMapData.getCommand().getClass().getName()));
                     continue;
                 }
+                if(annotation.mode() == Command.CommandMode.REGEX) {
+                    try {
+                        regexpMatcherBuilder.add(command, commandMapData);
+                    } catch (PatternSyntaxException e) {
+                        logger.errorWithReport("CommandScanner",
+                                "指令 %s 的正则 %s 语法错误".formatted(clazz.getName(), command), e);
+                        continue;
+                    }
+                } else {
+                    var __checkFolded = prefixTrieBuilder.putIfAbsent(command, commandMapData);
+                    if(__checkFolded != null) {
+                        logger.errorWithReport("CommandScanner", String.format("""
+                                指令 %s 忽略大小写后已经注册，分别是 %s 和 %s""",
+                                command,
+                                __checkFolded.getCommand().getClass().getName(),
+                                commandMapData.getCommand().getClass().getName()));
+                        continue;
+                    }
+                }
                 commandMap.put(command, commandMapData);
             }
         }
+        // 整体替换，重载期间仍然使用旧的指令
+        prefixCommandTrie = prefixTrieBuilder.build();
+        regexpMatcher = regexpMatcherBuilder.build();
+    }
+
+    /**
+     * 预编译前缀指令方法的参数绑定；正则指令不经过参数处理器。
+     *
+     * @param annotation 指令注解
+     * @param method 指令方法
+     */
+    private void _compileArguments(Command annotation, Method method) {
+        if(annotation.mode() == Command.CommandMode.PREFIX) {
+            iCommandArgumentProcessor.compile(method);
+        }
+    }
+
+    /// 是否是 ASCII 字母或数字
+    private static boolean _isAsciiLetterOrDigit(char c) {
+        return c < 128 && Character.isLetterOrDigit(c);
     }
 
     /**
@@ -168,5 +287,7 @@ public class CommandScanner extends AbstractScanner {
     protected void _clear() {
         prefixCommandMap.clear();
         regexpCommandMap.clear();
+        prefixCommandTrie = CommandTrie.empty();
+        regexpMatcher = CommandRegexpMatcher.empty();
     }
 }
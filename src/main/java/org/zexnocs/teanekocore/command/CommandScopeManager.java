@@ -1,12 +1,13 @@
 package org.zexnocs.teanekocore.command;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.command.api.*;
-import org.zexnocs.teanekocore.command.easydata.CommandEasyData;
 import org.zexnocs.teanekocore.command.interfaces.ICommandScopeManager;
 
 /**
  * 指令范围管理器，用于判断指令是否在范围内
+ * 范围数据通过 {@link CommandAccessIndex} 读写，判定结果会被缓存。
  *
  * @author zExNocs
  * @date 2026/02/18
@@ -17,6 +18,38 @@ public class CommandScopeManager implements ICommandScopeManager {
     public static final String ENABLE_NAMESPACE = "command.scope.enable";
     public static final String DISABLE_NAMESPACE = "command.scope.disable";
 
+    /// 范围判定索引
+    private final CommandAccessIndex commandAccessIndex;
+
+    @Autowired
+    public CommandScopeManager(CommandAccessIndex commandAccessIndex) {
+        this.commandAccessIndex = commandAccessIndex;
+    }
+
+    /**
+     * 允许指令在范围内使用，即使原本不在指令的范围内。
+     *
+     * @param commandId 指令 ID
+     * @param scopeId   范围 ID
+     * @param enable    是否允许
+     */
+    @Override
+    public void setScopeEnabled(String commandId, String scopeId, boolean enable) {
+        commandAccessIndex.setScope(ENABLE_NAMESPACE, commandId, scopeId, enable, enable ? "添加区域" : "删除区域");
+    }
+
+    /**
+     * 禁止指令在范围内使用。
+     *
+     * @param commandId 指令 ID
+     * @param scopeId   范围 ID
+     * @param ban       是否禁止
+     */
+    @Override
+    public void setScopeBanned(String commandId, String scopeId, boolean ban) {
+        commandAccessIndex.setScope(DISABLE_NAMESPACE, commandId, scopeId, ban, ban ? "禁止区域" : "取消禁止区域");
+    }
+
     /**
      * 判断指令是否在范围内，先判断是否被禁止使用权限，
      * 如果被禁止使用权限则直接返回 false，再判断原始权限，如果匹配或者范围是 ALL，则返回 true，最后判断数据库权限
@@ -103,8 +136,7 @@ public class CommandScopeManager implements ICommandScopeManager {
         }
 
         // 2. 先判断是否被被取消权限，如果被禁止使用权限则直接返回 false
-        var __disableEasyData = CommandEasyData.of(DISABLE_NAMESPACE);
-        if(__disableEasyData.get(commandId).getBoolean(scopeId)) {
+        if(commandAccessIndex.getScope(DISABLE_NAMESPACE, commandId, scopeId)) {
             return false;
         }
 
@@ -121,7 +153,6 @@ public class CommandScopeManager implements ICommandScopeManager {
         }
 
         // c. 判断数据库权限
-        var __enableEasyData = CommandEasyData.of(ENABLE_NAMESPACE);
-        return __enableEasyData.get(commandId).getBoolean(scopeId);
+        return commandAccessIndex.getScope(ENABLE_NAMESPACE, commandId, scopeId);
     }
 }
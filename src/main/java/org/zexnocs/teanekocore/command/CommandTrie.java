@@ -0,0 +1,197 @@
+package org.zexnocs.teanekocore.command;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * 不可变的指令前缀树，用于查找前缀指令和子指令。
+ * key 在存入和查找时都会忽略大小写，同一个指令的多个名称（别名）指向同一个数据。
+ * <p>
+ * 子节点使用排序后的 char 数组和二分查找，查找时只遍历一次文本，不创建新的字符串。
+ * 实例创建后不可变，扫描指令时整体替换。
+ *
+ * @param <V> 数据类型
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public final class CommandTrie<V> {
+    /// 空前缀树
+    private static final CommandTrie<?> EMPTY = new CommandTrie<>(new Node(new char[0], new Node[0], null), 0);
+
+    /// 根节点
+    private final Node root;
+
+    /// key 的数量
+    private final int size;
+
+    private CommandTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 获取空前缀树。
+     *
+     * @return 空前缀树
+     * @param <V> 数据类型
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> CommandTrie<V> empty() {
+        return (CommandTrie<V>) EMPTY;
+    }
+
+    /**
+     * 创建前缀树的构建器。
+     *
+     * @return 构建器
+     * @param <V> 数据类型
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 获取 key 的数量。
+     *
+     * @return key 的数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取 key 对应的数据，忽略大小写。
+     *
+     * @param key key
+     * @return 数据；不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(CharSequence key) {
+        if (key == null || size == 0) {
+            return null;
+        }
+        var node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.next(key.charAt(i));
+        }
+        return node == null ? null : (V) node.value;
+    }
+
+    /**
+     * 查找文本开头最长的 key，忽略大小写。
+     *
+     * @param text 文本
+     * @return 匹配结果；没有 key 是文本的前缀时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public Match<V> longestPrefix(CharSequence text) {
+        if (text == null || size == 0) {
+            return null;
+        }
+        Object value = null;
+        int length = 0;
+        var node = root;
+        for (int i = 0; i < text.length(); i++) {
+            node = node.next(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                value = node.value;
+                length = i + 1;
+            }
+        }
+        return value == null ? null : new Match<>((V) value, length);
+    }
+
+    /// 大小写折叠
+    private static char _fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * 前缀匹配结果。
+     *
+     * @param value 数据
+     * @param length 匹配的 key 的长度
+     * @param <V> 数据类型
+     */
+    public record Match<V>(V value, int length) {}
+
+    /**
+     * 前缀树的构建器。
+     *
+     * @param <V> 数据类型
+     */
+    public static final class Builder<V> {
+        private final MutableNode root = new MutableNode();
+        private int size;
+
+        private Builder() {}
+
+        /**
+         * 添加 key。如果忽略大小写后已经存在相同的 key，则不覆盖。
+         *
+         * @param key key
+         * @param value 数据，不能为 null
+         * @return 已经存在的数据；不存在时返回 null 表示添加成功
+         */
+        public V putIfAbsent(String key, V value) {
+            var node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(_fold(key.charAt(i)), k -> new MutableNode());
+            }
+            if (node.value != null) {
+                @SuppressWarnings("unchecked")
+                var existing = (V) node.value;
+                return existing;
+            }
+            node.value = value;
+            size++;
+            return null;
+        }
+
+        /**
+         * 构建前缀树。
+         *
+         * @return 前缀树
+         */
+        public CommandTrie<V> build() {
+            return size == 0 ? empty() : new CommandTrie<>(root.freeze(), size);
+        }
+    }
+
+    /**
+     * 不可变的节点。
+     *
+     * @param keys 子节点的字符，已经折叠大小写并升序排列
+     * @param children 子节点
+     * @param value 数据；为 null 表示没有 key 在这个节点结束
+     */
+    private record Node(char[] keys, Node[] children, Object value) {
+        Node next(char c) {
+            int index = Arrays.binarySearch(keys, _fold(c));
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * 构建时使用的节点。
+     */
+    private static final class MutableNode {
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private Object value;
+
+        private Node freeze() {
+            var keys = new char[children.size()];
+            var nodes = new Node[keys.length];
+            int i = 0;
+            for (var entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, nodes, value);
+        }
+    }
+}
@@ -91,6 +91,16 @@ public @interface Command {
      */
     String taskNamespace() default "";
 
+    /**
+     * 是否是快速指令。
+     * <p>快速指令在分发指令的线程中直接执行，不注册任务，也不占用任务通道的并发名额；
+     * 执行期间会占住分发线程，所以只适用于不等待网络、数据库或者大模型的指令。
+     * <p>默认为 false，提交到 {@link #taskNamespace()} 对应的任务通道中执行。
+     *
+     * @return boolean
+     */
+    boolean fast() default false;
+
     /**
      * 指令模式枚举类，定义了指令的两种模式：前缀模式和正则模式。
      *
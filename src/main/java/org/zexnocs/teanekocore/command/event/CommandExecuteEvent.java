@@ -66,9 +66,11 @@ public class CommandExecuteEvent extends AbstractEvent<CommandData<?>> {
     public void _afterNotify() {
         var commandAnnotation = mapData.getCommandAnnotation();
         executor.execute(
+                getData(),
                 mapData.getCommand(),
                 method,
                 args,
-                commandAnnotation.taskNamespace());
+                commandAnnotation.taskNamespace(),
+                commandAnnotation.fast());
     }
 }
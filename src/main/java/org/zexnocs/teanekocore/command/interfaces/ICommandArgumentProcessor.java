@@ -21,4 +21,12 @@ public interface ICommandArgumentProcessor {
      * @return 处理后的参数
      */
     Object[] process(Method method, String[] args, CommandData<?> commandData) throws CommandDataTypeMismatchException;
+
+    /**
+     * 预编译指令方法的参数处理，在扫描指令时调用。
+     * 默认什么也不做，在处理参数时再解析方法。
+     * @param method 指令方法
+     */
+    default void compile(Method method) {
+    }
 }
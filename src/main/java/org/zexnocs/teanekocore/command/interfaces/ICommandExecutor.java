@@ -1,5 +1,7 @@
 package org.zexnocs.teanekocore.command.interfaces;
 
+import org.zexnocs.teanekocore.command.CommandData;
+
 import java.lang.reflect.Method;
 
 /**
@@ -19,4 +21,19 @@ public interface ICommandExecutor {
      * @param taskNamespace 指令命名空间
      */
     void execute(Object object, Method method, Object[] args, String taskNamespace);
+
+    /**
+     * 执行指令，并提供指令数据用于统计。
+     * 默认忽略指令数据，并且总是使用任务执行。
+     * @param data 指令数据
+     * @param object 指令执行对象
+     * @param method 指令方法
+     * @param args 指令参数
+     * @param taskNamespace 指令命名空间
+     * @param fast 是否是快速指令，见 {@link org.zexnocs.teanekocore.command.api.Command#fast()}
+     */
+    default void execute(CommandData<?> data, Object object, Method method, Object[] args,
+                         String taskNamespace, boolean fast) {
+        execute(object, method, args, taskNamespace);
+    }
 }
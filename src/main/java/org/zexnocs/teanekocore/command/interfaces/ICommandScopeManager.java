@@ -41,4 +41,22 @@ public interface ICommandScopeManager {
      * @return boolean    是否在范围内
      */
     boolean inScope(Command command, SubCommand subCommand, CommandData<?> commandData);
+
+    /**
+     * 允许指令在范围内使用，即使原本不在指令的范围内。
+     *
+     * @param commandId 指令 ID
+     * @param scopeId   范围 ID
+     * @param enable    是否允许
+     */
+    void setScopeEnabled(String commandId, String scopeId, boolean enable);
+
+    /**
+     * 禁止指令在范围内使用。
+     *
+     * @param commandId 指令 ID
+     * @param scopeId   范围 ID
+     * @param ban       是否禁止
+     */
+    void setScopeBanned(String commandId, String scopeId, boolean ban);
 }
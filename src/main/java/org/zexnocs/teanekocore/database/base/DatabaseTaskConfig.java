@@ -5,6 +5,7 @@ import lombok.NonNull;
 import org.zexnocs.teanekocore.actuator.task.EmptyTaskResult;
 import org.zexnocs.teanekocore.actuator.task.TaskConfig;
 import org.zexnocs.teanekocore.actuator.task.TaskFuture;
+import org.zexnocs.teanekocore.actuator.task.TaskRetryBackoff;
 import org.zexnocs.teanekocore.actuator.task.TaskRetryStrategy;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskConfig;
 import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskResult;
@@ -196,6 +197,9 @@ public class DatabaseTaskConfig implements IDatabaseTaskConfig {
                 .taskStageNamespace(DatabaseService.TASK_STAGE_NAMESPACE)
                 .maxRetries(databaseService.__getMaxRetryCount())
                 .retryInterval(Duration.ofMillis(200))
+                // 热点行的乐观锁冲突会让多个任务同时失败，使用抖动打散它们的重试时间
+                .retryBackoff(TaskRetryBackoff.DECORRELATED_JITTER)
+                .maxRetryInterval(Duration.ofSeconds(2))
                 .retryStrategy(TaskRetryStrategy.NO_RETRY)      // 只有抛出 retry exception 时才会重试，其他异常不重试。
                 .callable(() -> {
                     // 执行 Transaction 任务。
@@ -9,12 +9,9 @@ import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
 import org.zexnocs.teanekocore.database.base.DatabaseService;
 import org.zexnocs.teanekocore.database.base.interfaces.IDatabaseService;
 import org.zexnocs.teanekocore.database.easydata.BaseEasyDataObject;
-import org.zexnocs.teanekocore.database.easydata.BaseEasyDataRepository;
 import org.zexnocs.teanekocore.database.easydata.api.IEasyData;
 import org.zexnocs.teanekocore.database.easydata.core.interfaces.IEasyDataDto;
 import org.zexnocs.teanekocore.database.easydata.core.interfaces.IEasyDataService;
-import org.zexnocs.teanekocore.framework.pair.HashPair;
-import org.zexnocs.teanekocore.framework.pair.Pair;
 import tools.jackson.databind.ObjectMapper;
 
 import java.util.Map;
@@ -35,8 +32,9 @@ public class EasyDataService implements IEasyDataService {
     /// 数据库服务
     private final IDatabaseService databaseService;
 
-    /// EasyData 缓存; (entity name, namespace) → EasyDataCache
-    private final ConcurrentMapCacheContainer<Pair<String, String>, EasyDataCache> easyDataCache;
+    /// EasyData 缓存; (entity name, namespace, target) → 数据对象
+    /// 数据对象中可能有还没有提交的写入，不能按照容量淘汰，否则会重新从数据库加载出旧数据；只在长时间没有访问后过期
+    private final ConcurrentMapCacheContainer<EasyDataKey, IEasyDataDto> easyDataCache;
 
     /// EasyData 的 task stage chain 执行缓存
     private final Map<Class<? extends BaseEasyDataObject>, String> taskStageNamespaceCache = new ConcurrentHashMap<>();
@@ -66,7 +64,7 @@ public class EasyDataService implements IEasyDataService {
     @NonNull
     public IEasyDataDto getEasyData(IEasyData easyData, String target) {
         // 构造 key
-        var key = HashPair.of(easyData.getEntityClass().getName(), easyData.getNamespace());
+        var key = new EasyDataKey(easyData.getEntityClass().getName(), easyData.getNamespace(), target);
         // 尝试获取任务阶段链命名空间
         String taskStageNamespace = taskStageNamespaceCache.computeIfAbsent(easyData.getEntityClass(),
                 k -> {
@@ -81,53 +79,23 @@ public class EasyDataService implements IEasyDataService {
                     }
                     return DatabaseService.TASK_STAGE_NAMESPACE;
                 });
-        var cache = easyDataCache.computeIfAbsent(key, k ->
-                new EasyDataCache(easyDataRepositoryScanner.getRepository(easyData.getEntityClass()),
+        return easyDataCache.computeIfAbsent(key, k ->
+                new EasyDataDto(
+                        databaseService,
+                        easyDataRepositoryScanner.getRepository(easyData.getEntityClass()),
                         taskStageNamespace,
-                        easyData.getNamespace()));
-        return cache.get(target);
+                        easyData.getNamespace(),
+                        target,
+                        objectMapper));
     }
 
     /**
-     * EasyData 数据对象的缓存类。
+     * EasyData 数据对象的缓存键。
+     *
+     * @param entityName 实体类名
+     * @param namespace  命名空间
+     * @param target     目标
      */
-    public class EasyDataCache {
-        /// target → 数据对象
-        private final Map<String, IEasyDataDto> data = new ConcurrentHashMap<>();
-
-        /// 数据库引用
-        private final BaseEasyDataRepository<?> repository;
-
-        /// 任务阶段链命名空间
-        private final String taskStageNamespace;
-
-        /// 命名空间
-        private final String namespace;
-
-        /**
-         * 构造函数。
-         */
-        private EasyDataCache(BaseEasyDataRepository<?> repository,
-                              String taskStageNamespace,
-                              String namespace) {
-            this.repository = repository;
-            this.taskStageNamespace = taskStageNamespace;
-            this.namespace = namespace;
-        }
-
-        /**
-         * 根据 target 获取数据对象。
-         */
-        @NonNull
-        public IEasyDataDto get(String target) {
-            return data.computeIfAbsent(target,
-                    key -> new EasyDataDto(
-                            databaseService,
-                            repository,
-                            taskStageNamespace,
-                            namespace,
-                            target,
-                            objectMapper));
-        }
+    private record EasyDataKey(String entityName, String namespace, String target) {
     }
 }
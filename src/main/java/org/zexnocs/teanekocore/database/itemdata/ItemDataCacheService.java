@@ -3,7 +3,9 @@ package org.zexnocs.teanekocore.database.itemdata;
 import lombok.Setter;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.zexnocs.teanekocore.cache.CacheContainerConfig;
 import org.zexnocs.teanekocore.cache.ConcurrentMapCacheContainer;
 import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
 import org.zexnocs.teanekocore.database.itemdata.data.ItemDataDTO;
@@ -36,8 +38,12 @@ public class ItemDataCacheService implements IItemDataCacheService {
     private final ConcurrentMapCacheContainer<Pair<String, UUID>, CacheHolder> itemDataDtoCache;
 
     @Autowired
-    public ItemDataCacheService(ICacheService iCacheService) {
-        this.itemDataDtoCache = ConcurrentMapCacheContainer.of(iCacheService);
+    public ItemDataCacheService(ICacheService iCacheService,
+                                @Value("${tea-neko.cache.item-data-maximum-size:10000}") long maximumSize) {
+        this.itemDataDtoCache = ConcurrentMapCacheContainer.of(iCacheService,
+                CacheContainerConfig.<Pair<String, UUID>, CacheHolder>builder()
+                        .maximumSize(maximumSize)
+                        .build());
     }
 
     /**
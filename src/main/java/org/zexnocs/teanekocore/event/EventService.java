@@ -2,6 +2,7 @@ package org.zexnocs.teanekocore.event;
 
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.zexnocs.teanekocore.actuator.task.EmptyTaskResult;
@@ -14,7 +15,7 @@ import org.zexnocs.teanekocore.event.interfaces.IEvent;
 import org.zexnocs.teanekocore.event.interfaces.IEventService;
 import org.zexnocs.teanekocore.logger.ILogger;
 
-import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 事件服务，负责处理事件的推送和分发。
@@ -41,14 +42,28 @@ public class EventService implements IEventService {
     /// 事件处理器扫描器
     private final EventHandlerScanner eventHandlerScanner;
 
+    /// 是否将异步监听器直接提交到执行通道，而不是为每个监听器注册一个任务。
+    /// 直接提交没有重试、过期和 TaskFuture，异常只会被记录并报告。
+    private final boolean directAsyncListeners;
+
+    /// 事件类 → 事件元数据
+    private static final ClassValue<EventMetadata> EVENT_METADATA = new ClassValue<>() {
+        @Override
+        protected EventMetadata computeValue(@NonNull Class<?> type) {
+            return EventMetadata.of(type);
+        }
+    };
+
     @Lazy
     @Autowired
     public EventService(ILogger logger,
                         EventHandlerScanner eventHandlerScanner,
-                        ITaskService iTaskService) {
+                        ITaskService iTaskService,
+                        @Value("${tea-neko.event.direct-async-listeners:false}") boolean directAsyncListeners) {
         this.logger = logger;
         this.eventHandlerScanner = eventHandlerScanner;
         this.iTaskService = iTaskService;
+        this.directAsyncListeners = directAsyncListeners;
     }
 
     /**
@@ -58,13 +73,10 @@ public class EventService implements IEventService {
      */
     @Override
     public TaskFuture<ITaskResult<Void>> pushEventWithFuture(@NonNull IEvent<?> event) {
-        String eventProcessNamespace = Optional.ofNullable(event.getClass().getAnnotation(Event.class))
-                .map(Event::namespace)
-                .filter(s -> !s.isEmpty())
-                .orElse(EVENT_PROCESS_DEFAULT_NAMESPACE);
+        var metadata = EVENT_METADATA.get(event.getClass());
         return iTaskService.subscribeWithFuture(
-                    "事件{" + event.getClass().getName() + "}的处理",
-                    eventProcessNamespace,
+                    metadata.processTaskName(),
+                    metadata.namespace(),
                     () -> {
                         _processEvent(event);
                         return EmptyTaskResult.INSTANCE;
@@ -72,17 +84,38 @@ public class EventService implements IEventService {
                     EmptyTaskResult.getResultType());
     }
 
+    /**
+     * 尝试在当前线程中直接处理事件，不注册新的任务。
+     * 当前事件没有监听器或者监听器都是同步监听器时才直接处理；同步监听器本来就在处理事件的线程中按顺序执行，
+     * 所以直接处理只是省去了一次任务注册和线程切换，监听器看到的顺序不变。
+     * 处理中的异常抛出给调用者，由调用者所在的任务报告。
+     * @param event 事件
+     * @return 是否已经在当前线程中处理
+     * @throws RuntimeException 监听器抛出的异常
+     */
+    @Override
+    public boolean processInline(@NonNull IEvent<?> event) {
+        var eventListenerPatchList = eventHandlerScanner.getEventHandlerList(event.getClass());
+        for (int i = 0, size = eventListenerPatchList.size(); i < size; i++) {
+            if (eventListenerPatchList.get(i).isAsync()) {
+                return false;
+            }
+        }
+        _processEvent(event);
+        return true;
+    }
+
     /**
      * 处理事件，包括通知监听器、在同一线程中推送下一个事件等。
      * 一旦有任何监听器出现异常就会停止处理事件，并将异常抛出到阶段链或者 TaskFuture 中处理。
+     * 只有同步监听器时不会产生额外的对象：日志标签只在出错或者记录调试信息时拼接。
+     * 包内可见，用于基准测试。
      *
      * @param event 事件
      */
-    private void _processEvent(IEvent<?> event) throws RuntimeException {
+    void _processEvent(IEvent<?> event) throws RuntimeException {
         int iteration = 0;
         while (event != null) {
-            String TAG = "事件{%s}".formatted(event.getClass().getName());
-
             iteration += 1;
             // 判断迭代次数是否超过最大值
             if (iteration > MAX_ITERATION) {
@@ -94,42 +127,44 @@ public class EventService implements IEventService {
             try {
                 event._beforeNotify();
             } catch (Exception e) {
-                throw new RuntimeException("%s 的通知前预处理异常".formatted(TAG), e);
+                throw new RuntimeException("%s 的通知前预处理异常".formatted(_tag(event)), e);
             }
 
             // 判断事件是否已经被取消
             if (event.isCancelled()) {
-                logger.debug(this.getClass().getSimpleName(), "%s 在通知前预处理后被取消。".formatted(TAG));
+                _debug(event, "在通知前预处理后被取消。");
                 // 不返回，因为可能存在忽略取消事件的监听器
             }
 
             // 通知事件的监听器
+            // 异步监听器在遍历到时立即提交，两种提交方式下后续同步监听器的异常都不会撤回已经提交的异步监听器
             try {
                 // 获取事件的监听器
                 var eventListenerPatchList = eventHandlerScanner.getEventHandlerList(event.getClass());
                 // 遍历事件的监听器
-                for (var patch: eventListenerPatchList) {
-                    // 获取注解来决定其运行的配置
-                    var annotation = patch.getAnnotation();
+                for (int i = 0, size = eventListenerPatchList.size(); i < size; i++) {
+                    var patch = eventListenerPatchList.get(i);
                     // 如果事件被取消，且监听器不忽略取消事件，则跳过该监听器
-                    if(event.isCancelled() && !annotation.ignoreCancelled()) {
+                    if(event.isCancelled() && !patch.isIgnoreCancelled()) {
                         continue;
                     }
                     // 判断监听器是否异步
-                    if (annotation.async()) {
-                        _asyncProcessListener(TAG, event, patch);
-                    } else {
+                    if (!patch.isAsync()) {
                         // 如果不异步执行，则在当前线程中运行
                         patch.invoke(event);
+                    } else if (directAsyncListeners) {
+                        _directProcessListener(event, patch);
+                    } else {
+                        _asyncProcessListener(event, patch);
                     }
                 }
             } catch (Exception e) {
-                throw new RuntimeException("%s 通知异常".formatted(TAG), e);
+                throw new RuntimeException("%s 通知异常".formatted(_tag(event)), e);
             }
 
             // 判断事件是否已经被取消
             if (event.isCancelled()) {
-                logger.debug(this.getClass().getSimpleName(), "%s 在通知时被取消。".formatted(TAG));
+                _debug(event, "在通知时被取消。");
                 // 返回，因为如果事件被取消，则不需要处理后续的操作
                 return;
             }
@@ -138,12 +173,12 @@ public class EventService implements IEventService {
             try {
                 event._afterNotify();
             } catch (Exception e) {
-                throw new RuntimeException("%s 通知后处理异常".formatted(TAG), e);
+                throw new RuntimeException("%s 通知后处理异常".formatted(_tag(event)), e);
             }
 
             // 判断事件是否已经被取消
             if (event.isCancelled()) {
-                logger.debug(this.getClass().getSimpleName(), "%s 在通知后处理后被取消。".formatted(TAG));
+                _debug(event, "在通知后处理后被取消。");
                 // 如果事件被取消则不推送下一个事件
                 return;
             }
@@ -156,27 +191,96 @@ public class EventService implements IEventService {
     /**
      * 异步处理监听器。
      *
-     * @param TAG 日志标签
      * @param event 事件
      * @param patch 监听器补丁
      */
-    private void _asyncProcessListener(String TAG,
-                IEvent<?> event,
+    private void _asyncProcessListener(IEvent<?> event,
                 EventHandlerScanner.EventHandlerPatch<?> patch) {
-        var annotation = patch.getAnnotation();
-        var listener = patch.getTarget();
         // 获取命名空间，如果没有则使用默认命名空间
-        String taskChainNamespace = Optional.ofNullable(annotation.taskChainNamespace())
-            .filter(s -> !s.isEmpty())
-            .orElse(EVENT_LISTENER_DEFAULT_NAMESPACE);
+        var taskChainNamespace = patch.getTaskChainNamespace();
         // 注册
-        iTaskService.subscribe("""
-                        %s_监听器{%s}_{%s}的异步处理"""
-                        .formatted(TAG, listener.getClass().getName(), patch.getMethod().getName()),
-                taskChainNamespace,
+        iTaskService.subscribe(_tag(event) + "_" + patch.getDisplayName() + "的异步处理",
+                taskChainNamespace != null ? taskChainNamespace : EVENT_LISTENER_DEFAULT_NAMESPACE,
                 () -> {
                     patch.invoke(event);
                     return EmptyTaskResult.INSTANCE;
                 }, EmptyTaskResult.getResultType());
     }
+
+    /**
+     * 直接执行一个异步监听器。
+     * 监听器直接提交到命名空间的执行通道（{@link ITaskService#execute}），不注册任务，
+     * 仍然受执行通道的并发数和队列限制，同一个通道中按照提交顺序开始执行。
+     * 与 {@link #_asyncProcessListener} 相比没有重试、过期和 TaskFuture：
+     * 监听器的异常（包含监听器和耗时）和被执行通道拒绝时都只会由日志记录并报告。
+     *
+     * @param event 事件
+     * @param patch 监听器补丁
+     */
+    private void _directProcessListener(IEvent<?> event,
+                                        EventHandlerScanner.EventHandlerPatch<?> patch) {
+        var namespace = patch.getTaskChainNamespace();
+        iTaskService.execute(namespace != null ? namespace : EVENT_LISTENER_DEFAULT_NAMESPACE,
+                () -> {
+                    var failure = _invokeListener(event, patch);
+                    if (failure != null) {
+                        logger.errorWithReport(this.getClass().getSimpleName(), failure.getMessage(), failure);
+                    }
+                },
+                rejected -> logger.errorWithReport(this.getClass().getSimpleName(),
+                        "%s_%s 异步处理被拒绝".formatted(_tag(event), patch.getDisplayName()), rejected));
+    }
+
+    /**
+     * 执行一个监听器并记录耗时。
+     *
+     * @return 监听器的异常；没有异常时返回 null
+     */
+    private RuntimeException _invokeListener(IEvent<?> event, EventHandlerScanner.EventHandlerPatch<?> patch) {
+        long start = System.nanoTime();
+        try {
+            patch.invoke(event);
+            if (logger.isDebugEnabled()) {
+                logger.debug(this.getClass().getSimpleName(), "%s_%s 异步处理完成，耗时 %d ms".formatted(
+                        _tag(event), patch.getDisplayName(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            }
+            return null;
+        } catch (Exception e) {
+            return new RuntimeException("%s_%s 异步处理异常，耗时 %d ms".formatted(
+                    _tag(event), patch.getDisplayName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)), e);
+        }
+    }
+
+    /// 获取事件的日志标签
+    private static String _tag(IEvent<?> event) {
+        return EVENT_METADATA.get(event.getClass()).tag();
+    }
+
+    /// 记录事件的调试信息，只有启用了 debug 时才拼接字符串
+    private void _debug(IEvent<?> event, String message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(this.getClass().getSimpleName(), _tag(event) + " " + message);
+        }
+    }
+
+    /**
+     * 事件类的元数据，每个事件类只解析一次。
+     *
+     * @param namespace 事件处理的任务阶段命名空间
+     * @param tag 日志标签
+     * @param processTaskName 事件处理任务的名称
+     */
+    private record EventMetadata(String namespace, String tag, String processTaskName) {
+        static EventMetadata of(Class<?> type) {
+            var annotation = type.getAnnotation(Event.class);
+            var namespace = annotation == null || annotation.namespace().isEmpty()
+                    ? EVENT_PROCESS_DEFAULT_NAMESPACE
+                    : annotation.namespace();
+            return new EventMetadata(namespace,
+                    "事件{%s}".formatted(type.getName()),
+                    "事件{" + type.getName() + "}的处理");
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package org.zexnocs.teanekocore.event.core;
+
+import org.zexnocs.teanekocore.event.interfaces.IEvent;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * 将事件处理器方法编译成直接调用的 {@code Consumer<IEvent>}。
+ * 使用 LambdaMetafactory 生成绑定了监听器对象的隐藏类，调用时和手写的 lambda 一样可以被 JIT 内联，
+ * 不再需要每次事件都经过 {@link Method#invoke} 的参数数组、访问检查和异常包装。
+ * <p>
+ * 生成的 Consumer 会把事件强制转换成处理器的参数类型，类型不匹配时抛出 ClassCastException；
+ * 处理器抛出的异常会原样抛出，不会被包装成 InvocationTargetException。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+final class EventHandlerCompiler {
+    private EventHandlerCompiler() {}
+
+    /**
+     * 编译事件处理器。
+     *
+     * @param target 监听器对象
+     * @param method 事件处理器方法，必须是 public、返回 void 且只有一个参数的实例方法
+     * @return 绑定了 target 的 Consumer
+     * @throws Throwable 无法生成调用点时抛出，例如监听器类不允许访问
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Consumer<IEvent> compile(Object target, Method method) throws Throwable {
+        var declaringClass = method.getDeclaringClass();
+        // 在监听器所在的类中定义隐藏类，需要对该类有完整的访问权限
+        var lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        var handle = lookup.unreflect(method);
+        var site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(Consumer.class, declaringClass),
+                MethodType.methodType(void.class, Object.class),
+                handle,
+                MethodType.methodType(void.class, method.getParameterTypes()[0]));
+        return (Consumer<IEvent>) site.getTarget().invoke(target);
+    }
+}
@@ -7,12 +7,10 @@ import org.zexnocs.teanekocore.event.interfaces.IEvent;
 import org.zexnocs.teanekocore.logger.ILogger;
 import org.zexnocs.teanekocore.reload.AbstractScanner;
 import org.zexnocs.teanekocore.utils.scanner.inerfaces.IBeanScanner;
-import org.zexnocs.teanekocore.utils.scanner.inerfaces.IClassScanner;
 
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * 扫描事件处理器的类。
@@ -25,27 +23,26 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 @Service("eventHandlerScanner")
 public class EventHandlerScanner extends AbstractScanner {
-    /// 事件类 → 事件处理器列表
+    /// 具体事件类 → 分发表，在第一次分发该类事件时构建；重新扫描时和它绑定的声明的处理器一起整体替换
     @SuppressWarnings("rawtypes")
-    private final Map<Class<? extends IEvent>,
-            List<EventHandlerPatch<? extends IEvent>>> eventHandlerMap = new ConcurrentHashMap<>();
+    private volatile ClassValue<List<EventHandlerPatch<? extends IEvent>>> dispatchTables = _newDispatchTables(Map.of());
+
     private final IBeanScanner iBeanScanner;
     private final ILogger iLogger;
-    private final IClassScanner iClassScanner;
 
-    public EventHandlerScanner(IBeanScanner iBeanScanner, ILogger iLogger, IClassScanner iClassScanner) {
+    public EventHandlerScanner(IBeanScanner iBeanScanner, ILogger iLogger) {
         this.iBeanScanner = iBeanScanner;
         this.iLogger = iLogger;
-        this.iClassScanner = iClassScanner;
     }
 
     /**
      * 扫描事件处理器。
+     * 只按照处理器声明的事件类型登记；父类、接口的处理器在构建分发表时合并。
      */
     @Override
     @SuppressWarnings("rawtypes")
     protected synchronized void _scan() {
-        // 先用 set 存储事件处理器，避免重复添加
+        // 先用 set 存储事件处理器，避免重复添加；保持扫描顺序
         var eventHandlerSetByType = new HashMap<Class<? extends IEvent>, Set<EventHandlerPatch<? extends IEvent>>>();
 
         // 扫描所有的 IListener 接口
@@ -64,40 +61,13 @@ public class EventHandlerScanner extends AbstractScanner {
                 _registerEventHandler(bean, method, methodAnnotation, eventHandlerSetByType);
             }
         }
-        // 处理继承问题，子类获得所有父类的事件处理器
-        // 获取所有继承了 IEvent 的事件类
-        var eventTypes = iClassScanner.getClassesWithInterface(IEvent.class);
-        for (var type : eventTypes) {
-            // 获取所有父类的事件处理器
-            var superclass = type.getSuperclass();
-            while (superclass != null &&
-                    IEvent.class.isAssignableFrom(superclass) &&
-                    !superclass.equals(IEvent.class)) {
-                var parent = superclass.asSubclass(IEvent.class);
-                // 获取父类的事件处理器，并添加到子类的事件处理器列表中
-                var parentHandlers = eventHandlerSetByType.getOrDefault(parent, Collections.emptySet());
-                var set = eventHandlerSetByType.computeIfAbsent(
-                        type.asSubclass(IEvent.class),
-                        k -> new HashSet<>());
-                set.addAll(parentHandlers);
-                // 处理下一个父类
-                superclass = superclass.getSuperclass();
-            }
-        }
 
-        // 转化成 eventHandlerMap
-        eventHandlerMap.clear();
+        // 转化成不可变的声明的事件类 → 事件处理器列表，只包含参数类型正好是该类的处理器，并丢弃旧的分发表
+        var map = new HashMap<Class<? extends IEvent>, List<EventHandlerPatch<? extends IEvent>>>();
         for (var entry : eventHandlerSetByType.entrySet()) {
-            var eventType = entry.getKey();
-            var handlerSet = entry.getValue();
-            var handlerList = new CopyOnWriteArrayList<>(handlerSet);
-            eventHandlerMap.put(eventType, handlerList);
-        }
-
-        // 排序事件处理器
-        for (var list : eventHandlerMap.values()) {
-            list.sort(EventHandlerPatch::compareTo);
+            map.put(entry.getKey(), List.copyOf(entry.getValue()));
         }
+        dispatchTables = _newDispatchTables(Map.copyOf(map));
     }
 
     /**
@@ -106,7 +76,7 @@ public class EventHandlerScanner extends AbstractScanner {
      */
     @Override
     protected void _clear() {
-        eventHandlerMap.clear();
+        dispatchTables = _newDispatchTables(Map.of());
     }
 
     /**
@@ -158,15 +128,24 @@ public class EventHandlerScanner extends AbstractScanner {
         }
         // 转化成 Class<? extends IEvent>
         var eventClass = parameterType.asSubclass(IEvent.class);
+        // 编译成直接调用，失败时使用反射调用
+        Consumer<IEvent> compiled = null;
+        try {
+            compiled = EventHandlerCompiler.compile(listener, method);
+        } catch (Throwable e) {
+            iLogger.debug(TAG, "类 " + clazz.getName() + " 的事件处理器 " + method.getName() +
+                    " 无法编译成直接调用，将使用反射调用", e);
+        }
         // 构造EventHandlerPatch
         var eventHandlerPatch = new EventHandlerPatch<>(
                 listener,
                 method,
                 eventClass,
-                annotation
+                annotation,
+                compiled
         );
         // 储存
-        eventHandlerMap.computeIfAbsent(eventClass, k -> new HashSet<>())
+        eventHandlerMap.computeIfAbsent(eventClass, k -> new LinkedHashSet<>())
                 .add(eventHandlerPatch);
     }
 
@@ -190,12 +169,50 @@ public class EventHandlerScanner extends AbstractScanner {
         @Getter
         private final EventHandler annotation;
 
+        /// 编译后的直接调用；为 null 表示无法编译，使用反射调用
+        private final Consumer<IEvent> compiled;
+
+        /// 缓存的注解属性，避免每次分发都经过注解代理
+        @Getter
+        private final boolean async;
+        @Getter
+        private final boolean ignoreCancelled;
+        private final int priority;
+
+        /// 异步处理时的任务阶段链命名空间；为 null 表示使用默认命名空间
+        @Getter
+        private final String taskChainNamespace;
+
+        /// 用于日志和任务名称的描述
+        @Getter
+        private final String displayName;
+
         /// 禁止私自实例化
-        private EventHandlerPatch(Object target, Method method, Class<T> eventType, EventHandler annotation) {
+        private EventHandlerPatch(Object target,
+                                  Method method,
+                                  Class<T> eventType,
+                                  EventHandler annotation,
+                                  Consumer<IEvent> compiled) {
             this.target = target;
             this.method = method;
             this.eventType = eventType;
             this.annotation = annotation;
+            this.compiled = compiled;
+            this.async = annotation.async();
+            this.ignoreCancelled = annotation.ignoreCancelled();
+            this.priority = annotation.priority();
+            this.taskChainNamespace = annotation.taskChainNamespace().isEmpty()
+                    ? null
+                    : annotation.taskChainNamespace();
+            this.displayName = "监听器{%s}_{%s}".formatted(target.getClass().getName(), method.getName());
+        }
+
+        /**
+         * 是否已经编译成直接调用。
+         * @return true 表示使用直接调用；false 表示使用反射调用
+         */
+        public boolean isCompiled() {
+            return compiled != null;
         }
 
         /**
@@ -204,6 +221,11 @@ public class EventHandlerScanner extends AbstractScanner {
          * @throws Exception 异常
          */
         public void invoke(IEvent<?> event) throws Exception {
+            if (compiled != null) {
+                // 类型不匹配时由生成的调用点抛出 ClassCastException
+                compiled.accept(event);
+                return;
+            }
             if (!eventType.isInstance(event)) {
                 throw new IllegalArgumentException("事件" + event.getClass().getName() +
                         "不是事件处理器" + method.getDeclaringClass().getName() + "的事件类型。" +
@@ -219,12 +241,15 @@ public class EventHandlerScanner extends AbstractScanner {
          */
         @Override
         public int compareTo(EventHandlerPatch<?> other) {
-            return Integer.compare(other.annotation.priority(), this.annotation.priority());
+            return Integer.compare(other.priority, this.priority);
         }
     }
 
     /**
-     * 获取事件处理器列表
+     * 获取事件处理器列表。
+     * 包括处理器参数类型为该事件类、其父类或其实现的接口的所有处理器，已经按照优先级降序排列。
+     * 对同一个事件类总是返回同一个不可变列表，不需要每次复制或包装。
+     *
      * @param eventClass 事件类
      * @return 事件处理器列表
      */
@@ -232,8 +257,60 @@ public class EventHandlerScanner extends AbstractScanner {
     @SuppressWarnings("rawtypes")
     public List<EventHandlerPatch<? extends IEvent>> getEventHandlerList(Class<? extends IEvent> eventClass) {
         if (eventClass == null) {
-            return Collections.emptyList();
+            return List.of();
+        }
+        return dispatchTables.get(eventClass);
+    }
+
+    /**
+     * 创建新的分发表缓存，绑定传入的声明的处理器。
+     * 分发表只从绑定的 map 构建，所以和重新扫描并发时也不会把新的处理器放进旧的分发表。
+     *
+     * @param declared 声明的事件类 → 事件处理器列表
+     */
+    @SuppressWarnings("rawtypes")
+    private static ClassValue<List<EventHandlerPatch<? extends IEvent>>> _newDispatchTables(
+            Map<Class<? extends IEvent>, List<EventHandlerPatch<? extends IEvent>>> declared) {
+        return new ClassValue<>() {
+            @Override
+            protected List<EventHandlerPatch<? extends IEvent>> computeValue(@NonNull Class<?> type) {
+                return _buildDispatchTable(declared, type);
+            }
+        };
+    }
+
+    /**
+     * 构建一个具体事件类的分发表：合并所有可以接收该类事件的处理器，按照优先级降序排列。
+     * 优先级相同时，声明类型越通用的处理器越先执行（父类事件的处理器先于子类事件的处理器）。
+     *
+     * @param declared 声明的事件类 → 事件处理器列表
+     * @param type 具体事件类
+     * @return 不可变的事件处理器列表
+     */
+    @SuppressWarnings("rawtypes")
+    private static List<EventHandlerPatch<? extends IEvent>> _buildDispatchTable(
+            Map<Class<? extends IEvent>, List<EventHandlerPatch<? extends IEvent>>> declared,
+            Class<?> type) {
+        var handlers = new ArrayList<EventHandlerPatch<? extends IEvent>>();
+        for (var entry : declared.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                handlers.addAll(entry.getValue());
+            }
+        }
+        if (handlers.isEmpty()) {
+            return List.of();
+        }
+        handlers.sort(Comparator.<EventHandlerPatch<? extends IEvent>>naturalOrder()
+                .thenComparingInt(patch -> _depth(patch.eventType)));
+        return List.copyOf(handlers);
+    }
+
+    /// 类在继承链中的深度，接口为 0
+    private static int _depth(Class<?> type) {
+        int depth = 0;
+        for (var superclass = type.getSuperclass(); superclass != null; superclass = superclass.getSuperclass()) {
+            depth++;
         }
-        return Collections.unmodifiableList(eventHandlerMap.getOrDefault(eventClass, List.of()));
+        return depth;
     }
 }
@@ -25,4 +25,17 @@ public interface IEventService {
      * @return TaskFuture 对象，可以通过该对象获取事件异常或者等待事件处理完成。务必在事件处理完使用 .finish() 方法报告未处理的异常。
      */
     TaskFuture<ITaskResult<Void>> pushEventWithFuture(@NonNull IEvent<?> event);
+
+    /**
+     * 尝试在当前线程中直接处理事件，不注册新的任务。
+     * 当前事件没有监听器或者监听器都是同步监听器时才直接处理，
+     * 有异步监听器时不处理并返回 false，由调用者使用 {@link #pushEvent} 推送。
+     * 处理中的异常抛出给调用者，由调用者所在的任务报告。
+     *
+     * @param event 事件
+     * @return 是否已经在当前线程中处理
+     */
+    default boolean processInline(@NonNull IEvent<?> event) {
+        return false;
+    }
 }
@@ -85,4 +85,13 @@ public class DefaultLogger implements ILogger {
     public void debug(String namespace, String message, Throwable throwable) {
         logger.debug("{}: {}\n{}", namespace, message, ExceptionUtils.instance.buildExceptionMessage(throwable));
     }
+
+    /**
+     * 是否会记录调试信息。
+     * @return 底层日志记录器是否启用了 debug 级别
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
 }
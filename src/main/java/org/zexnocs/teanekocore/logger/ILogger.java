@@ -112,4 +112,13 @@ public interface ILogger {
      * @param throwable 异常
      */
     void debug(String namespace, String message, Throwable throwable);
+
+    /**
+     * 是否会记录调试信息。
+     * 调试信息需要拼接字符串时，在热路径上先判断该方法，避免构造不会被记录的信息。
+     * @return 是否会记录调试信息
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
 }
@@ -20,7 +20,8 @@ import java.util.regex.Pattern;
 @Command(value = {"/say"},
         scope = CommandScope.ALL,
         permission = CommandPermission.ALL,
-        permissionPackage = "chore.all.say")
+        permissionPackage = "chore.all.say",
+        fast = true)
 public class SayCommand {
     @Description("规格：/say <message>")
     @DefaultCommand
@@ -0,0 +1,98 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分片信息拼接器测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotFrameAssemblerTest {
+    /// 取出拼接好的信息并解码为字符串
+    private static String _takeString(OnebotFrameAssembler assembler) {
+        var frame = assembler.take();
+        assertNotNull(frame);
+        return new String(frame.buffer(), 0, frame.length(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 文本分片在代理对中间截断时，高代理字符应该留到下一个分片一起编码。
+     */
+    @Test
+    public void testSplitSurrogateIsCarried() {
+        var assembler = new OnebotFrameAssembler(new OnebotBufferPool(16, 4), 1024);
+        var emoji = "\uD83D\uDE00";
+        assertTrue(assembler.append("a" + emoji.charAt(0), false));
+        assertTrue(assembler.append(emoji.charAt(1) + "b", true));
+        var text = _takeString(assembler);
+        assertEquals("a" + emoji + "b", text);
+        assertTrue(assembler.isEmpty());
+    }
+
+    /**
+     * 超过池中缓冲区大小时应该扩容，内容保持完整。
+     */
+    @Test
+    public void testGrowsBeyondPoolBuffer() {
+        var assembler = new OnebotFrameAssembler(new OnebotBufferPool(4, 4), 1024);
+        assertTrue(assembler.append("abcdef", false));
+        assertTrue(assembler.append(ByteBuffer.wrap("ghij".getBytes(StandardCharsets.UTF_8))));
+        assertTrue(assembler.append("klmn", true));
+        assertEquals("abcdefghijklmn", _takeString(assembler));
+    }
+
+    /**
+     * 文本分片超过最大长度时应该丢弃已经拼接的内容，之后可以重新开始拼接。
+     */
+    @Test
+    public void testTextOverflowDiscards() {
+        var assembler = new OnebotFrameAssembler(new OnebotBufferPool(4, 4), 8);
+        assertTrue(assembler.append("12345", false));
+        assertFalse(assembler.append("6789", true));
+        assertTrue(assembler.isEmpty());
+        assertNull(assembler.take());
+
+        assertTrue(assembler.append("ok", true));
+        assertEquals("ok", _takeString(assembler));
+    }
+
+    /**
+     * 多字节字符写不下时也应该判定为超过最大长度。
+     */
+    @Test
+    public void testMultiByteOverflowDiscards() {
+        var assembler = new OnebotFrameAssembler(new OnebotBufferPool(4, 4), 8);
+        // 每个汉字 3 个字节，3 个汉字 9 个字节
+        assertFalse(assembler.append("一二三", true));
+        assertTrue(assembler.isEmpty());
+    }
+
+    /**
+     * 二进制分片超过最大长度时应该丢弃已经拼接的内容。
+     */
+    @Test
+    public void testBinaryOverflowDiscards() {
+        var assembler = new OnebotFrameAssembler(new OnebotBufferPool(4, 4), 8);
+        assertTrue(assembler.append(ByteBuffer.wrap(new byte[6])));
+        assertFalse(assembler.append(ByteBuffer.wrap(new byte[3])));
+        assertTrue(assembler.isEmpty());
+    }
+
+    /**
+     * reset 后应该丢弃被截断的代理字符。
+     */
+    @Test
+    public void testResetDropsPendingChars() {
+        var assembler = new OnebotFrameAssembler(new OnebotBufferPool(16, 4), 1024);
+        assertTrue(assembler.append("a\uD83D", false));
+        assembler.reset();
+        assertTrue(assembler.append("b", true));
+        assertEquals("b", _takeString(assembler));
+    }
+}
@@ -0,0 +1,197 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import org.junit.jupiter.api.Test;
+import org.zexnocs.teanekoclient.onebot.event.OnebotFrame;
+import org.zexnocs.teanekocore.actuator.task.lane.KeyedSerialExecutor;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * onebot 接收队列测试：信息分类、队列已满时的各个策略、有序处理的超时和名额。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotIngestQueueTest {
+    /**
+     * 测试分类：
+     * 1. 同时有 echo 和 status 字段的是 API 响应，字段顺序不影响。
+     * 2. post_type 在 256 个字符之后的长消息仍然是一般事件，不会被当成 API 响应跳过队列。
+     * 3. 消息内容中出现 "echo" 和 "status" 不会被当成字段。
+     * 4. 心跳是低优先级并且可以合并。
+     */
+    @Test
+    public void testClassify() {
+        _assertClassified(OnebotIngestQueue.Priority.HIGH, false,
+                "{\"data\":{\"message_id\":1},\"echo\":\"abc\",\"retcode\":0,\"status\":\"ok\"}");
+        _assertClassified(OnebotIngestQueue.Priority.HIGH, false,
+                "{\"status\" : \"failed\", \"retcode\": 100, \"echo\": \"abc\"}");
+
+        var longMessage = "{\"message\":[{\"type\":\"text\",\"data\":{\"text\":\"" + "喵".repeat(300) + "\"}}],"
+                + "\"message_type\":\"group\",\"post_type\":\"message\",\"group_id\":1,\"user_id\":2}";
+        _assertClassified(OnebotIngestQueue.Priority.NORMAL, false, longMessage);
+
+        _assertClassified(OnebotIngestQueue.Priority.NORMAL, false,
+                "{\"raw_message\":\"echo\",\"message\":\"status\",\"post_type\":\"message\",\"user_id\":2}");
+        _assertClassified(OnebotIngestQueue.Priority.NORMAL, false, "{\"unknown\":true}");
+
+        _assertClassified(OnebotIngestQueue.Priority.LOW, true,
+                "{\"time\":1,\"self_id\":1,\"post_type\":\"meta_event\",\"meta_event_type\":\"heartbeat\"}");
+        _assertClassified(OnebotIngestQueue.Priority.LOW, false,
+                "{\"post_type\":\"meta_event\",\"meta_event_type\":\"lifecycle\"}");
+    }
+
+    /**
+     * BLOCK 策略：队列已满时阻塞，直到有信息被取出。
+     */
+    @Test
+    public void testBlock() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var queue = _queue(pool, 2, OnebotIngestPolicy.BLOCK);
+            assertNull(queue.offer(_item(OnebotIngestQueue.Priority.NORMAL, false)).dropped());
+            assertNull(queue.offer(_item(OnebotIngestQueue.Priority.NORMAL, false)).dropped());
+            var blocked = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return queue.offer(_item(OnebotIngestQueue.Priority.LOW, false));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }, pool);
+            Thread.sleep(100);
+            assertFalse(blocked.isDone());
+            assertEquals(0, queue.take().sequence());
+            var result = blocked.get(5, TimeUnit.SECONDS);
+            assertTrue(result.accepted());
+            assertNull(result.dropped());
+            assertEquals(2, queue.getDepth());
+        }
+    }
+
+    /**
+     * DROP_LOW_PRIORITY 策略：先挤出优先级最低的信息；队列中的信息优先级都更高时丢弃新信息。
+     */
+    @Test
+    public void testDropLowPriority() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var queue = _queue(pool, 2, OnebotIngestPolicy.DROP_LOW_PRIORITY);
+            var low = _item(OnebotIngestQueue.Priority.LOW, false);
+            queue.offer(low);
+            queue.offer(_item(OnebotIngestQueue.Priority.NORMAL, false));
+
+            var result = queue.offer(_item(OnebotIngestQueue.Priority.NORMAL, false));
+            assertTrue(result.accepted());
+            assertSame(low, result.dropped());
+
+            var rejected = _item(OnebotIngestQueue.Priority.LOW, false);
+            result = queue.offer(rejected);
+            assertFalse(result.accepted());
+            assertSame(rejected, result.dropped());
+            assertEquals(2, queue.getDepth());
+        }
+    }
+
+    /**
+     * COALESCE 策略：新的心跳替换还没有处理的旧心跳，其他信息不受影响。
+     */
+    @Test
+    public void testCoalesce() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var queue = _queue(pool, 4, OnebotIngestPolicy.COALESCE);
+            var first = _item(OnebotIngestQueue.Priority.LOW, true);
+            queue.offer(first);
+            queue.offer(_item(OnebotIngestQueue.Priority.NORMAL, false));
+            var second = _item(OnebotIngestQueue.Priority.LOW, true);
+            var result = queue.offer(second);
+            assertTrue(result.accepted());
+            assertTrue(result.coalesced());
+            assertSame(first, result.dropped());
+            assertEquals(2, queue.getDepth());
+            // 取出时高优先级在前
+            assertEquals(OnebotIngestQueue.Priority.NORMAL, queue.take().item().priority());
+            assertSame(second, queue.take().item());
+        }
+    }
+
+    /**
+     * 有序处理超时：同一个 scope 的下一条信息在超时后才开始，
+     * 并且开始时超时的信息已经被取消，它还没有开始的后续处理不会在下一条信息之后执行。
+     */
+    @Test
+    public void testTimeoutReleasesScope() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var mapper = new ObjectMapper();
+            var slow = OnebotFrame.parse("{\"post_type\":\"message\",\"group_id\":1,\"message_id\":1}", mapper);
+            var next = OnebotFrame.parse("{\"post_type\":\"message\",\"group_id\":1,\"message_id\":2}", mapper);
+            var cancelledBeforeNext = new CompletableFuture<Boolean>();
+            Function<OnebotFrame, CompletableFuture<?>> processor = frame -> {
+                if (frame == slow) {
+                    // 一直不完成的处理
+                    return new CompletableFuture<>();
+                }
+                cancelledBeforeNext.complete(slow.isCancelled());
+                return CompletableFuture.completedFuture(null);
+            };
+            var queue = new OnebotIngestQueue("session", 4, OnebotIngestPolicy.BLOCK,
+                    new KeyedSerialExecutor(pool), processor);
+
+            var first = queue.admit(0, 1L, () -> OnebotIngestService.process(processor, slow, 200));
+            var second = queue.admit(1, 1L, () -> OnebotIngestService.process(processor, next, 200));
+            Thread.sleep(50);
+            assertFalse(second.isDone());
+
+            var error = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, error.getCause());
+            second.get(5, TimeUnit.SECONDS);
+            assertTrue(cancelledBeforeNext.get(5, TimeUnit.SECONDS));
+            assertFalse(next.isCancelled());
+        }
+    }
+
+    /**
+     * 提前解析完的有序信息在轮到登记之前不占用名额：
+     * 只有一个名额时，编号 1 的信息先到达并等待，编号 0 的信息仍然能登记，两条信息都能处理完成。
+     */
+    @Test
+    public void testWaitingAdmissionHoldsNoPermit() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var queue = new OnebotIngestQueue("session", 1, OnebotIngestPolicy.BLOCK,
+                    new KeyedSerialExecutor(pool), frame -> CompletableFuture.completedFuture(null));
+            var later = CompletableFuture.supplyAsync(
+                    () -> queue.admit(1, 2L, () -> CompletableFuture.completedFuture(null)), pool);
+            Thread.sleep(50);
+            assertFalse(later.isDone());
+
+            var first = queue.admit(0, 1L, () -> CompletableFuture.completedFuture(null));
+            first.get(5, TimeUnit.SECONDS);
+            later.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void _assertClassified(OnebotIngestQueue.Priority priority, boolean heartbeat, String payload) {
+        var expected = new OnebotIngestClassifier.Classification(priority, heartbeat);
+        assertEquals(expected, OnebotIngestClassifier.classify(payload), payload);
+        var bytes = payload.getBytes(StandardCharsets.UTF_8);
+        var buffer = new byte[bytes.length + 16];
+        System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+        assertEquals(expected, OnebotIngestClassifier.classify(buffer, bytes.length), payload);
+    }
+
+    private static OnebotIngestQueue _queue(ExecutorService pool, int capacity, OnebotIngestPolicy policy) {
+        return new OnebotIngestQueue("session", capacity, policy, new KeyedSerialExecutor(pool),
+                frame -> CompletableFuture.completedFuture(null));
+    }
+
+    private static OnebotIngestQueue.Item _item(OnebotIngestQueue.Priority priority, boolean heartbeat) {
+        return new OnebotIngestQueue.Item(priority, heartbeat, System.nanoTime(), () -> null, () -> {});
+    }
+}
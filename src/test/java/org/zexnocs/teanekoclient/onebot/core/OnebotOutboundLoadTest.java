@@ -0,0 +1,162 @@
+package org.zexnocs.teanekoclient.onebot.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.zexnocs.teanekocore.actuator.task.TaskDelayScheduler;
+import org.zexnocs.teanekocore.logger.DefaultLogger;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * onebot 发送队列的负载测试，使用假的 session 记录写出的消息。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotOutboundLoadTest {
+    private static final int SESSIONS = 4;
+    private static final int TARGETS = 50;
+    private static final int MESSAGES = 10_000;
+
+    /**
+     * 多个线程向多个 session 发送 1 万条消息，每个 session 都应该按每个目标的提交顺序收到所有消息，
+     * 并且同一个 session 不会被并发写入。
+     */
+    @Test
+    public void testSendTenThousandMessages() throws Exception {
+        var pool = Executors.newVirtualThreadPerTaskExecutor();
+        var scheduler = new TaskDelayScheduler(pool, new DefaultLogger(), 5, 512);
+        try {
+            var service = new OnebotOutboundService(pool, scheduler, new DefaultLogger(), 0, 5);
+            // 写入失败的回调在发送线程中执行，记录下来在测试线程中断言
+            var failures = new ConcurrentLinkedQueue<String>();
+            var sessions = new ArrayList<FakeSession>();
+            for (int i = 0; i < SESSIONS; i++) {
+                var session = new FakeSession("session-" + i, MESSAGES);
+                sessions.add(session);
+                service.open(session.proxy, s -> failures.add(s.getId()));
+            }
+
+            // 每个目标由一个线程按顺序提交，不同目标并发提交
+            var start = new CountDownLatch(1);
+            var producers = new ArrayList<Future<?>>();
+            for (int t = 0; t < TARGETS; t++) {
+                var target = "group:" + t;
+                producers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < MESSAGES / TARGETS; i++) {
+                        assertEquals(SESSIONS, service.send(target + "#" + i, target));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var producer : producers) {
+                producer.get(10, TimeUnit.SECONDS);
+            }
+
+            for (var session : sessions) {
+                assertTrue(session.done.await(10, TimeUnit.SECONDS), session.id + " 没有收到所有消息");
+                assertEquals(1, session.maxConcurrent.get(), "同一个 session 被并发写入");
+                // 同一个目标的消息保持提交顺序
+                Map<String, Integer> next = new HashMap<>();
+                for (var payload : session.received) {
+                    var split = payload.indexOf('#');
+                    var target = payload.substring(0, split);
+                    var index = Integer.parseInt(payload.substring(split + 1));
+                    assertEquals(next.getOrDefault(target, 0), index, "目标 " + target + " 的消息乱序");
+                    next.put(target, index + 1);
+                }
+                assertEquals(TARGETS, next.size());
+            }
+            assertEquals(0, service.getDepth());
+            assertTrue(failures.isEmpty(), "不应该写入失败: " + failures);
+        } finally {
+            scheduler.shutdown();
+            pool.close();
+        }
+    }
+
+    /**
+     * 开启限流后，超过突发数量的消息延后发送，但最终都会发送出去。
+     */
+    @Test
+    public void testRateLimitedTargetIsDelayed() throws Exception {
+        var pool = Executors.newVirtualThreadPerTaskExecutor();
+        var scheduler = new TaskDelayScheduler(pool, new DefaultLogger(), 5, 512);
+        try {
+            var service = new OnebotOutboundService(pool, scheduler, new DefaultLogger(), 20, 2);
+            var failures = new ConcurrentLinkedQueue<String>();
+            var session = new FakeSession("session", 6);
+            service.open(session.proxy, s -> failures.add(s.getId()));
+
+            var startAt = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                service.send("group:1#" + i, "group:1");
+            }
+            // 不限流的消息不受影响
+            service.send("api#0", null);
+
+            assertTrue(session.done.await(5, TimeUnit.SECONDS));
+            // 突发 2 条之后每 50ms 一条，剩余 3 条至少需要约 150ms
+            assertTrue(System.nanoTime() - startAt >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(session.received.indexOf("api#0") < session.received.indexOf("group:1#2"));
+            for (int i = 1; i < 5; i++) {
+                assertTrue(session.received.indexOf("group:1#" + (i - 1)) < session.received.indexOf("group:1#" + i));
+            }
+            assertTrue(failures.isEmpty(), "不应该写入失败: " + failures);
+        } finally {
+            scheduler.shutdown();
+            pool.close();
+        }
+    }
+
+    /**
+     * 只实现发送需要的方法的假 session。
+     */
+    private static final class FakeSession {
+        private final String id;
+        private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done;
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final WebSocketSession proxy;
+
+        private FakeSession(String id, int expected) {
+            this.id = id;
+            this.done = new CountDownLatch(expected);
+            this.proxy = (WebSocketSession) Proxy.newProxyInstance(
+                    WebSocketSession.class.getClassLoader(),
+                    new Class<?>[]{WebSocketSession.class},
+                    (self, method, args) -> switch (method.getName()) {
+                        case "getId" -> id;
+                        case "isOpen" -> true;
+                        case "sendMessage" -> {
+                            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                            received.add(((TextMessage) args[0]).getPayload());
+                            concurrent.decrementAndGet();
+                            done.countDown();
+                            yield null;
+                        }
+                        case "hashCode" -> System.identityHashCode(self);
+                        case "equals" -> self == args[0];
+                        case "toString" -> id;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
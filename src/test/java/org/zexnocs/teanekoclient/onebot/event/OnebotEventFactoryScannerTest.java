@@ -0,0 +1,133 @@
+package org.zexnocs.teanekoclient.onebot.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.zexnocs.teanekoclient.onebot.event.notice.NoticeReceiveEvent;
+import org.zexnocs.teanekocore.event.AbstractEvent;
+import org.zexnocs.teanekocore.event.core.Event;
+import org.zexnocs.teanekocore.event.core.EventHandlerScanner;
+import org.zexnocs.teanekocore.event.interfaces.IEvent;
+import org.zexnocs.teanekocore.logger.ILogger;
+import org.zexnocs.teanekocore.utils.scanner.inerfaces.IClassScanner;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * onebot 事件构造表的路由测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class OnebotEventFactoryScannerTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private EventHandlerScanner eventHandlerScanner;
+
+    private OnebotEventFactoryScanner scanner;
+
+    @BeforeEach
+    @SuppressWarnings("rawtypes")
+    public void setup() {
+        var classes = new HashMap<Class<? extends IEvent>, Event>();
+        for (var clazz : List.of(TestMessageEvent.class, TestNoticeEvent.class,
+                TestGroupIncreaseEvent.class, TestNoConstructorEvent.class)) {
+            classes.put(clazz, clazz.getAnnotation(Event.class));
+        }
+        var classScanner = Mockito.mock(IClassScanner.class);
+        Mockito.doReturn(classes).when(classScanner).getClassesWithAnnotationAndInterface(Event.class, IEvent.class);
+        eventHandlerScanner = Mockito.mock(EventHandlerScanner.class);
+        Mockito.doReturn(List.of()).when(eventHandlerScanner).getEventHandlerList(Mockito.any());
+        scanner = new OnebotEventFactoryScanner(classScanner, eventHandlerScanner, Mockito.mock(ILogger.class));
+        scanner.init();
+    }
+
+    /**
+     * 没有下级类型的 post_type 应该直接构造对应的事件。
+     */
+    @Test
+    public void testRoutePost() {
+        var frame = OnebotFrame.parse("{\"post_type\":\"message\"}", mapper);
+        var event = scanner.routePost(frame, null);
+        assertInstanceOf(TestMessageEvent.class, event);
+        assertSame(frame, event.getData());
+    }
+
+    /**
+     * 中间事件没有监听器时，应该跳过中间事件直接构造下级事件。
+     */
+    @Test
+    public void testSkipIntermediateWithoutListener() {
+        var frame = OnebotFrame.parse("{\"post_type\":\"notice\",\"notice_type\":\"group_increase\"}", mapper);
+        assertInstanceOf(TestGroupIncreaseEvent.class, scanner.routePost(frame, null));
+    }
+
+    /**
+     * 中间事件有监听器时，应该先构造中间事件，之后再由中间事件路由到下级事件。
+     */
+    @Test
+    public void testKeepIntermediateWithListener() {
+        Mockito.doReturn(List.of(Mockito.mock(EventHandlerScanner.EventHandlerPatch.class)))
+                .when(eventHandlerScanner).getEventHandlerList(TestNoticeEvent.class);
+        var frame = OnebotFrame.parse("{\"post_type\":\"notice\",\"notice_type\":\"group_increase\"}", mapper);
+        assertInstanceOf(TestNoticeEvent.class, scanner.routePost(frame, null));
+        assertInstanceOf(TestGroupIncreaseEvent.class, scanner.routeDetail("notice", frame, null));
+    }
+
+    /**
+     * 未知的类型、缺少字段或者没有合适构造器的事件都应该返回 null。
+     */
+    @Test
+    public void testUnknownRoutes() {
+        assertNull(scanner.routePost(OnebotFrame.parse("{\"post_type\":\"unknown\"}", mapper), null));
+        assertNull(scanner.routePost(OnebotFrame.parse("{}", mapper), null));
+        assertNull(scanner.routePost(
+                OnebotFrame.parse("{\"post_type\":\"notice\",\"notice_type\":\"unknown\"}", mapper), null));
+        assertNull(scanner.routePost(OnebotFrame.parse("{\"post_type\":\"notice\"}", mapper), null));
+        assertNull(scanner.routePost(OnebotFrame.parse("{\"post_type\":\"broken\"}", mapper), null));
+        assertNull(scanner.routeDetail("message", OnebotFrame.parse("{\"post_type\":\"message\"}", mapper), null));
+    }
+
+    /**
+     * 重载时应该清空并重新建立路由表。
+     */
+    @Test
+    public void testReload() {
+        scanner.reload();
+        var frame = OnebotFrame.parse("{\"post_type\":\"message\"}", mapper);
+        assertInstanceOf(TestMessageEvent.class, scanner.routePost(frame, null));
+    }
+
+    // ---------- 测试事件 ----------
+    @Event(PostReceiveEvent.SUFFIX_KEY + "message")
+    public static class TestMessageEvent extends AbstractEvent<OnebotFrame> {
+        public TestMessageEvent(OnebotFrame frame, OnebotEventShareComponent component) {
+            super(frame);
+        }
+    }
+
+    @Event(NoticeReceiveEvent.KEY)
+    public static class TestNoticeEvent extends AbstractEvent<OnebotFrame> {
+        public TestNoticeEvent(OnebotFrame frame, OnebotEventShareComponent component) {
+            super(frame);
+        }
+    }
+
+    @Event(NoticeReceiveEvent.PARSE_SUFFIX_KEY + "group_increase")
+    public static class TestGroupIncreaseEvent extends AbstractEvent<OnebotFrame> {
+        public TestGroupIncreaseEvent(OnebotFrame frame, OnebotEventShareComponent component) {
+            super(frame);
+        }
+    }
+
+    @Event(PostReceiveEvent.SUFFIX_KEY + "broken")
+    public static class TestNoConstructorEvent extends AbstractEvent<OnebotFrame> {
+        public TestNoConstructorEvent() {
+            super(null);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.zexnocs.teanekocore.actuator.task.lane;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 执行通道测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class TaskLaneServiceTest {
+    /// 创建只有一个 test 通道的服务
+    private static TaskLaneService _create(String overflow) {
+        var environment = new MockEnvironment()
+                .withProperty("tea-neko.task.lanes[test].max-concurrency", "2")
+                .withProperty("tea-neko.task.lanes[test].queue-capacity", "100")
+                .withProperty("tea-neko.task.lanes[test].overflow", overflow);
+        return new TaskLaneService(Executors.newVirtualThreadPerTaskExecutor(), environment, -1);
+    }
+
+    /**
+     * 所有名额都被等待子任务的任务占用时，CALLER_RUNS 通道中的嵌套任务应该直接在当前线程执行，而不是排队死锁。
+     */
+    @Test
+    public void testNestedCallerRunsDoesNotDeadlock() throws Exception {
+        var service = _create("CALLER_RUNS");
+        var bothRunning = new CountDownLatch(2);
+        var parents = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < 2; i++) {
+            var parent = new CompletableFuture<Void>();
+            parents.add(parent);
+            service.execute("test", () -> {
+                bothRunning.countDown();
+                try {
+                    // 保证提交子任务时两个名额都被占用
+                    assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+                    var child = new CompletableFuture<Void>();
+                    service.execute("test", () -> child.complete(null), child::completeExceptionally);
+                    child.get(5, TimeUnit.SECONDS);
+                    parent.complete(null);
+                } catch (Throwable e) {
+                    parent.completeExceptionally(e);
+                }
+            }, e -> fail(e));
+        }
+        for (var parent : parents) {
+            parent.get(10, TimeUnit.SECONDS);
+        }
+        var lane = service.getLanes().get("test");
+        assertEquals(2, lane.getBypassedCount());
+        assertEquals(0, lane.getQueued());
+    }
+
+    /**
+     * 其他线程提交的任务在没有空闲名额时应该排队，并在名额释放后执行。
+     */
+    @Test
+    public void testOuterSubmissionsAreQueued() throws Exception {
+        var service = _create("CALLER_RUNS");
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(5);
+        var maxRunning = new AtomicInteger();
+        var running = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            service.execute("test", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            }, e -> fail(e));
+        }
+        assertEquals(3, service.getLanes().get("test").getQueued());
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+        assertEquals(0, service.getLanes().get("test").getBypassedCount());
+    }
+}
@@ -0,0 +1,147 @@
+package org.zexnocs.teanekocore.cache;
+
+import org.junit.jupiter.api.Test;
+import org.zexnocs.teanekocore.cache.eviction.EvictionPolicyType;
+import org.zexnocs.teanekocore.cache.eviction.LruEvictionPolicy;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheContainer;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存容量淘汰测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class CacheEvictionTest {
+    /// 只记录缓存容器的缓存服务
+    private static class RecordingCacheService implements ICacheService {
+        private final List<ICacheContainer> containers = new ArrayList<>();
+
+        @Override
+        public void addCache(ICacheContainer cache) {
+            containers.add(cache);
+        }
+
+        @Override
+        public Map<String, ICacheContainer> getCaches() {
+            return Map.of();
+        }
+
+        @Override
+        public void manualCleanAll() {
+            containers.forEach(ICacheContainer::manualClean);
+        }
+    }
+
+    /**
+     * LRU 应该淘汰最久没有被访问的键。
+     */
+    @Test
+    public void testLruEvictsLeastRecentlyUsed() {
+        var policy = new LruEvictionPolicy<String>(2);
+        policy.onWrite("a", 1);
+        policy.onWrite("b", 1);
+        policy.onAccess("a");
+        policy.onWrite("c", 1);
+        assertEquals("b", policy.selectVictim());
+        policy.onRemove("b");
+        assertNull(policy.selectVictim());
+        assertEquals(2, policy.getWeightedSize());
+    }
+
+    /**
+     * W-TinyLFU 应该在大量一次性访问的情况下保留热点缓存。
+     */
+    @Test
+    public void testTinyLfuKeepsHotKey() {
+        var cacheService = new RecordingCacheService();
+        var cache = ConcurrentMapCacheContainer.of(cacheService,
+                CacheContainerConfig.<String, Integer>builder()
+                        .maximumSize(100)
+                        .evictionPolicy(EvictionPolicyType.W_TINY_LFU)
+                        .build());
+        cache.put("hot", 0);
+        for (int i = 0; i < 10_000; i++) {
+            assertNotNull(cache.get("hot"));
+            cache.put("cold-" + i, i);
+        }
+        assertTrue(cache.size() <= 100);
+        assertEquals(0, cache.get("hot"));
+        assertTrue(cache.getStatistics().getEvictionCount() > 0);
+    }
+
+    /**
+     * 按权重限制容量时，总权重不应超过上限，并且淘汰时会调用 onEvict。
+     */
+    @Test
+    public void testMaximumWeightCallsOnEvict() {
+        var cacheService = new RecordingCacheService();
+        var cache = ConcurrentMapCacheContainer.of(cacheService,
+                CacheContainerConfig.<String, String>builder()
+                        .maximumWeight(10)
+                        .weigher((k, v) -> v.length())
+                        .evictionPolicy(EvictionPolicyType.LRU)
+                        .build());
+        var evicted = new ArrayList<String>();
+        for (int i = 0; i < 5; i++) {
+            cache.put("k" + i, new CacheData<>("abcd", Duration.ofHours(1), (now, value) -> {
+                evicted.add(value);
+                return true;
+            }));
+        }
+        // 每个缓存权重为 4，上限 10，最多保留 2 个
+        assertEquals(2, cache.size());
+        assertEquals(3, evicted.size());
+        assertNull(cache.get("k0"));
+        assertNotNull(cache.get("k4"));
+    }
+
+    /**
+     * onEvict 应该在释放淘汰锁之后调用，回调中其他线程写入同一个缓存容器不会死锁。
+     */
+    @Test
+    public void testOnEvictRunsOutsideLock() {
+        var cacheService = new RecordingCacheService();
+        var cache = ConcurrentMapCacheContainer.of(cacheService,
+                CacheContainerConfig.<String, String>builder()
+                        .maximumSize(1)
+                        .evictionPolicy(EvictionPolicyType.LRU)
+                        .build());
+        cache.put("a", new CacheData<>("a", Duration.ofHours(1), (now, value) -> {
+            // 如果仍然持有锁，其他线程的删除会一直等待直到超时
+            CompletableFuture.runAsync(() -> cache.remove("b"))
+                    .orTimeout(1, TimeUnit.SECONDS)
+                    .join();
+            return true;
+        }));
+        cache.put("b", "b");
+        assertEquals(0, cache.size());
+        // 淘汰策略中不应该残留已经删除的键
+        cache.put("c", "c");
+        assertEquals("c", cache.get("c"));
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * 同时设置数量上限和权重上限时应该报错。
+     */
+    @Test
+    public void testInvalidConfig() {
+        var cacheService = new RecordingCacheService();
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentMapCacheContainer.of(cacheService,
+                CacheContainerConfig.<String, String>builder()
+                        .maximumSize(1)
+                        .maximumWeight(1)
+                        .weigher((k, v) -> 1)
+                        .build()));
+    }
+}
@@ -0,0 +1,140 @@
+package org.zexnocs.teanekocore.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.zexnocs.teanekocore.cache.interfaces.ICacheService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 指令权限和作用域判定索引测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class CommandAccessIndexTest {
+    /// 模拟的存储; namespace|target|key → value
+    private final Map<String, Boolean> storage = new ConcurrentHashMap<>();
+
+    /// 读取存储的记录
+    private final List<String> loads = new ArrayList<>();
+
+    /// 写入存储的记录
+    private final List<String> writes = new ArrayList<>();
+
+    /// 写入返回的 future，完成时视为写入已经提交
+    private CompletableFuture<Void> commit = CompletableFuture.completedFuture(null);
+
+    private CommandAccessIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = _create(100);
+    }
+
+    private CommandAccessIndex _create(long maximumSize) {
+        return new CommandAccessIndex(Mockito.mock(ICacheService.class), maximumSize,
+                (namespace, target, key) -> {
+                    var storageKey = namespace + "|" + target + "|" + key;
+                    loads.add(storageKey);
+                    return storage.getOrDefault(storageKey, false);
+                },
+                (namespace, target, key, value, taskName) -> {
+                    var storageKey = namespace + "|" + target + "|" + key;
+                    writes.add(storageKey);
+                    storage.put(storageKey, value);
+                    return commit;
+                });
+    }
+
+    /**
+     * 判定结果应该只在第一次读取时从存储中加载，权限的 target 为 scopeId@permissionId。
+     */
+    @Test
+    public void testPermissionLoadsOnce() {
+        storage.put("command.permission.allow|group@admin|user", true);
+        assertTrue(index.getPermission("command.permission.allow", "group", "admin", "user"));
+        assertTrue(index.getPermission("command.permission.allow", "group", "admin", "user"));
+        assertFalse(index.getPermission("command.permission.allow", "group", "admin", "other"));
+        assertEquals(List.of("command.permission.allow|group@admin|user",
+                "command.permission.allow|group@admin|other"), loads);
+        assertEquals(2, index.size());
+    }
+
+    /**
+     * 写入时应该写入存储并直接更新判定结果，不需要重新加载。
+     */
+    @Test
+    public void testSetUpdatesDecision() {
+        assertFalse(index.getScope("command.scope.deny", "dice", "group"));
+        index.setScope("command.scope.deny", "dice", "group", true, "task");
+        assertTrue(index.getScope("command.scope.deny", "dice", "group"));
+        assertEquals(List.of("command.scope.deny|dice|group"), loads);
+        assertEquals(List.of("command.scope.deny|dice|group"), writes);
+        assertTrue(storage.get("command.scope.deny|dice|group"));
+
+        index.setPermission("command.permission.allow", "group", "admin", "user", true, "task");
+        assertTrue(index.getPermission("command.permission.allow", "group", "admin", "user"));
+        assertEquals(1, loads.size());
+    }
+
+    /**
+     * 权限和作用域的判定结果不应该互相覆盖。
+     */
+    @Test
+    public void testPermissionAndScopeAreSeparated() {
+        // 作用域 target 为 "a@b"，与权限 scopeId = a, permissionId = b 的存储 target 相同，但判定结果是分开缓存的
+        index.setScope("ns", "a@b", "c", true, "task");
+        storage.clear();
+        assertFalse(index.getPermission("ns", "a", "b", "c"));
+        assertTrue(index.getScope("ns", "a@b", "c"));
+    }
+
+    /**
+     * 超过容量上限时应该淘汰判定结果，之后重新从存储中加载。
+     */
+    @Test
+    public void testMaximumSize() {
+        var bounded = _create(10);
+        for (int i = 0; i < 100; i++) {
+            bounded.getScope("ns", "command", "scope-" + i);
+        }
+        assertTrue(bounded.size() <= 10);
+        // 最多缓存 10 个判定结果，其余的都需要重新加载
+        loads.clear();
+        for (int i = 0; i < 100; i++) {
+            bounded.getScope("ns", "command", "scope-" + i);
+        }
+        assertTrue(loads.size() >= 90);
+    }
+
+    /**
+     * 写入提交之前判定结果被淘汰时，应该使用写入的值，不从存储中读取旧值；
+     * 写入失败时应该移除判定结果，之后重新从存储中读取。
+     */
+    @Test
+    public void testPendingWriteSurvivesEviction() {
+        var bounded = _create(1);
+        commit = new CompletableFuture<>();
+        bounded.setScope("ns", "command", "pending", true, "task");
+        // 写入还没有提交，存储中仍然是旧值
+        storage.put("ns|command|pending", false);
+        for (int i = 0; i < 20; i++) {
+            bounded.getScope("ns", "command", "scope-" + i);
+        }
+        loads.clear();
+        assertTrue(bounded.getScope("ns", "command", "pending"));
+        assertTrue(loads.isEmpty());
+
+        commit.completeExceptionally(new IllegalStateException("写入失败"));
+        assertFalse(bounded.getScope("ns", "command", "pending"));
+        assertEquals(List.of("ns|command|pending"), loads);
+    }
+}
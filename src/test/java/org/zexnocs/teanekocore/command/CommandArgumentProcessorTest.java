@@ -93,6 +93,56 @@ public class CommandArgumentProcessorTest {
         Assertions.assertArrayEquals(new Object[]{"arg1", "arg2", "c", 123, 456, true, List.of()}, processed7);
     }
 
+    /**
+     * 测试可变参数和 CommandData 通配符泛型：
+     * 1. 方法最后的可变参数像 List 一样消费剩余参数，并转换成对应元素类型的数组。
+     * 2. 可变参数一个参数都没有匹配时为空数组，有默认值时使用默认值作为唯一元素。
+     * 3. 可变参数遇到无法转换的参数时停止，剩余参数被丢弃。
+     * 4. {@code CommandData<?>} 接受任何数据类型；{@code CommandData<? extends T>} 按照上界校验。
+     */
+    @Test
+    public void testVarArgsAndWildcard() throws CommandDataTypeMismatchException {
+        var args = new String[]{"x", "1", "2", "3"};
+        CommandData<String> data = CommandData.<String>builder()
+                .body("test")
+                .args(args)
+                .scope(CommandScope.GROUP)
+                .permission(CommandPermission.ADMIN)
+                .senderId("test")
+                .scopeId("test")
+                .rawData("rawData")
+                .build();
+
+        // 可变参数消费剩余的全部参数
+        var processed8 = iCommandArgumentProcessor.process(getMethod("method8"), args, data);
+        Assertions.assertNotNull(processed8);
+        Assertions.assertEquals("x", processed8[0]);
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, (int[]) processed8[1]);
+
+        // 与 List 参数的结果一致
+        var processed9 = iCommandArgumentProcessor.process(getMethod("method9"), args, data);
+        Assertions.assertArrayEquals(new Object[]{"x", List.of(1, 2, 3)}, processed9);
+
+        // 没有剩余参数时为空数组，有默认值时使用默认值
+        var processed10 = iCommandArgumentProcessor.process(getMethod("method10"), new String[]{"x"}, data);
+        Assertions.assertArrayEquals(new String[0], (String[]) processed10[1]);
+        var processed11 = iCommandArgumentProcessor.process(getMethod("method11"), new String[]{"x"}, data);
+        Assertions.assertArrayEquals(new int[]{7}, (int[]) processed11[1]);
+
+        // 遇到无法转换的参数时停止
+        var processed12 = iCommandArgumentProcessor.process(getMethod("method12"),
+                new String[]{"1", "2", "x", "3"}, data);
+        Assertions.assertArrayEquals(new int[]{1, 2}, (int[]) processed12[0]);
+
+        // 通配符泛型
+        var processed13 = iCommandArgumentProcessor.process(getMethod("method13"), args, data);
+        Assertions.assertArrayEquals(new Object[]{data, "x"}, processed13);
+        var processed14 = iCommandArgumentProcessor.process(getMethod("method14"), args, data);
+        Assertions.assertArrayEquals(new Object[]{data, "x"}, processed14);
+        Assertions.assertThrows(CommandDataTypeMismatchException.class,
+                () -> iCommandArgumentProcessor.process(getMethod("method15"), args, data));
+    }
+
     private void method1(CommandData<String> data, String a, int b) {}
 
     private void method2(CommandData<String> data, String a, String b, int c) {}
@@ -107,6 +157,22 @@ public class CommandArgumentProcessorTest {
 
     private void method7(String a, String b, @DefaultValue("c") String c, int d, int e, boolean f, List<String> g) {}
 
+    private void method8(String a, int... b) {}
+
+    private void method9(String a, List<Integer> b) {}
+
+    private void method10(String a, String... b) {}
+
+    private void method11(String a, @DefaultValue("7") int... b) {}
+
+    private void method12(int... a) {}
+
+    private void method13(CommandData<?> data, String a) {}
+
+    private void method14(CommandData<? extends CharSequence> data, String a) {}
+
+    private void method15(CommandData<? extends Number> data, String a) {}
+
     /**
      * 获取 method 方法的 Method 对象
      *
@@ -0,0 +1,184 @@
+package org.zexnocs.teanekocore.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.zexnocs.teanekocore.actuator.task.TaskFuture;
+import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskResult;
+import org.zexnocs.teanekocore.command.api.Command;
+import org.zexnocs.teanekocore.command.api.CommandPermission;
+import org.zexnocs.teanekocore.command.api.CommandScope;
+import org.zexnocs.teanekocore.command.api.DefaultCommand;
+import org.zexnocs.teanekocore.command.api.DefaultValue;
+import org.zexnocs.teanekocore.command.interfaces.*;
+import org.zexnocs.teanekocore.event.interfaces.IEvent;
+import org.zexnocs.teanekocore.event.interfaces.IEventService;
+import org.zexnocs.teanekocore.framework.pair.IndependentPair;
+import org.zexnocs.teanekocore.framework.pair.Pair;
+import org.zexnocs.teanekocore.logger.ILogger;
+import org.zexnocs.teanekocore.utils.scanner.inerfaces.IBeanScanner;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 测试指令分发器对指令体的解析。
+ * 主要测试没有 "/" 的别名不会把普通聊天拆分成指令和参数，也不会挡住以这些别名开头的正则指令。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class CommandDispatcherTest {
+    private CommandDispatcher dispatcher;
+
+    /// 执行的指令方法名
+    private final List<String> executed = new ArrayList<>();
+
+    /// 执行的指令参数
+    private final List<Object[]> executedArgs = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        var logger = Mockito.mock(ILogger.class);
+        var beans = new LinkedHashMap<String, Pair<Command, Object>>();
+        for (var bean : new Object[]{new SignIn(), new Dice(), new Meow()}) {
+            beans.put(bean.getClass().getSimpleName(),
+                    IndependentPair.of(bean.getClass().getAnnotation(Command.class), bean));
+        }
+        var beanScanner = Mockito.mock(IBeanScanner.class);
+        Mockito.when(beanScanner.getBeansWithAnnotation(Command.class)).thenReturn(beans);
+        Mockito.when(beanScanner.getBeanClass(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0).getClass());
+        var argumentProcessor = new CommandArgumentProcessor(logger);
+        var scanner = new CommandScanner(logger, beanScanner, argumentProcessor);
+        scanner.init();
+
+        ICommandExecutor executor = (object, method, args, taskNamespace) -> {
+            executed.add(method.getName());
+            executedArgs.add(args);
+        };
+        dispatcher = new CommandDispatcher(logger,
+                Mockito.mock(ICommandPermissionManager.class, invocation -> true),
+                Mockito.mock(ICommandScopeManager.class, invocation -> true),
+                executor,
+                argumentProcessor,
+                scanner,
+                new InlineEventService());
+    }
+
+    /**
+     * 没有 "/" 的别名只有和指令体完全相同时才是指令，"签到了吗" 和 "d哥在吗" 是普通聊天。
+     */
+    @Test
+    public void testSlashLessAliasNotGlued() {
+        _dispatch("签到了吗");
+        _dispatch("d哥在吗");
+        Assertions.assertEquals(List.of(), executed);
+
+        _dispatch("签到");
+        _dispatch("d", "20");
+        Assertions.assertEquals(List.of("signIn", "dice"), executed);
+        Assertions.assertEquals(20, executedArgs.get(1)[1]);
+    }
+
+    /**
+     * 以 "/" 开头的指令名仍然支持指令名和参数之间没有空格的写法。
+     */
+    @Test
+    public void testSlashCommandGlued() {
+        _dispatch("/签到明天");
+        _dispatch("/骰子20");
+        // "/d" 和 "20" 的边界都是 ASCII 字母或数字，不拆分
+        _dispatch("/d20");
+        Assertions.assertEquals(List.of("signIn", "dice"), executed);
+        Assertions.assertEquals(20, executedArgs.get(1)[1]);
+    }
+
+    /**
+     * 以没有 "/" 的别名开头的消息仍然可以匹配正则指令。
+     */
+    @Test
+    public void testRegexStartsWithAlias() {
+        _dispatch("签到呜喵");
+        _dispatch("d呜喵");
+        Assertions.assertEquals(List.of("meow", "meow"), executed);
+    }
+
+    private void _dispatch(String body, String... args) {
+        var data = CommandData.<String>builder()
+                .body(body)
+                .args(args)
+                .scope(CommandScope.GROUP)
+                .permission(CommandPermission.MEMBER)
+                .senderId("sender")
+                .scopeId("scope")
+                .rawData(body)
+                .build();
+        dispatcher.__dispatchForEvent(data,
+                Mockito.mock(ICommandErrorHandler.class),
+                (commandData, mapData, newArgs) -> {});
+    }
+
+    // 使用内部类而不是静态内部类，避免被其他 SpringBootTest 扫描成 bean
+    @Command(value = {"/签到", "签到"}, permission = CommandPermission.ALL)
+    public class SignIn {
+        @DefaultCommand
+        public void signIn(CommandData<String> data) {}
+    }
+
+    @Command(value = {"/骰子", "/d", "d"}, permission = CommandPermission.ALL)
+    public class Dice {
+        @DefaultCommand
+        public void dice(CommandData<String> data, @DefaultValue("-1") int expectedValue) {}
+    }
+
+    @Command(value = ".*呜喵.*", permission = CommandPermission.ALL, mode = Command.CommandMode.REGEX)
+    public class Meow {
+        @DefaultCommand
+        public void meow(CommandData<String> data) {}
+    }
+
+    /**
+     * 没有异步监听器时，dispatch 应该在当前线程中直接处理分发事件和执行事件，不推送事件。
+     */
+    @Test
+    public void testDispatchWithoutAsyncListenerIsInline() {
+        var data = CommandData.<String>builder()
+                .body("/骰子")
+                .args(new String[]{"6"})
+                .scope(CommandScope.GROUP)
+                .permission(CommandPermission.MEMBER)
+                .senderId("sender")
+                .scopeId("scope")
+                .rawData("/骰子 6")
+                .build();
+        dispatcher.dispatch(data,
+                Mockito.mock(ICommandErrorHandler.class),
+                (commandData, mapData, newArgs) -> {});
+        Assertions.assertEquals(List.of("dice"), executed);
+    }
+
+    /**
+     * 模拟没有监听器的事件服务：所有事件都在当前线程中直接处理，推送事件视为错误。
+     */
+    private static final class InlineEventService implements IEventService {
+        @Override
+        public boolean processInline(IEvent<?> event) {
+            event._beforeNotify();
+            event._afterNotify();
+            return true;
+        }
+
+        @Override
+        public void pushEvent(IEvent<?> event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TaskFuture<ITaskResult<Void>> pushEventWithFuture(IEvent<?> event) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
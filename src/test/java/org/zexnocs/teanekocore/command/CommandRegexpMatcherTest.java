@@ -0,0 +1,53 @@
+package org.zexnocs.teanekocore.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 测试正则指令匹配器。匹配结果应该和逐个调用 String.matches 的结果相同。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class CommandRegexpMatcherTest {
+
+    /**
+     * 测试字面量前缀的提取。无法确定的情况应该返回空字符串。
+     */
+    @Test
+    public void testLiteralPrefix() {
+        Assertions.assertEquals("/roll ", CommandRegexpMatcher.literalPrefix("/roll \\d+"));
+        Assertions.assertEquals("签到", CommandRegexpMatcher.literalPrefix("^签到$"));
+        Assertions.assertEquals("a.b", CommandRegexpMatcher.literalPrefix("a\\.b.*"));
+        Assertions.assertEquals("ab", CommandRegexpMatcher.literalPrefix("abc?d"));
+        Assertions.assertEquals("a", CommandRegexpMatcher.literalPrefix("a+b"));
+        Assertions.assertEquals("", CommandRegexpMatcher.literalPrefix("abc|def"));
+        Assertions.assertEquals("", CommandRegexpMatcher.literalPrefix("(?i)abc"));
+        Assertions.assertEquals("", CommandRegexpMatcher.literalPrefix("[ab]c"));
+        Assertions.assertEquals("ab", CommandRegexpMatcher.literalPrefix("ab(c|d)"));
+    }
+
+    /**
+     * 测试匹配：
+     * 1. 需要完整匹配文本。
+     * 2. 多个正则都能匹配时返回先添加的。
+     * 3. 没有字面量前缀的正则也能匹配。
+     */
+    @Test
+    public void testMatch() {
+        var matcher = CommandRegexpMatcher.<String>builder()
+                .add("/roll \\d+", "roll")
+                .add("/r.*", "r")
+                .add("(?i)hello", "hello")
+                .add("早(上好|安)", "morning")
+                .build();
+        Assertions.assertEquals(4, matcher.size());
+        Assertions.assertEquals("roll", matcher.match("/roll 20"));
+        Assertions.assertEquals("r", matcher.match("/roll abc"));
+        Assertions.assertEquals("hello", matcher.match("HeLLo"));
+        Assertions.assertEquals("morning", matcher.match("早安"));
+        Assertions.assertNull(matcher.match("早安喵"));
+        Assertions.assertNull(matcher.match("今天天气不错"));
+        Assertions.assertNull(CommandRegexpMatcher.<String>empty().match("/roll 20"));
+    }
+}
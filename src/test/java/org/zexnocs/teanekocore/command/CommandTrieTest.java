@@ -0,0 +1,51 @@
+package org.zexnocs.teanekocore.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 测试指令前缀树。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class CommandTrieTest {
+
+    /**
+     * 测试查找：
+     * 1. 忽略大小写。
+     * 2. 别名指向同一个数据。
+     * 3. 忽略大小写后重复的 key 不覆盖。
+     */
+    @Test
+    public void testGet() {
+        var builder = CommandTrie.<String>builder();
+        Assertions.assertNull(builder.putIfAbsent("/Hello", "hello"));
+        Assertions.assertNull(builder.putIfAbsent("/hi", "hello"));
+        Assertions.assertEquals("hello", builder.putIfAbsent("/HELLO", "other"));
+        var trie = builder.build();
+        Assertions.assertEquals(2, trie.size());
+        Assertions.assertEquals("hello", trie.get("/hello"));
+        Assertions.assertEquals("hello", trie.get("/HI"));
+        Assertions.assertNull(trie.get("/h"));
+        Assertions.assertNull(trie.get("/hello world"));
+        Assertions.assertNull(CommandTrie.<String>empty().get("/hello"));
+    }
+
+    /**
+     * 测试最长前缀匹配，用于指令名和参数之间没有空格的情况。
+     */
+    @Test
+    public void testLongestPrefix() {
+        var trie = CommandTrie.<String>builder();
+        trie.putIfAbsent("/签", "sign");
+        trie.putIfAbsent("/签到", "signIn");
+        var built = trie.build();
+        var match = built.longestPrefix("/签到明天");
+        Assertions.assertNotNull(match);
+        Assertions.assertEquals("signIn", match.value());
+        Assertions.assertEquals(3, match.length());
+        Assertions.assertEquals("sign", built.longestPrefix("/签名").value());
+        Assertions.assertNull(built.longestPrefix("签到"));
+    }
+}
@@ -0,0 +1,83 @@
+package org.zexnocs.teanekocore.task;
+
+import org.junit.jupiter.api.Test;
+import org.zexnocs.teanekocore.actuator.task.lane.KeyedSerialExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 按 key 有序的执行器测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class KeyedSerialExecutorTest {
+    /**
+     * 同一个 key 的任务应该按照提交顺序执行，并且等待上一个任务返回的 stage 完成。
+     */
+    @Test
+    public void testSameKeyRunsInOrder() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var executor = new KeyedSerialExecutor(pool);
+            var order = Collections.synchronizedList(new ArrayList<Integer>());
+            var running = new AtomicInteger();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int index = i;
+                futures.add(executor.execute("group", () -> {
+                    assertEquals(1, running.incrementAndGet());
+                    // 异步完成的 stage，下一个任务应该等待它完成
+                    return CompletableFuture.runAsync(() -> {
+                        order.add(index);
+                        running.decrementAndGet();
+                    }, pool);
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 200; i++) {
+                assertEquals(i, order.get(i));
+            }
+            assertEquals(0, executor.getActiveKeyCount());
+        }
+    }
+
+    /**
+     * 不同 key 的任务应该可以并行执行，一个 key 阻塞时不影响其他 key。
+     */
+    @Test
+    public void testDifferentKeysRunInParallel() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var executor = new KeyedSerialExecutor(pool);
+            var blocker = new CompletableFuture<Void>();
+            var blocked = executor.execute("a", () -> blocker);
+            executor.execute("b", () -> CompletableFuture.completedFuture(null)).get(5, TimeUnit.SECONDS);
+            assertFalse(blocked.isDone());
+            blocker.complete(null);
+            blocked.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 任务失败时返回的 future 以异常完成，但不影响同一个 key 的后续任务。
+     */
+    @Test
+    public void testFailureDoesNotBreakChain() throws Exception {
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            var executor = new KeyedSerialExecutor(pool);
+            var failed = executor.execute("a", () -> {
+                throw new IllegalStateException("test");
+            });
+            var next = executor.execute("a", () -> CompletableFuture.completedFuture(null));
+            next.get(5, TimeUnit.SECONDS);
+            assertTrue(failed.isCompletedExceptionally());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.zexnocs.teanekocore.task;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.zexnocs.teanekocore.actuator.task.TaskRetryBackoff;
+import org.zexnocs.teanekocore.actuator.task.TaskRetryBudget;
+import org.zexnocs.teanekocore.actuator.task.TaskRetryService;
+import org.zexnocs.teanekocore.actuator.task.TaskRetryStrategy;
+import org.zexnocs.teanekocore.actuator.task.interfaces.ITask;
+import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskConfig;
+import org.zexnocs.teanekocore.actuator.task.interfaces.ITaskExecuteService;
+import org.zexnocs.teanekocore.database.base.DatabaseService;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 重试退避策略和重试预算测试。
+ *
+ * @author zExNocs
+ * @date 2026/10/18
+ */
+public class TaskRetryBackoffTest {
+    private static final Duration BASE = Duration.ofMillis(100);
+    private static final Duration CAP = Duration.ofSeconds(1);
+
+    /**
+     * 指数退避应该每次翻倍，并且不超过上限。
+     */
+    @Test
+    public void testExponentialIsCapped() {
+        Duration previous = null;
+        long[] expected = {100, 200, 400, 800, 1000, 1000};
+        for (int attempt = 1; attempt <= expected.length; attempt++) {
+            previous = TaskRetryBackoff.EXPONENTIAL.nextInterval(BASE, CAP, previous, attempt);
+            assertEquals(expected[attempt - 1], previous.toMillis());
+        }
+    }
+
+    /**
+     * 去相关抖动应该在 [base, 上一次 * 3] 之间，并且不超过上限。
+     */
+    @Test
+    public void testDecorrelatedJitterStaysInRange() {
+        Duration previous = null;
+        for (int attempt = 1; attempt <= 100; attempt++) {
+            long upper = Math.min(CAP.toMillis(), (previous == null ? BASE.toMillis() : previous.toMillis()) * 3);
+            previous = TaskRetryBackoff.DECORRELATED_JITTER.nextInterval(BASE, CAP, previous, attempt);
+            assertTrue(previous.toMillis() >= BASE.toMillis());
+            assertTrue(previous.toMillis() <= upper);
+        }
+    }
+
+    /**
+     * 预算耗尽后应该放弃重试，成功的任务会补充预算。
+     */
+    @Test
+    public void testBudgetShedsWhenExhausted() {
+        var budget = new TaskRetryBudget(true, 0.5, 0, 2);
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        budget.recordSuccess();
+        budget.recordSuccess();
+        assertTrue(budget.tryAcquire());
+        assertEquals(3, budget.getRetriedCount());
+        assertEquals(1, budget.getShedCount());
+    }
+
+    /**
+     * 豁免的命名空间不受预算限制，其他命名空间的预算照常生效。
+     */
+    @Test
+    public void testExemptNamespaceIsNotShed() {
+        var service = new TaskRetryService(Mockito.mock(ITaskExecuteService.class),
+                true, 0, 0, 1, new String[]{DatabaseService.TASK_STAGE_NAMESPACE});
+        var database = _mockTask(DatabaseService.TASK_STAGE_NAMESPACE);
+        var remote = _mockTask("remote_api");
+        var exception = new RuntimeException("失败");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(service.__retryTaskWithException(database, exception));
+        }
+        assertTrue(service.__retryTaskWithException(remote, exception));
+        assertFalse(service.__retryTaskWithException(remote, exception));
+        assertEquals(0, service.getBudgets().get(DatabaseService.TASK_STAGE_NAMESPACE).getShedCount());
+        assertEquals(1, service.getBudgets().get("remote_api").getShedCount());
+    }
+
+    /**
+     * 创建一个总是可以重试的任务。
+     *
+     * @param namespace 任务阶段命名空间
+     * @return 任务
+     */
+    @SuppressWarnings("unchecked")
+    private static ITask<Object> _mockTask(String namespace) {
+        ITaskConfig<Object> config = Mockito.mock(ITaskConfig.class);
+        Mockito.when(config.getTaskStageNamespace()).thenReturn(namespace);
+        Mockito.when(config.getRetryStrategy()).thenReturn(TaskRetryStrategy.ALWAYS_RETRY);
+        Mockito.when(config.getMaxRetries()).thenReturn(100);
+        ITask<Object> task = Mockito.mock(ITask.class);
+        Mockito.when(task.getConfig()).thenReturn(config);
+        Mockito.when(task.switchToRetryState()).thenReturn(true);
+        return task;
+    }
+}